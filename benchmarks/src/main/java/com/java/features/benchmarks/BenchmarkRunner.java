@@ -0,0 +1,68 @@
+package com.java.features.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks uber jar.
+ *
+ * Accepts every regular JMH command line option, but defaults the result
+ * format to JSON so that each run leaves a machine-readable file behind
+ * which can be diffed between releases.
+ *
+ * Example usage:
+ * ```
+ * # Run everything, results go to jmh-result.json
+ * java -jar benchmarks/target/benchmarks.jar
+ *
+ * # Run one suite, results go to a release-specific file
+ * java -jar benchmarks/target/benchmarks.jar Base64Benchmark -rff base64-1.1.json
+ *
+ * # Any explicit -rf wins over the JSON default
+ * java -jar benchmarks/target/benchmarks.jar -rf csv
+ * ```
+ */
+public class BenchmarkRunner {
+
+    /**
+     * File the JSON results are written to when -rff is not given
+     */
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        CommandLineOptions cmd;
+        try {
+            cmd = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Error parsing command line: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        if (cmd.shouldHelp()) {
+            cmd.showHelp();
+            return;
+        }
+        if (cmd.shouldList()) {
+            new Runner(cmd).list();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd);
+        if (!cmd.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmd.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+
+        new Runner(options.build()).run();
+    }
+}
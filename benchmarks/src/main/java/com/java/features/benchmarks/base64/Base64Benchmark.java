@@ -0,0 +1,118 @@
+package com.java.features.benchmarks.base64;
+
+import com.java.features.java8.base64.Base64Examples;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the string, stream and file paths of {@link Base64Examples}.
+ *
+ * File benchmarks read and write real temporary files, so their numbers
+ * include the page cache and file system; the string benchmarks measure
+ * the encoder alone.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar Base64Benchmark -p payloadSize=1048576
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Base64Benchmark {
+
+    @Param({"1024", "1048576"})
+    private int payloadSize;
+
+    private String text;
+    private String encodedText;
+    private byte[] bytes;
+    private Path directory;
+    private Path plainFile;
+    private Path encodedFile;
+    private Path outputFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(payloadSize);
+        for (int i = 0; i < payloadSize; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        text = sb.toString();
+        encodedText = Base64Examples.encodeString(text);
+
+        bytes = new byte[payloadSize];
+        random.nextBytes(bytes);
+        directory = Files.createTempDirectory("base64-bench");
+        plainFile = Files.write(directory.resolve("plain.bin"), bytes);
+        encodedFile = directory.resolve("encoded.txt");
+        outputFile = directory.resolve("out.bin");
+        Base64Examples.encodeFile(plainFile.toString(), encodedFile.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(plainFile);
+        Files.deleteIfExists(encodedFile);
+        Files.deleteIfExists(outputFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public String encodeString() {
+        return Base64Examples.encodeString(text);
+    }
+
+    @Benchmark
+    public String decodeString() {
+        return Base64Examples.decodeString(encodedText);
+    }
+
+    @Benchmark
+    public String encodeUrlSafe() {
+        return Base64Examples.encodeUrlSafe(text);
+    }
+
+    @Benchmark
+    public String encodeMime() {
+        return Base64Examples.encodeMime(text);
+    }
+
+    @Benchmark
+    public void encodeStream() throws IOException {
+        Base64Examples.encodeStream(new ByteArrayInputStream(bytes), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void encodeFile() throws IOException {
+        Base64Examples.encodeFile(plainFile.toString(), outputFile.toString());
+    }
+
+    @Benchmark
+    public void decodeFile() throws IOException {
+        Base64Examples.decodeFile(encodedFile.toString(), outputFile.toString());
+    }
+}
@@ -0,0 +1,105 @@
+package com.java.features.benchmarks.base64;
+
+import com.java.features.java8.base64.Base64Examples;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput and peak heap of {@link Base64Examples#encodeFile} and
+ * {@link Base64Examples#decodeFile} on large files.
+ *
+ * The {@code megabytes} counter is reported in ops/s, which reads as MB/s of
+ * input processed. Peak heap comes from {@link com.java.features.benchmarks.HeapPeakProfiler}, so pass it
+ * with {@code -prof}. The forked JVM runs with a small fixed heap, so a
+ * regression back to whole-file buffering fails with an OutOfMemoryError on
+ * the larger sizes.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar Base64FileBenchmark \
+ *     -prof com.java.features.benchmarks.HeapPeakProfiler -p fileSizeMb=10,1024
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+public class Base64FileBenchmark {
+
+    private static final int MB = 1024 * 1024;
+
+    @Param({"10", "1024", "4096"})
+    private int fileSizeMb;
+
+    private Path directory;
+    private Path plainFile;
+    private Path encodedFile;
+    private Path outputFile;
+
+    /**
+     * Megabytes of input processed, normalized by JMH to MB per second
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long megabytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("base64-file-bench");
+        plainFile = directory.resolve("plain.bin");
+        encodedFile = directory.resolve("encoded.txt");
+        outputFile = directory.resolve("out.bin");
+
+        byte[] block = new byte[MB];
+        new Random(42).nextBytes(block);
+        try (OutputStream os = Files.newOutputStream(plainFile)) {
+            for (int i = 0; i < fileSizeMb; i++) {
+                os.write(block);
+            }
+        }
+        Base64Examples.encodeFile(plainFile.toString(), encodedFile.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(plainFile);
+        Files.deleteIfExists(encodedFile);
+        Files.deleteIfExists(outputFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void encodeFile(Bytes bytes) throws IOException {
+        Base64Examples.encodeFile(plainFile.toString(), outputFile.toString());
+        bytes.megabytes += fileSizeMb;
+    }
+
+    @Benchmark
+    public void decodeFile(Bytes bytes) throws IOException {
+        Base64Examples.decodeFile(encodedFile.toString(), outputFile.toString());
+        bytes.megabytes += fileSizeMb;
+    }
+}
@@ -0,0 +1,102 @@
+package com.java.features.benchmarks.base64;
+
+import com.java.features.java8.base64.ParallelBase64Encoder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link ParallelBase64Encoder} scales with the number of cores.
+ *
+ * The pool size is a parameter, so a run over {@code parallelism=1,2,4,8}
+ * shows the scaling curve directly. The {@code megabytes} counter reads as
+ * MB/s of input encoded. Use {@code lineLength=0} for the basic encoder and
+ * {@code lineLength=76} for MIME.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar ParallelBase64Benchmark -p fileSizeMb=1024
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+public class ParallelBase64Benchmark {
+
+    private static final int MB = 1024 * 1024;
+
+    @Param({"1024", "4096"})
+    private int fileSizeMb;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"0", "76"})
+    private int lineLength;
+
+    private ForkJoinPool pool;
+    private Path directory;
+    private Path plainFile;
+    private Path outputFile;
+
+    /**
+     * Megabytes of input processed, normalized by JMH to MB per second
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long megabytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pool = new ForkJoinPool(parallelism);
+        directory = Files.createTempDirectory("parallel-base64-bench");
+        plainFile = directory.resolve("plain.bin");
+        outputFile = directory.resolve("out.txt");
+
+        byte[] block = new byte[MB];
+        new Random(42).nextBytes(block);
+        try (OutputStream os = Files.newOutputStream(plainFile)) {
+            for (int i = 0; i < fileSizeMb; i++) {
+                os.write(block);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(plainFile);
+        Files.deleteIfExists(outputFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void encode(Bytes bytes) throws IOException {
+        ParallelBase64Encoder.encode(plainFile, outputFile, lineLength, pool);
+        bytes.megabytes += fileSizeMb;
+    }
+}
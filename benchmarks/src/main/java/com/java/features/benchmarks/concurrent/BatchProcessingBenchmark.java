@@ -0,0 +1,93 @@
+package com.java.features.benchmarks.concurrent;
+
+import com.java.features.java8.concurrent.BoundedBatchProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the future-per-input pattern of
+ * {@code ConcurrentExamples.processInParallel(List)} with
+ * {@link BoundedBatchProcessor} on a million cheap tasks.
+ *
+ * Run with the heap profiler to see the memory difference: the
+ * {@code allOf} variant holds every future and result at once, while the
+ * bounded variants stay proportional to {@code maxInFlight}.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar BatchProcessingBenchmark \
+ *     -prof com.java.features.benchmarks.HeapPeakProfiler
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class BatchProcessingBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"256"})
+    private int maxInFlight;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<String> allOf() {
+        List<CompletableFuture<String>> futures = IntStream.range(0, size)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> task(i), executor))
+            .collect(Collectors.toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+            .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()))
+            .join();
+    }
+
+    @Benchmark
+    public BoundedBatchProcessor.Stats boundedOrdered(Blackhole blackhole) throws InterruptedException {
+        return new BoundedBatchProcessor<Integer, String>(executor, BatchProcessingBenchmark::task, maxInFlight, true)
+            .process(IntStream.range(0, size).iterator(), blackhole::consume);
+    }
+
+    @Benchmark
+    public BoundedBatchProcessor.Stats boundedUnordered(Blackhole blackhole) throws InterruptedException {
+        return new BoundedBatchProcessor<Integer, String>(executor, BatchProcessingBenchmark::task, maxInFlight, false)
+            .process(IntStream.range(0, size).iterator(), blackhole::consume);
+    }
+
+    private static String task(int input) {
+        return "Processed: " + input;
+    }
+}
@@ -0,0 +1,86 @@
+package com.java.features.benchmarks.concurrent;
+
+import com.java.features.java8.concurrent.ExecutorStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans out many blocking tasks under each {@link ExecutorStrategy}, the
+ * pattern behind {@code ConcurrentExamples.processInParallel}.
+ *
+ * Each task sleeps for {@code sleepMillis}, so a fixed pool needs about
+ * {@code tasks * sleepMillis / poolSize} milliseconds while virtual threads
+ * need little more than one sleep. The {@code VIRTUAL_THREADS} strategy
+ * needs JDK 21+; on older JDKs its setup fails and JMH moves on to the
+ * remaining parameters.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar BlockingFanOutBenchmark -p poolSize=4,256
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockingFanOutBenchmark {
+
+    @Param({"FIXED_POOL", "VIRTUAL_THREADS"})
+    private ExecutorStrategy strategy;
+
+    @Param({"100000"})
+    private int tasks;
+
+    @Param({"10"})
+    private int sleepMillis;
+
+    @Param({"256"})
+    private int poolSize;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = strategy.create(poolSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int fanOut() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks];
+        for (int i = 0; i < tasks; i++) {
+            futures[i] = CompletableFuture.runAsync(this::blockingCall, executor);
+        }
+        CompletableFuture.allOf(futures).join();
+        return futures.length;
+    }
+
+    private void blockingCall() {
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
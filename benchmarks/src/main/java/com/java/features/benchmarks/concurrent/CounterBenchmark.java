@@ -0,0 +1,107 @@
+package com.java.features.benchmarks.concurrent;
+
+import com.java.features.java8.concurrent.ConcurrentUtilsExample.ConcurrentCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the counters behind VarHandleExample.demonstratePerformance()
+ * and ConcurrentUtilsExample.performanceComparison(): a VarHandle getAndAdd
+ * on a plain field, AtomicInteger, LongAdder and the LongAdder-backed
+ * {@link ConcurrentCounter}.
+ *
+ * Each counter is measured once uncontended (1 thread) and once contended
+ * (4 threads sharing one instance), since LongAdder only pays off under
+ * contention.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar CounterBenchmark
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CounterBenchmark {
+
+    private static final VarHandle COUNT_HANDLE;
+
+    static {
+        try {
+            COUNT_HANDLE = MethodHandles.lookup()
+                .findVarHandle(CounterBenchmark.class, "count", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private int count;
+    private final AtomicInteger atomicInt = new AtomicInteger();
+    private final LongAdder longAdder = new LongAdder();
+    private final ConcurrentCounter concurrentCounter = new ConcurrentCounter();
+
+    @Benchmark
+    @Threads(1)
+    public int varHandle() {
+        return (int) COUNT_HANDLE.getAndAdd(this, 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int atomicInteger() {
+        return atomicInt.getAndIncrement();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void longAdder() {
+        longAdder.increment();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void concurrentCounter() {
+        concurrentCounter.increment();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int varHandleContended() {
+        return (int) COUNT_HANDLE.getAndAdd(this, 1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int atomicIntegerContended() {
+        return atomicInt.getAndIncrement();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void longAdderContended() {
+        longAdder.increment();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void concurrentCounterContended() {
+        concurrentCounter.increment();
+    }
+}
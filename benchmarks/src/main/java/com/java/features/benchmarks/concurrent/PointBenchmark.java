@@ -0,0 +1,126 @@
+package com.java.features.benchmarks.concurrent;
+
+import com.java.features.java8.concurrent.ConcurrentUtilsExample.Point;
+import com.java.features.java8.concurrent.ConcurrentUtilsExample.SnapshotPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compares three thread-safe two-field points under mixed reads and writes:
+ * the StampedLock {@link Point}, a ReentrantReadWriteLock point, and the
+ * lock-free {@link SnapshotPoint}.
+ *
+ * Every thread performs {@code writePercent} moves out of each 100
+ * operations and distance reads otherwise, so {@code writePercent=1} is the
+ * read-heavy 99/1 mix and {@code writePercent=50} the write-heavy 50/50 mix.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar PointBenchmark -t 8
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class PointBenchmark {
+
+    @Param({"STAMPED_LOCK", "READ_WRITE_LOCK", "SNAPSHOT"})
+    private String implementation;
+
+    @Param({"1", "50"})
+    private int writePercent;
+
+    private Point stampedPoint;
+    private ReadWriteLockPoint readWritePoint;
+    private SnapshotPoint snapshotPoint;
+
+    /**
+     * Position of each thread in its cycle of 100 operations
+     */
+    @State(Scope.Thread)
+    public static class Cycle {
+        int operation;
+
+        boolean nextIsWrite(int writePercent) {
+            operation = operation == 99 ? 0 : operation + 1;
+            return operation < writePercent;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        stampedPoint = new Point();
+        readWritePoint = new ReadWriteLockPoint();
+        snapshotPoint = new SnapshotPoint();
+    }
+
+    @Benchmark
+    public double mixed(Cycle cycle) {
+        boolean write = cycle.nextIsWrite(writePercent);
+        switch (implementation) {
+            case "STAMPED_LOCK":
+                if (write) {
+                    stampedPoint.move(1.0, 1.0);
+                    return 0;
+                }
+                return stampedPoint.distanceFromOrigin();
+            case "READ_WRITE_LOCK":
+                if (write) {
+                    readWritePoint.move(1.0, 1.0);
+                    return 0;
+                }
+                return readWritePoint.distanceFromOrigin();
+            default:
+                if (write) {
+                    snapshotPoint.move(1.0, 1.0);
+                    return 0;
+                }
+                return snapshotPoint.distanceFromOrigin();
+        }
+    }
+
+    /**
+     * The classic read/write lock version of Point, as a baseline
+     */
+    static final class ReadWriteLockPoint {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private double x, y;
+
+        void move(double deltaX, double deltaY) {
+            lock.writeLock().lock();
+            try {
+                x += deltaX;
+                y += deltaY;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        double distanceFromOrigin() {
+            lock.readLock().lock();
+            try {
+                return Math.sqrt(x * x + y * y);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.java.features.benchmarks.datetime;
+
+import com.java.features.java8.datetime.BusinessCalendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BusinessCalendar} with the usual day-by-day loop over
+ * {@code plusDays}, {@code getDayOfWeek} and a holiday set, for "N business
+ * days after" and "business days between".
+ *
+ * Each operation uses the next of 4096 random trade dates between 2000 and
+ * 2040, with about 10 holidays a year.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar BusinessCalendarBenchmark -p businessDays=2,250
+ * ```
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+public class BusinessCalendarBenchmark {
+
+    private static final int DATES = 4096;
+
+    @Param({"2", "20", "250"})
+    private int businessDays;
+
+    private final Set<LocalDate> holidays = new HashSet<>();
+    private BusinessCalendar calendar;
+    private LocalDate[] dates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int year = 2000; year <= 2050; year++) {
+            for (int i = 0; i < 10; i++) {
+                holidays.add(LocalDate.of(year, 1, 1).plusDays(random.nextInt(365)));
+            }
+        }
+        calendar = new BusinessCalendar(2000, 2050, holidays);
+        dates = new LocalDate[DATES];
+        for (int i = 0; i < DATES; i++) {
+            dates[i] = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(365 * 40));
+        }
+    }
+
+    private LocalDate nextDate() {
+        next = (next + 1) & (DATES - 1);
+        return dates[next];
+    }
+
+    @Benchmark
+    public LocalDate plusNaive() {
+        LocalDate date = nextDate();
+        for (int remaining = businessDays; remaining > 0; ) {
+            date = date.plusDays(1);
+            if (isBusinessDay(date)) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+
+    @Benchmark
+    public LocalDate plusCalendar() {
+        return calendar.plusBusinessDays(nextDate(), businessDays);
+    }
+
+    @Benchmark
+    public long betweenNaive() {
+        LocalDate start = nextDate();
+        LocalDate end = start.plusDays(businessDays * 7 / 5);
+        long count = 0;
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            if (isBusinessDay(date)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long betweenCalendar() {
+        LocalDate start = nextDate();
+        return calendar.businessDaysBetween(start, start.plusDays(businessDays * 7 / 5));
+    }
+
+    private boolean isBusinessDay(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY && !holidays.contains(date);
+    }
+}
@@ -0,0 +1,125 @@
+package com.java.features.benchmarks.datetime;
+
+import com.java.features.java8.datetime.DateTimeExamples;
+import com.java.features.java8.datetime.IsoTimestampFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares timestamp formatting and parsing paths:
+ * - {@code formatDateTime*}: {@link DateTimeExamples#formatDateTime} with
+ *   the patterns compiled per call (the previous implementation, copied
+ *   here) and with the FormatterRegistry
+ * - {@code iso*}: a log-style timestamp with millisecond precision through
+ *   a shared DateTimeFormatter, and through {@link IsoTimestampFormatter}
+ *   into a reused StringBuilder or byte array
+ * - {@code parse*}: the same timestamps parsed back
+ *
+ * Timestamps advance by 37 microseconds per operation, so consecutive
+ * calls mostly share a second, as in a busy log.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar DateTimeFormatBenchmark -prof gc
+ * ```
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+public class DateTimeFormatBenchmark {
+
+    private static final long STEP_NANOS = 37_000;
+
+    private static final DateTimeFormatter ISO_MILLIS =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+    private final IsoTimestampFormatter fastFormatter = new IsoTimestampFormatter();
+    private final StringBuilder builder = new StringBuilder(64);
+    private final byte[] buffer = new byte[IsoTimestampFormatter.MAX_LENGTH];
+
+    private Instant instant;
+    private LocalDateTime dateTime;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        instant = Instant.parse("2024-01-15T10:30:05.123Z");
+        dateTime = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        text = ISO_MILLIS.format(instant);
+    }
+
+    private Instant nextInstant() {
+        return instant = instant.plusNanos(STEP_NANOS);
+    }
+
+    @Benchmark
+    public String formatDateTimePatternPerCall() {
+        return formatDateTimePatternPerCall(dateTime = dateTime.plusNanos(STEP_NANOS));
+    }
+
+    @Benchmark
+    public String formatDateTimeRegistry() {
+        return DateTimeExamples.formatDateTime(dateTime = dateTime.plusNanos(STEP_NANOS));
+    }
+
+    @Benchmark
+    public String isoDateTimeFormatter() {
+        return ISO_MILLIS.format(nextInstant());
+    }
+
+    @Benchmark
+    public String isoFastString() {
+        return fastFormatter.format(nextInstant());
+    }
+
+    @Benchmark
+    public int isoFastStringBuilder() {
+        builder.setLength(0);
+        return fastFormatter.formatTo(nextInstant(), builder).length();
+    }
+
+    @Benchmark
+    public int isoFastBytes() {
+        return fastFormatter.formatTo(nextInstant(), buffer, 0);
+    }
+
+    @Benchmark
+    public Instant parseDateTimeFormatter() {
+        return ISO_MILLIS.parse(text, Instant::from);
+    }
+
+    @Benchmark
+    public Instant parseFast() {
+        return fastFormatter.parseInstant(text);
+    }
+
+    /**
+     * DateTimeExamples.formatDateTime before the FormatterRegistry
+     */
+    private static String formatDateTimePatternPerCall(LocalDateTime dateTime) {
+        String iso = dateTime.format(DateTimeFormatter.ISO_DATE_TIME);
+        DateTimeFormatter custom = DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy 'at' HH:mm");
+        String formatted = dateTime.format(custom);
+        DateTimeFormatter localized = DateTimeFormatter.ofPattern("dd-MMM-yyyy");
+        String localDate = dateTime.format(localized);
+        return String.format("ISO: %s%nCustom: %s%nLocalized: %s",
+                iso, formatted, localDate);
+    }
+}
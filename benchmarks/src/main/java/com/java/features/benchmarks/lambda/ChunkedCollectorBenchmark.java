@@ -0,0 +1,97 @@
+package com.java.features.benchmarks.lambda;
+
+import com.java.features.java8.lambda.ChunkedListCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares collecting a parallel stream into a list with
+ * {@code Collectors.toList()} and with {@link ChunkedListCollector}:
+ * - {@code toList}: ArrayLists that grow by copying, and copy the right
+ *   half into the left one at every combine
+ * - {@code chunked}: chunk chains linked at every combine, with the
+ *   default first chunk
+ * - {@code chunkedSized}: the same, with the first chunks sized from the
+ *   source spliterator's {@code estimateSize()}
+ * - {@code *Filtered}: the same after a filter keeping half of the
+ *   elements, so the parts are no longer exactly sized
+ *
+ * The source holds references to a small pool of objects, so the cost
+ * measured is storing references rather than creating elements. Run with
+ * {@code -prof gc} for the allocation rate; the copies made by
+ * {@code toList} show up as allocated bytes per operation.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar ChunkedCollectorBenchmark -p size=100000000 -prof gc
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ChunkedCollectorBenchmark {
+
+    private static final int POOL_SIZE = 1024;
+
+    @Param({"1000000", "100000000"})
+    private int size;
+
+    private List<Integer> source;
+
+    @Setup
+    public void setUp() {
+        Integer[] pool = new Integer[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            pool[i] = i;
+        }
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = pool[i & (POOL_SIZE - 1)];
+        }
+        source = Arrays.asList(elements);
+    }
+
+    @Benchmark
+    public List<Integer> toList() {
+        return source.parallelStream().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> chunked() {
+        return source.parallelStream().collect(ChunkedListCollector.toList());
+    }
+
+    @Benchmark
+    public List<Integer> chunkedSized() {
+        return source.parallelStream()
+                .collect(ChunkedListCollector.<Integer>toList().sizedFrom(source.spliterator()));
+    }
+
+    @Benchmark
+    public List<Integer> toListFiltered() {
+        return source.parallelStream().filter(i -> (i & 1) == 0).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> chunkedSizedFiltered() {
+        return source.parallelStream().filter(i -> (i & 1) == 0)
+                .collect(ChunkedListCollector.<Integer>toList().sizedFrom(source.spliterator()));
+    }
+}
@@ -0,0 +1,158 @@
+package com.java.features.benchmarks.lambda;
+
+import com.java.features.java8.streams.Aggregations;
+import com.java.features.java8.streams.GroupingCollectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Compares a product report built from the separate
+ * {@code LambdaExamples.CustomOperations} methods, one stream per
+ * aggregation, with the same report from one {@link Aggregations} pass:
+ * - the cheapest fresh product ({@code reduceWithPredicate})
+ * - the names of fresh products ({@code mapIfValid})
+ * - products grouped by category ({@code groupByWithTransform})
+ * - products partitioned at a price of 10 ({@code partitionWithTransform})
+ * - the number of clearance products
+ *
+ * The {@code separate} benchmarks use the methods as they are (sequential
+ * streams, and the concurrent grouping collector) and with parallel
+ * streams; the {@code singlePass} benchmarks collect sequentially and in
+ * parallel. CustomOperations only uses sequential streams, so its methods
+ * are reproduced here with a switch for parallel ones.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar CustomOperationsBenchmark -p size=10000000
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CustomOperationsBenchmark {
+
+    private static final BigDecimal TEN = BigDecimal.TEN;
+    private static final Predicate<Product> FRESH = p -> p.getExpiryDate().isAfter(Product.TODAY);
+    private static final Predicate<Product> EXPENSIVE = p -> p.getPrice().compareTo(TEN) > 0;
+    private static final Predicate<Product> CLEARANCE = p -> p.getCategory().equals("Clearance");
+    private static final BinaryOperator<Product> CHEAPER = BinaryOperator.minBy(Comparator.comparing(Product::getPrice));
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        products = Arrays.asList(Product.catalog(size, 42));
+    }
+
+    @Benchmark
+    public void separate(Blackhole blackhole) {
+        blackhole.consume(reduceWithPredicate(products, FRESH, CHEAPER, false));
+        blackhole.consume(mapIfValid(products, FRESH, Product::getName, false));
+        blackhole.consume(groupByWithTransform(products, Product::getCategory, UnaryOperator.identity(), false));
+        blackhole.consume(partitionWithTransform(products, EXPENSIVE, UnaryOperator.identity(), false));
+        blackhole.consume(products.stream().filter(CLEARANCE).count());
+    }
+
+    @Benchmark
+    public void separateParallel(Blackhole blackhole) {
+        blackhole.consume(reduceWithPredicate(products, FRESH, CHEAPER, true));
+        blackhole.consume(mapIfValid(products, FRESH, Product::getName, true));
+        blackhole.consume(groupByWithTransform(products, Product::getCategory, UnaryOperator.identity(), true));
+        blackhole.consume(partitionWithTransform(products, EXPENSIVE, UnaryOperator.identity(), true));
+        blackhole.consume(products.parallelStream().filter(CLEARANCE).count());
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        report(blackhole, false);
+    }
+
+    @Benchmark
+    public void singlePassParallel(Blackhole blackhole) {
+        report(blackhole, true);
+    }
+
+    private void report(Blackhole blackhole, boolean parallel) {
+        Aggregations<Product> report = Aggregations.create();
+        Aggregations.Aggregate<Optional<Product>> cheapest = report.reduce(FRESH, CHEAPER);
+        Aggregations.Aggregate<List<String>> names = report.mapIf(FRESH, Product::getName);
+        Aggregations.Aggregate<Map<String, List<Product>>> byCategory =
+                report.groupBy(Product::getCategory, UnaryOperator.identity());
+        Aggregations.Aggregate<Map<Boolean, List<Product>>> byPrice =
+                report.partition(EXPENSIVE, UnaryOperator.identity());
+        Aggregations.Aggregate<Long> clearance = report.count(CLEARANCE);
+
+        Aggregations.Results results = (parallel ? products.parallelStream() : products.stream())
+                .collect(report.toCollector());
+        blackhole.consume(results.get(cheapest));
+        blackhole.consume(results.get(names));
+        blackhole.consume(results.get(byCategory));
+        blackhole.consume(results.get(byPrice));
+        blackhole.consume(results.get(clearance));
+    }
+
+    // The CustomOperations methods, with a switch for parallel streams
+
+    private static <T> Optional<T> reduceWithPredicate(List<T> list, Predicate<T> condition,
+                                                       BinaryOperator<T> reducer, boolean parallel) {
+        return (parallel ? list.parallelStream() : list.stream())
+                .filter(condition)
+                .reduce(reducer);
+    }
+
+    private static <T, R> List<R> mapIfValid(List<T> input, Predicate<T> validator,
+                                             Function<T, R> mapper, boolean parallel) {
+        return (parallel ? input.parallelStream() : input.stream())
+                .filter(validator)
+                .map(mapper)
+                .collect(Collectors.toList());
+    }
+
+    private static <T, K> Map<K, List<T>> groupByWithTransform(List<T> items, Function<T, K> keyExtractor,
+                                                              UnaryOperator<T> transformer, boolean parallel) {
+        if (parallel) {
+            return items.parallelStream()
+                    .map(transformer)
+                    .collect(GroupingCollectors.groupingByConcurrent(keyExtractor));
+        }
+        return items.stream()
+                .map(transformer)
+                .collect(Collectors.groupingBy(keyExtractor));
+    }
+
+    private static <T> Map<Boolean, List<T>> partitionWithTransform(List<T> items, Predicate<T> predicate,
+                                                                   UnaryOperator<T> transformer, boolean parallel) {
+        return (parallel ? items.parallelStream() : items.stream())
+                .map(transformer)
+                .collect(Collectors.partitioningBy(predicate));
+    }
+}
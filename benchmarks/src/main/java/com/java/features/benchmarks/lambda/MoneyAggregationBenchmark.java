@@ -0,0 +1,101 @@
+package com.java.features.benchmarks.lambda;
+
+import com.java.features.java8.lambda.Money;
+import com.java.features.java8.lambda.MoneyCollectors;
+import com.java.features.java8.lambda.MoneySummaryStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares aggregating product prices as BigDecimal, as
+ * {@code LambdaExamples.demonstrateLambdaOperations} did, with
+ * {@link Money} and {@link MoneyCollectors}:
+ * - {@code sum*}: the total price
+ * - {@code average*}: the average price, rounded half-even to cents
+ * - {@code byCategory*}: per category, the total with
+ *   {@code groupingBy}/{@code reducing}, and count, total, minimum and
+ *   maximum with {@code summarizingBy}
+ *
+ * Every operation aggregates all products once, so at the default size of
+ * 50M one op/s is 50M price aggregations per second. Run with
+ * {@code -prof gc} for the allocation rate: the BigDecimal paths allocate
+ * a BigDecimal per addition, the Money paths a few objects per call.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar MoneyAggregationBenchmark -prof gc
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class MoneyAggregationBenchmark {
+
+    @Param({"50000000"})
+    private int size;
+
+    private Product[] products;
+
+    @Setup
+    public void setUp() {
+        products = Product.catalog(size, 42);
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        return Arrays.stream(products)
+                .map(Product::getPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public Money sumMoney() {
+        return Arrays.stream(products)
+                .collect(MoneyCollectors.summing(Product.CURRENCY, Product::getPriceAsMoney));
+    }
+
+    @Benchmark
+    public BigDecimal averageBigDecimal() {
+        BigDecimal sum = sumBigDecimal();
+        return sum.divide(BigDecimal.valueOf(products.length), 2, RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public Optional<Money> averageMoney() {
+        return Arrays.stream(products)
+                .collect(MoneyCollectors.averaging(Product.CURRENCY, Product::getPriceAsMoney, RoundingMode.HALF_EVEN));
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> byCategoryBigDecimal() {
+        return Arrays.stream(products)
+                .collect(Collectors.groupingBy(Product::getCategory,
+                        Collectors.reducing(BigDecimal.ZERO, Product::getPrice, BigDecimal::add)));
+    }
+
+    @Benchmark
+    public Map<String, MoneySummaryStatistics> byCategoryMoney() {
+        return Arrays.stream(products)
+                .collect(MoneyCollectors.summarizingBy(Product::getCategory, Product.CURRENCY, Product::getPriceAsMoney));
+    }
+}
@@ -0,0 +1,86 @@
+package com.java.features.benchmarks.lambda;
+
+import com.java.features.java8.lambda.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.Random;
+
+/**
+ * LambdaExamples.Product, which is package-private. The price is kept both
+ * as a BigDecimal and as Money, to compare the two.
+ */
+final class Product {
+
+    static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+    static final Currency CURRENCY = Currency.getInstance("USD");
+
+    private static final String[] CATEGORIES =
+            {"Fruit", "Dairy", "Bakery", "Frozen", "Household", "Garden", "Toys", "Clearance"};
+
+    private final String name;
+    private final BigDecimal price;
+    private final Money priceAsMoney;
+    private final String category;
+    private final LocalDate expiryDate;
+
+    Product(String name, BigDecimal price, Money priceAsMoney, String category, LocalDate expiryDate) {
+        this.name = name;
+        this.price = price;
+        this.priceAsMoney = priceAsMoney;
+        this.category = category;
+        this.expiryDate = expiryDate;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    BigDecimal getPrice() {
+        return price;
+    }
+
+    Money getPriceAsMoney() {
+        return priceAsMoney;
+    }
+
+    String getCategory() {
+        return category;
+    }
+
+    LocalDate getExpiryDate() {
+        return expiryDate;
+    }
+
+    /**
+     * Random products drawing their field values from small pools, so that
+     * tens of millions of them fit in a few hundred MB
+     */
+    static Product[] catalog(int size, long seed) {
+        Random random = new Random(seed);
+        String[] names = new String[1000];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = (i % 10 == 0 ? "item " : "Item ") + i;
+        }
+        BigDecimal[] prices = new BigDecimal[500];
+        Money[] moneys = new Money[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = BigDecimal.valueOf(i - 5, 1);
+            moneys[i] = Money.of(prices[i], CURRENCY);
+        }
+        LocalDate[] expiryDates = new LocalDate[400];
+        for (int i = 0; i < expiryDates.length; i++) {
+            expiryDates[i] = TODAY.plusDays(i - 20);
+        }
+        Product[] products = new Product[size];
+        for (int i = 0; i < size; i++) {
+            int price = random.nextInt(prices.length);
+            products[i] = new Product(names[random.nextInt(names.length)],
+                    prices[price], moneys[price],
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    expiryDates[random.nextInt(expiryDates.length)]);
+        }
+        return products;
+    }
+}
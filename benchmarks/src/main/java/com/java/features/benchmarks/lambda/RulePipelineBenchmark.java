@@ -0,0 +1,171 @@
+package com.java.features.benchmarks.lambda;
+
+import com.java.features.java8.lambda.RulePipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares ten product rules and three transformation steps composed with
+ * default {@code and}/{@code andThen} methods, as {@code Validator} and
+ * {@code Transformer} in LambdaExamples do, with the same rules and steps
+ * in a {@link RulePipeline}:
+ * - {@code nested}: the composition in declaration order, where an
+ *   expensive regular expression comes before the selective checks
+ * - {@code nestedHandOrdered}: the composition with the rules ordered by
+ *   hand, cheapest and most selective first
+ * - {@code pipeline}: the flat plan, which learns that order while warming up
+ * - {@code pipelineParallel}: the flat plan from a parallel stream
+ *
+ * LambdaExamples keeps Validator, Transformer and Product package-private,
+ * so the two types are reproduced here, and Product in this package.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar RulePipelineBenchmark -p size=10000000
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RulePipelineBenchmark {
+
+    private static final LocalDate TODAY = Product.TODAY;
+    private static final Pattern NAME = Pattern.compile("[A-Z][a-z]+ \\d{1,3}");
+    private static final Set<String> CATEGORIES = new HashSet<>(Arrays.asList("Fruit", "Dairy", "Bakery", "Frozen"));
+    private static final BigDecimal MAX_PRICE = new BigDecimal("50.00");
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private Product[] products;
+    private Validator<Product> nested;
+    private Validator<Product> nestedHandOrdered;
+    private Transformer<Product, Integer> transformer;
+    private RulePipeline<Product, Integer> pipeline;
+
+    @Setup
+    public void setUp() {
+        products = Product.catalog(size, 42);
+
+        Validator<Product> positivePrice = p -> p.getPrice().signum() > 0;
+        Validator<Product> nameFormat = p -> NAME.matcher(p.getName()).matches();
+        Validator<Product> notExpired = p -> p.getExpiryDate().isAfter(TODAY);
+        Validator<Product> priceCap = p -> p.getPrice().compareTo(MAX_PRICE) <= 0;
+        Validator<Product> shortName = p -> p.getName().length() <= 20;
+        Validator<Product> freshEnough = p -> p.getExpiryDate().isBefore(TODAY.plusYears(1));
+        Validator<Product> namedCategory = p -> !p.getCategory().isEmpty();
+        Validator<Product> notClearance = p -> !p.getCategory().equals("Clearance");
+        Validator<Product> cents = p -> p.getPrice().scale() <= 2;
+        Validator<Product> grocery = p -> CATEGORIES.contains(p.getCategory());
+
+        nested = positivePrice.and(nameFormat).and(notExpired).and(priceCap).and(shortName)
+                .and(freshEnough).and(namedCategory).and(notClearance).and(cents).and(grocery);
+        nestedHandOrdered = priceCap.and(grocery).and(notExpired).and(notClearance).and(positivePrice)
+                .and(shortName).and(freshEnough).and(namedCategory).and(cents).and(nameFormat);
+
+        Transformer<Product, String> name = Product::getName;
+        Transformer<String, String> trimmed = String::trim;
+        Transformer<String, Integer> length = String::length;
+        transformer = name.andThen(trimmed).andThen(length);
+
+        pipeline = RulePipeline.<Product>create()
+                .rule("positive price", positivePrice::validate)
+                .rule("name format", nameFormat::validate)
+                .rule("not expired", notExpired::validate)
+                .rule("price cap", priceCap::validate)
+                .rule("short name", shortName::validate)
+                .rule("fresh enough", freshEnough::validate)
+                .rule("named category", namedCategory::validate)
+                .rule("not clearance", notClearance::validate)
+                .rule("cents", cents::validate)
+                .rule("grocery", grocery::validate)
+                .transform(name::transform)
+                .transform(trimmed::transform)
+                .transform(length::transform);
+    }
+
+    @Benchmark
+    public long nested() {
+        long sum = 0;
+        for (Product product : products) {
+            if (nested.validate(product)) {
+                sum += transformer.transform(product);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long nestedHandOrdered() {
+        long sum = 0;
+        for (Product product : products) {
+            if (nestedHandOrdered.validate(product)) {
+                sum += transformer.transform(product);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long pipeline() {
+        long sum = 0;
+        for (Product product : products) {
+            if (pipeline.test(product)) {
+                sum += pipeline.transform(product);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long pipelineParallel() {
+        return Arrays.stream(products).parallel()
+                .filter(pipeline)
+                .mapToLong(pipeline::transform)
+                .sum();
+    }
+
+    /**
+     * LambdaExamples.Validator
+     */
+    @FunctionalInterface
+    interface Validator<T> {
+        boolean validate(T t);
+
+        default Validator<T> and(Validator<T> other) {
+            return t -> validate(t) && other.validate(t);
+        }
+    }
+
+    /**
+     * LambdaExamples.Transformer
+     */
+    @FunctionalInterface
+    interface Transformer<T, R> {
+        R transform(T t);
+
+        default <V> Transformer<T, V> andThen(Transformer<R, V> after) {
+            return t -> after.transform(transform(t));
+        }
+    }
+}
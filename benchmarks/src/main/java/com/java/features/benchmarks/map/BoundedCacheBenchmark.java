@@ -0,0 +1,151 @@
+package com.java.features.benchmarks.map;
+
+import com.java.features.java8.map.BoundedCache;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BoundedCache} with an unbounded ConcurrentHashMap
+ * ({@code computeIfAbsent}, the MapExamples idiom) and a synchronized
+ * access-ordered LinkedHashMap, the usual bounded LRU, under Zipfian key
+ * distributions with 4 threads.
+ *
+ * Keys are drawn from {@code keySpace} keys with popularity proportional to
+ * {@code 1 / rank^skew}; the caches hold {@code cacheSize} entries. The
+ * {@code loads} counter is reported in the same unit as the score, so the
+ * hit rate is {@code 1 - loads / score}. The unbounded map shows the throughput ceiling
+ * and the memory a cache without eviction ends up holding.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar BoundedCacheBenchmark -p skew=0.99 -t 8
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Threads(4)
+public class BoundedCacheBenchmark {
+
+    private static final int SAMPLES = 1 << 20;
+
+    @Param({"0.8", "0.99", "1.2"})
+    private double skew;
+
+    @Param({"1000000"})
+    private int keySpace;
+
+    @Param({"10000"})
+    private int cacheSize;
+
+    private Integer[] keys;
+    private BoundedCache<Integer, Long> boundedCache;
+    private Map<Integer, Long> unboundedMap;
+    private Map<Integer, Long> linkedHashMapLru;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = zipfSamples(keySpace, skew, SAMPLES, new Random(42));
+        boundedCache = new BoundedCache<>(cacheSize);
+        unboundedMap = new ConcurrentHashMap<>();
+        int capacity = cacheSize;
+        linkedHashMapLru = Collections.synchronizedMap(new LinkedHashMap<Integer, Long>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Long> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    /**
+     * Per-thread position in the sample array and miss count.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Cursor {
+        private int next;
+        public long loads;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            next = ThreadLocalRandom.current().nextInt(SAMPLES);
+            loads = 0;
+        }
+
+        Integer nextKey(Integer[] keys) {
+            next = (next + 1) & (SAMPLES - 1);
+            return keys[next];
+        }
+
+        Long load(Integer key) {
+            loads++;
+            return key * 0x9E3779B97F4A7C15L;
+        }
+    }
+
+    @Benchmark
+    public Long boundedCache(Cursor cursor) {
+        return boundedCache.get(cursor.nextKey(keys), cursor::load);
+    }
+
+    @Benchmark
+    public Long concurrentHashMapUnbounded(Cursor cursor) {
+        return unboundedMap.computeIfAbsent(cursor.nextKey(keys), cursor::load);
+    }
+
+    @Benchmark
+    public Long linkedHashMapLru(Cursor cursor) {
+        Integer key = cursor.nextKey(keys);
+        Long value = linkedHashMapLru.get(key);
+        if (value == null) {
+            value = cursor.load(key);
+            linkedHashMapLru.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Draws keys 0 to n-1 with probability proportional to 1 / (rank + 1)^skew,
+     * by binary search in the cumulative distribution, then scatters the ranks
+     * so popular keys do not share hash buckets.
+     */
+    static Integer[] zipfSamples(int n, double skew, int samples, Random random) {
+        double[] cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+        Integer[] result = new Integer[samples];
+        for (int i = 0; i < samples; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            rank = rank >= 0 ? rank : Math.min(-rank - 1, n - 1);
+            result[i] = rank * 0x9E3779B9;
+        }
+        return result;
+    }
+}
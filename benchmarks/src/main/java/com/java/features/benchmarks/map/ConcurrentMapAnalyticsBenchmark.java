@@ -0,0 +1,125 @@
+package com.java.features.benchmarks.map;
+
+import com.java.features.java8.map.ConcurrentMapAnalytics;
+import com.java.features.java8.streams.AdaptiveExecution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares single-threaded iteration over a ConcurrentHashMap with the
+ * parallel bulk operations behind {@link ConcurrentMapAnalytics}.
+ *
+ * The {@code Iteration} benchmarks loop over {@code values()} on the
+ * calling thread. The {@code Analytics} benchmarks use the automatic
+ * threshold, and {@code Forked} forces a threshold of 1, as in the old
+ * MapExamples code, to show the cost of over-splitting.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar ConcurrentMapAnalyticsBenchmark -p size=10000000
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentMapAnalyticsBenchmark {
+
+    private static final long[] BOUNDS = {1_000, 10_000, 100_000, 1_000_000};
+
+    @Param({"1000", "10000000"})
+    private int size;
+
+    private ConcurrentHashMap<Integer, Long> map;
+    private ConcurrentMapAnalytics<Integer, Long> analytics;
+    private ConcurrentMapAnalytics<Integer, Long> forked;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        map = new ConcurrentHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            map.put(i, (long) random.nextInt(10_000_000));
+        }
+        analytics = ConcurrentMapAnalytics.of(map);
+        forked = analytics.withAdaptiveExecution(AdaptiveExecution.getDefault().withThreshold(0));
+    }
+
+    @Benchmark
+    public long sumIteration() {
+        long sum = 0;
+        for (Long value : map.values()) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumAnalytics() {
+        return analytics.sum();
+    }
+
+    @Benchmark
+    public long sumForked() {
+        return map.reduceValuesToLong(1, Long::longValue, 0L, Long::sum);
+    }
+
+    @Benchmark
+    public long maxIteration() {
+        long max = Long.MIN_VALUE;
+        for (Long value : map.values()) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    @Benchmark
+    public long maxAnalytics() {
+        return analytics.max().getAsLong();
+    }
+
+    @Benchmark
+    public long[] histogramIteration() {
+        long[] counts = new long[BOUNDS.length + 1];
+        for (Long value : map.values()) {
+            int bucket = 0;
+            while (bucket < BOUNDS.length && value >= BOUNDS[bucket]) {
+                bucket++;
+            }
+            counts[bucket]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public long[] histogramAnalytics() {
+        return analytics.histogram(BOUNDS);
+    }
+
+    @Benchmark
+    public long[] histogramForked() {
+        return forked.histogram(BOUNDS);
+    }
+
+    @Benchmark
+    public List<Map.Entry<Integer, Long>> topNAnalytics() {
+        return analytics.topN(10);
+    }
+}
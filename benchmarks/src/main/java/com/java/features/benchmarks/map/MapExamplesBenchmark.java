@@ -0,0 +1,120 @@
+package com.java.features.benchmarks.map;
+
+import com.java.features.java8.map.MapExamples;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Map idioms shown in {@link MapExamples}.
+ *
+ * The counting benchmarks run a whole word stream through a fresh map per
+ * invocation, comparing the old get/put idiom with compute and merge.
+ * The lookup benchmarks hit a pre-populated map with a mix of present and
+ * absent keys.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar MapExamplesBenchmark
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapExamplesBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private String[] words;
+    private Map<String, Integer> populated;
+    private ConcurrentHashMap<String, Integer> concurrent;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        words = new String[size];
+        for (int i = 0; i < size; i++) {
+            // Zipf-ish vocabulary: most words repeat, a few are rare
+            words[i] = "w" + (int) Math.abs(random.nextGaussian() * size / 20);
+        }
+        populated = new HashMap<>();
+        concurrent = new ConcurrentHashMap<>();
+        for (int i = 0; i < size; i += 2) {
+            populated.put(words[i], i);
+            concurrent.put(words[i], i);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Integer> countWithGetPut() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            Integer current = counts.get(word);
+            counts.put(word, current == null ? 1 : current + 1);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public Map<String, Integer> countWithCompute() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            MapExamples.demonstrateCompute(counts, word);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public Map<String, Integer> countWithMerge() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public Map<String, Integer> computeIfAbsent() {
+        Map<String, Integer> lengths = new HashMap<>();
+        for (String word : words) {
+            MapExamples.demonstrateComputeIfAbsent(lengths, word);
+        }
+        return lengths;
+    }
+
+    @Benchmark
+    public void getOrDefault(Blackhole bh) {
+        for (String word : words) {
+            bh.consume(populated.getOrDefault(word, 0));
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentReduce() {
+        return concurrent.reduce(1, (key, value) -> value, Integer::sum);
+    }
+
+    @Benchmark
+    public Integer concurrentReduceSequential() {
+        return concurrent.reduce(Long.MAX_VALUE, (key, value) -> value, Integer::sum);
+    }
+}
@@ -0,0 +1,204 @@
+package com.java.features.benchmarks.map;
+
+import com.java.features.java8.map.IntObjectMap;
+import com.java.features.java8.map.ObjectIntMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares {@link ObjectIntMap} and {@link IntObjectMap} with the equivalent
+ * boxed {@code HashMap} on lookups and updates.
+ *
+ * Every invocation runs 1M operations on keys picked at random from a map
+ * of {@code size} entries, so scores read as operations per second. The
+ * footprint of each map (heap used after a GC, with and without the map)
+ * is printed during setup; keys are shared, so the numbers exclude the
+ * key Strings themselves. The 50M entry case keeps four such maps alive,
+ * hence the large heap.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar PrimitiveMapBenchmark -p size=1000000
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g"})
+public class PrimitiveMapBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+
+    @Param({"1000000", "50000000"})
+    private int size;
+
+    private String[] keys;
+    private int[] probes;
+
+    private Map<String, Integer> stringToInteger;
+    private ObjectIntMap<String> objectIntMap;
+    private Map<Integer, String> integerToString;
+    private IntObjectMap<String> intObjectMap;
+
+    @Setup
+    public void setUp() {
+        keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "key" + i;
+        }
+        Random random = new Random(42);
+        probes = random.ints(OPERATIONS, 0, size).toArray();
+
+        stringToInteger = measure("HashMap<String, Integer>", () -> {
+            Map<String, Integer> map = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(keys[i], i);
+            }
+            return map;
+        });
+        objectIntMap = measure("ObjectIntMap<String>", () -> {
+            ObjectIntMap<String> map = new ObjectIntMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(keys[i], i);
+            }
+            return map;
+        });
+        integerToString = measure("HashMap<Integer, String>", () -> {
+            Map<Integer, String> map = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(i, keys[i]);
+            }
+            return map;
+        });
+        intObjectMap = measure("IntObjectMap<String>", () -> {
+            IntObjectMap<String> map = new IntObjectMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(i, keys[i]);
+            }
+            return map;
+        });
+    }
+
+    private static <M> M measure(String name, Supplier<M> builder) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        M map = builder.get();
+        System.gc();
+        long after = memory.getHeapMemoryUsage().getUsed();
+        System.out.printf("%n%s footprint: %.1f MB%n", name, (after - before) / (1024.0 * 1024.0));
+        return map;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public long getOrDefaultHashMap() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += stringToInteger.getOrDefault(keys[probe], 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public long getOrDefaultObjectIntMap() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += objectIntMap.getOrDefault(keys[probe], 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void mergeHashMap() {
+        for (int probe : probes) {
+            stringToInteger.merge(keys[probe], 1, Integer::sum);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void mergeObjectIntMap() {
+        for (int probe : probes) {
+            objectIntMap.merge(keys[probe], 1, Integer::sum);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void computeHashMap() {
+        for (int probe : probes) {
+            stringToInteger.compute(keys[probe], (key, value) -> value == null ? 1 : value + 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void computeObjectIntMap() {
+        for (int probe : probes) {
+            objectIntMap.compute(keys[probe], (key, value) -> value + 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public long getIntKeyHashMap() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += integerToString.get(probe).length();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public long getIntObjectMap() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += intObjectMap.get(probe).length();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int computeIfAbsentIntKeyHashMap() {
+        int created = 0;
+        for (int probe : probes) {
+            created += integerToString.computeIfAbsent(probe + size, key -> "new").length();
+        }
+        return created;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int computeIfAbsentIntObjectMap() {
+        int created = 0;
+        for (int probe : probes) {
+            created += intObjectMap.computeIfAbsent(probe + size, key -> "new").length();
+        }
+        return created;
+    }
+}
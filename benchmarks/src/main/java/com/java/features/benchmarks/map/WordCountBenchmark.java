@@ -0,0 +1,127 @@
+package com.java.features.benchmarks.map;
+
+import com.java.features.java8.map.WordCountEngine;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link WordCountEngine} with reading lines and counting words in
+ * a {@code HashMap<String, Integer>} with {@code merge}.
+ *
+ * The generated file has log-like lines over a Zipf-ish vocabulary of
+ * about 100,000 words. The {@code megabytes} counter reads as MB/s of
+ * input counted. The pool size is a parameter, so a run over
+ * {@code parallelism=1,2,4,8} shows the scaling curve.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar WordCountBenchmark -p fileSizeMb=1024
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class WordCountBenchmark {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{Alnum}]+");
+
+    @Param({"256", "2048"})
+    private int fileSizeMb;
+
+    @Param({"1", "4", "8"})
+    private int parallelism;
+
+    private ForkJoinPool pool;
+    private Path file;
+
+    /**
+     * Megabytes of input processed, normalized by JMH to MB per second
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long megabytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pool = new ForkJoinPool(parallelism);
+        file = Files.createTempFile("word-count-bench", ".log");
+        Random random = new Random(42);
+        long target = (long) fileSizeMb * 1024 * 1024;
+        long written = 0;
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            StringBuilder line = new StringBuilder();
+            while (written < target) {
+                line.setLength(0);
+                line.append("2024-01-01T00:00:00 INFO");
+                int words = 4 + random.nextInt(12);
+                for (int i = 0; i < words; i++) {
+                    line.append(' ').append("term").append((int) (100_000 * Math.pow(random.nextDouble(), 4)));
+                }
+                line.append('\n');
+                writer.append(line);
+                written += line.length();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Map<String, Integer> hashMapMerge(Bytes bytes) throws IOException {
+        Map<String, Integer> counts = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                for (String word : NON_WORD.split(line)) {
+                    if (!word.isEmpty()) {
+                        counts.merge(word.toLowerCase(Locale.ROOT), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        bytes.megabytes += fileSizeMb;
+        return counts;
+    }
+
+    @Benchmark
+    public WordCountEngine.Result engine(Bytes bytes) throws IOException {
+        WordCountEngine.Result result = new WordCountEngine(pool).count(file);
+        bytes.megabytes += fileSizeMb;
+        return result;
+    }
+}
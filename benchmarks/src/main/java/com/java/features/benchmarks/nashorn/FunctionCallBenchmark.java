@@ -0,0 +1,96 @@
+package com.java.features.benchmarks.nashorn;
+
+import com.java.features.java8.nashorn.NashornExample;
+import com.java.features.java8.nashorn.ScriptFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.script.ScriptException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calling a JavaScript rule once per input through
+ * {@link NashornExample#callJavaScriptFunction(String, Object...)} with
+ * applying a resolved {@link ScriptFunction} to the whole batch.
+ *
+ * Scores are calls per second; each invocation processes {@value #BATCH}
+ * argument pairs.
+ *
+ * Nashorn is only bundled with JDK 8 to 14, so run this suite on one of
+ * those JDKs.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar FunctionCallBenchmark
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dnashorn.args=--no-deprecation-warning"})
+@SuppressWarnings("deprecation")
+public class FunctionCallBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    private NashornExample example;
+    private ScriptFunction discount;
+    private Object[][] orders;
+    private Object[] totals;
+    private Object[] quantities;
+    private Object[] results;
+
+    @Setup
+    public void setUp() throws ScriptException, NoSuchMethodException {
+        example = new NashornExample();
+        example.executeJavaScript(
+                "function discount(total, quantity) { return quantity >= 10 ? total * 0.9 : total; }");
+        discount = example.resolveFunction("discount");
+
+        Random random = new Random(42);
+        orders = new Object[BATCH][];
+        totals = new Object[BATCH];
+        quantities = new Object[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            totals[i] = random.nextDouble() * 1_000;
+            quantities[i] = random.nextInt(20);
+            orders[i] = new Object[] {totals[i], quantities[i]};
+        }
+        results = new Object[BATCH];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object[] callJavaScriptFunction() throws ScriptException, NoSuchMethodException {
+        for (int i = 0; i < BATCH; i++) {
+            results[i] = example.callJavaScriptFunction("discount", totals[i], quantities[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object[] applyBatchTuples() {
+        discount.applyBatch(orders, results);
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object[] applyBatchColumns() {
+        discount.applyBatch(totals, quantities, results);
+        return results;
+    }
+}
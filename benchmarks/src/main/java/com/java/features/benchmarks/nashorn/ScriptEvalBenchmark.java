@@ -0,0 +1,99 @@
+package com.java.features.benchmarks.nashorn;
+
+import com.java.features.java8.nashorn.CompiledScriptCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures evaluations per second of the same script through
+ * {@code ScriptEngine.eval(String)}, which parses and compiles on every
+ * call, and through {@link CompiledScriptCache}, which compiles once.
+ *
+ * {@code pooled} evaluates with variables in pooled contexts from 4
+ * threads; the uncached engine cannot be measured that way because its
+ * default context is not safe for concurrent use.
+ *
+ * Nashorn is only bundled with JDK 8 to 14, so run this suite on one of
+ * those JDKs.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar ScriptEvalBenchmark -p script=rule
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dnashorn.args=--no-deprecation-warning"})
+public class ScriptEvalBenchmark {
+
+    private static final Map<String, String> SCRIPTS = new HashMap<>();
+
+    static {
+        SCRIPTS.put("expression", "price * quantity");
+        SCRIPTS.put("rule",
+                "var discount = 0;\n"
+                + "if (quantity >= 10) { discount = 0.1; }\n"
+                + "else if (quantity >= 5) { discount = 0.05; }\n"
+                + "var total = price * quantity * (1 - discount);\n"
+                + "total > 100 ? Math.round(total * 100) / 100 : total;");
+    }
+
+    @Param({"expression", "rule"})
+    private String script;
+
+    private String source;
+    private ScriptEngine engine;
+    private CompiledScriptCache cache;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        engine = new ScriptEngineManager().getEngineByName("nashorn");
+        if (engine == null) {
+            throw new IllegalStateException("Nashorn is not available; run on JDK 8 to 14");
+        }
+        cache = new CompiledScriptCache(engine);
+        source = SCRIPTS.get(script);
+        variables = new HashMap<>();
+        variables.put("price", 9.5);
+        variables.put("quantity", 12);
+        engine.put("price", 9.5);
+        engine.put("quantity", 12);
+    }
+
+    @Benchmark
+    public Object uncached() throws ScriptException {
+        return engine.eval(source);
+    }
+
+    @Benchmark
+    public Object cached() throws ScriptException {
+        return cache.eval(source);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object pooled() throws ScriptException {
+        return cache.eval(source, variables);
+    }
+}
@@ -0,0 +1,73 @@
+package com.java.features.benchmarks.stackwalker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Replaces the single-shot timing in StackWalkerExample.demonstratePerformanceComparison()
+ * with a proper comparison of StackWalker and Thread.getStackTrace().
+ *
+ * Each operation runs at the bottom of a synthetic call chain of
+ * {@code depth} frames, because the cost of getStackTrace() grows with the
+ * full stack while a lazy walk only pays for the frames it visits.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar StackWalkerBenchmark -p depth=200
+ * ```
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackWalkerBenchmark {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    @Param({"10", "100"})
+    private int depth;
+
+    @Benchmark
+    public int getStackTraceFull() {
+        return atDepth(depth, () -> Thread.currentThread().getStackTrace().length);
+    }
+
+    @Benchmark
+    public long stackWalkerCount() {
+        return atDepth(depth, () -> WALKER.walk(frames -> frames.count()));
+    }
+
+    @Benchmark
+    public String getStackTraceCaller() {
+        return atDepth(depth, () -> Thread.currentThread().getStackTrace()[2].getMethodName());
+    }
+
+    @Benchmark
+    public String stackWalkerCaller() {
+        return atDepth(depth, () -> WALKER.walk(frames ->
+            frames.skip(1)
+                  .findFirst()
+                  .map(StackWalker.StackFrame::getMethodName)
+                  .orElse("unknown")));
+    }
+
+    private static <T> T atDepth(int remaining, Supplier<T> action) {
+        if (remaining <= 0) {
+            return action.get();
+        }
+        return atDepth(remaining - 1, action);
+    }
+}
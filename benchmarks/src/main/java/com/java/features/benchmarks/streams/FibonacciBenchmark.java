@@ -0,0 +1,60 @@
+package com.java.features.benchmarks.streams;
+
+import com.java.features.java8.streams.FibonacciSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the {@code long[]}-per-step {@code Stream.iterate} Fibonacci
+ * generator with {@link FibonacciSequence}, sequentially and in parallel.
+ *
+ * Each benchmark sums the first {@code count} values, so only the
+ * generator itself allocates. Run with {@code -prof gc} to see
+ * {@code gc.alloc.rate.norm} drop from about {@code 32 * count} bytes to a
+ * constant.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar FibonacciBenchmark -prof gc
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FibonacciBenchmark {
+
+    @Param({"90", "100000", "10000000"})
+    private int count;
+
+    @Benchmark
+    public long iterateWithArrays() {
+        return Stream.iterate(new long[]{0, 1}, f -> new long[]{f[1], f[0] + f[1]})
+            .limit(count)
+            .mapToLong(f -> f[0])
+            .sum();
+    }
+
+    @Benchmark
+    public long spliterator() {
+        return FibonacciSequence.stream(count).sum();
+    }
+
+    @Benchmark
+    public long spliteratorParallel() {
+        return FibonacciSequence.stream(count).parallel().sum();
+    }
+}
@@ -0,0 +1,101 @@
+package com.java.features.benchmarks.streams;
+
+import com.java.features.java8.streams.GroupingCollectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares parallel grouping with {@code Collectors.groupingBy},
+ * {@code Collectors.groupingByConcurrent} and {@link GroupingCollectors}.
+ *
+ * The {@code byLength} benchmarks group by {@code String::length}, a handful
+ * of small int keys, where the dense mode of
+ * {@link GroupingCollectors#groupingByInt} applies. The {@code byPrefix}
+ * benchmarks group by the first two characters, about 1,300 keys, to show
+ * the striped ConcurrentHashMap groups with many keys.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar GroupingBenchmark -p size=10000000
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GroupingBenchmark {
+
+    private static final int PREFIX_KEYS = 36 * 36;
+
+    @Param({"100000", "10000000"})
+    private int size;
+
+    private List<String> words;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        words = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            words.add(Long.toString(random.nextLong() >>> random.nextInt(64), 36));
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, List<String>> byLengthGroupingBy() {
+        return words.parallelStream().collect(Collectors.groupingBy(String::length));
+    }
+
+    @Benchmark
+    public Map<Integer, List<String>> byLengthGroupingByConcurrent() {
+        return words.parallelStream().collect(Collectors.groupingByConcurrent(String::length));
+    }
+
+    @Benchmark
+    public Map<Integer, List<String>> byLengthStriped() {
+        return words.parallelStream().collect(GroupingCollectors.groupingByConcurrent(String::length, 16));
+    }
+
+    @Benchmark
+    public Map<Integer, List<String>> byLengthDense() {
+        return words.parallelStream().collect(GroupingCollectors.groupingByInt(String::length, 64));
+    }
+
+    @Benchmark
+    public Map<String, List<String>> byPrefixGroupingBy() {
+        return words.parallelStream().collect(Collectors.groupingBy(GroupingBenchmark::prefix));
+    }
+
+    @Benchmark
+    public Map<String, List<String>> byPrefixGroupingByConcurrent() {
+        return words.parallelStream().collect(Collectors.groupingByConcurrent(GroupingBenchmark::prefix));
+    }
+
+    @Benchmark
+    public Map<String, List<String>> byPrefixStriped() {
+        return words.parallelStream()
+                .collect(GroupingCollectors.groupingByConcurrent(GroupingBenchmark::prefix, PREFIX_KEYS));
+    }
+
+    private static String prefix(String word) {
+        return word.length() < 2 ? word : word.substring(0, 2);
+    }
+}
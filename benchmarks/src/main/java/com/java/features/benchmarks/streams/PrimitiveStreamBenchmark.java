@@ -0,0 +1,110 @@
+package com.java.features.benchmarks.streams;
+
+import com.java.features.java8.streams.IntList;
+import com.java.features.java8.streams.StreamOperations;
+import com.java.features.java8.streams.StreamsExample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the boxed {@code List<Integer>} pipelines of {@link StreamOperations}
+ * and {@link StreamsExample} with their {@code int[]} overloads returning
+ * {@link IntList}.
+ *
+ * Run with {@code -prof gc} to see the allocation difference in
+ * {@code gc.alloc.rate.norm} (bytes per operation). The 100M element case
+ * keeps 100M boxed Integers alive, hence the large heap.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar PrimitiveStreamBenchmark -prof gc -p size=1000,1000000
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class PrimitiveStreamBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    private int[] numbers;
+    private List<Integer> boxedNumbers;
+    private final StreamsExample streamsExample = new StreamsExample();
+
+    @Setup
+    public void setUp() {
+        numbers = new Random(42).ints(size, 0, 1000).toArray();
+        boxedNumbers = new ArrayList<>(size);
+        for (int n : numbers) {
+            boxedNumbers.add(n);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> squareEvenNumbersBoxed() {
+        return StreamOperations.squareEvenNumbers(boxedNumbers);
+    }
+
+    @Benchmark
+    public IntList squareEvenNumbersPrimitive() {
+        return StreamOperations.squareEvenNumbers(numbers);
+    }
+
+    @Benchmark
+    public int sumNumbersBoxed() {
+        return StreamOperations.sumNumbers(boxedNumbers);
+    }
+
+    @Benchmark
+    public int sumNumbersPrimitive() {
+        return StreamOperations.sumNumbers(numbers);
+    }
+
+    @Benchmark
+    public List<Integer> processInParallelBoxed() {
+        return StreamOperations.processInParallel(boxedNumbers);
+    }
+
+    @Benchmark
+    public IntList processInParallelPrimitive() {
+        return StreamOperations.processInParallel(numbers);
+    }
+
+    @Benchmark
+    public List<Integer> doubleEvenNumbersBoxed() {
+        return streamsExample.doubleEvenNumbers(boxedNumbers);
+    }
+
+    @Benchmark
+    public IntList doubleEvenNumbersPrimitive() {
+        return streamsExample.doubleEvenNumbers(numbers);
+    }
+
+    @Benchmark
+    public int calculateSumBoxed() {
+        return streamsExample.calculateSum(boxedNumbers);
+    }
+
+    @Benchmark
+    public int calculateSumPrimitive() {
+        return streamsExample.calculateSum(numbers);
+    }
+}
@@ -0,0 +1,129 @@
+package com.java.features.benchmarks.streams;
+
+import com.java.features.java8.streams.AdaptiveExecution;
+import com.java.features.java8.streams.StreamOperations;
+import com.java.features.java8.streams.StreamsExample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the stream pipelines of {@link StreamOperations} and {@link StreamsExample}.
+ *
+ * Every pipeline returns its result so JMH sinks it into a blackhole,
+ * which keeps the JIT from eliminating the work as dead code.
+ *
+ * {@code processInParallel} runs adaptively; the {@code AlwaysParallel} and
+ * {@code AlwaysSequential} variants pin the threshold to show what the
+ * adaptive choice is choosing between at each size.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar StreamOperationsBenchmark -p size=1000
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamOperationsBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Integer> numbers;
+    private List<String> words;
+    private List<List<Integer>> nested;
+    private final StreamsExample streamsExample = new StreamsExample();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        numbers = new ArrayList<>(size);
+        words = new ArrayList<>(size);
+        nested = new ArrayList<>();
+        List<Integer> chunk = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int n = random.nextInt(1000);
+            numbers.add(n);
+            words.add(Integer.toString(n, 36) + "x".repeat(random.nextInt(8)));
+            chunk.add(n);
+            if (chunk.size() == 100) {
+                nested.add(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        nested.add(chunk);
+    }
+
+    @Benchmark
+    public List<Integer> squareEvenNumbers() {
+        return StreamOperations.squareEvenNumbers(numbers);
+    }
+
+    @Benchmark
+    public int sumNumbers() {
+        return StreamOperations.sumNumbers(numbers);
+    }
+
+    @Benchmark
+    public Map<Integer, List<String>> groupByLength() {
+        return StreamOperations.groupByLength(words);
+    }
+
+    @Benchmark
+    public List<Integer> flattenAndSort() {
+        return StreamOperations.flattenAndSort(nested);
+    }
+
+    @Benchmark
+    public List<Integer> processInParallel() {
+        return StreamOperations.processInParallel(numbers);
+    }
+
+    @Benchmark
+    public List<Integer> processInParallelAlwaysParallel() {
+        return StreamOperations.processInParallel(numbers, 0);
+    }
+
+    @Benchmark
+    public List<Integer> processInParallelAlwaysSequential() {
+        return StreamOperations.processInParallel(numbers, AdaptiveExecution.NEVER_PARALLEL);
+    }
+
+    @Benchmark
+    public List<Long> generateFibonacci() {
+        return StreamOperations.generateFibonacci(90);
+    }
+
+    @Benchmark
+    public List<Integer> doubleEvenNumbers() {
+        return streamsExample.doubleEvenNumbers(numbers);
+    }
+
+    @Benchmark
+    public int calculateSum() {
+        return streamsExample.calculateSum(numbers);
+    }
+
+    @Benchmark
+    public int calculateSumOfSquaresParallel() {
+        return streamsExample.calculateSumOfSquaresParallel(numbers);
+    }
+}
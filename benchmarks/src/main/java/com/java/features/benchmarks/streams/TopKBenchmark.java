@@ -0,0 +1,108 @@
+package com.java.features.benchmarks.streams;
+
+import com.java.features.java8.streams.IntList;
+import com.java.features.java8.streams.StreamOperations;
+import com.java.features.java8.streams.TopK;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares {@link StreamOperations#flattenAndSort(List)} followed by taking
+ * the first {@code k} values with the bounded {@link TopK} operators.
+ *
+ * The input is split into lists of 1,000 values each, drawn from a range
+ * of half the input size, so about 80% of the values are distinct. The
+ * 50M element case keeps 50M boxed Integers alive, hence the large heap.
+ * Run with {@code -prof gc} to compare allocation.
+ *
+ * Example usage:
+ * ```
+ * java -jar benchmarks/target/benchmarks.jar TopKBenchmark -p size=1000000 -p k=10,1000
+ * ```
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class TopKBenchmark {
+
+    private static final int LIST_SIZE = 1000;
+
+    @Param({"1000000", "50000000"})
+    private int size;
+
+    @Param({"10", "1000"})
+    private int k;
+
+    private List<List<Integer>> nested;
+    private int[][] arrays;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int lists = (size + LIST_SIZE - 1) / LIST_SIZE;
+        nested = new ArrayList<>(lists);
+        arrays = new int[lists][];
+        for (int i = 0; i < lists; i++) {
+            int[] values = random.ints(Math.min(LIST_SIZE, size - i * LIST_SIZE), 0, size / 2).toArray();
+            arrays[i] = values;
+            nested.add(Arrays.stream(values).boxed().collect(Collectors.toList()));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> fullSortThenLimit() {
+        List<Integer> sorted = StreamOperations.flattenAndSort(nested);
+        return sorted.subList(0, Math.min(k, sorted.size()));
+    }
+
+    @Benchmark
+    public List<Integer> distinctSortedLimit() {
+        return nested.stream()
+                .flatMap(List::stream)
+                .distinct()
+                .sorted()
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> topKBoxed() {
+        return StreamOperations.flattenAndSort(nested, k);
+    }
+
+    @Benchmark
+    public List<Integer> topKBoxedParallel() {
+        return nested.parallelStream()
+                .flatMap(List::stream)
+                .collect(TopK.distinctSmallest(k));
+    }
+
+    @Benchmark
+    public IntList topKPrimitive() {
+        return StreamOperations.flattenAndSort(arrays, k);
+    }
+
+    @Benchmark
+    public IntList topKPrimitiveParallel() {
+        return TopK.distinctSmallest(Arrays.stream(arrays).parallel().flatMapToInt(Arrays::stream), k);
+    }
+}
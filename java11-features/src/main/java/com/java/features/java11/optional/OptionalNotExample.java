@@ -1,8 +1,12 @@
 package com.java.features.java11.optional;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -12,6 +16,35 @@ import java.util.stream.Collectors;
  */
 public class OptionalNotExample {
 
+    private static final int MAX_CACHED_VALUES = 256;
+
+    // Stands in for a slow backing store in the caching example
+    private static final Map<String, String> SOURCE = Map.of("key", "value");
+
+    // Access-ordered LinkedHashMap: removeEldestEntry drops the least recently used value
+    private final Map<String, String> cache = Collections.synchronizedMap(
+        new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > MAX_CACHED_VALUES;
+            }
+        });
+
+    private final Function<String, String> loader;
+
+    public OptionalNotExample() {
+        this(SOURCE::get);
+    }
+
+    /**
+     * Creates the example with the given cache loader.
+     *
+     * @param loader Looks up a value missing from the cache; returns null if there is none
+     */
+    OptionalNotExample(Function<String, String> loader) {
+        this.loader = loader;
+    }
+
     /**
      * Demonstrates basic usage of isEmpty() method.
      * 
@@ -108,6 +141,8 @@ public class OptionalNotExample {
      * // Processing result: Value processed
      * // Validation result: Invalid input
      * // Cache status: Cache miss
+     * // Cache status: Cache hit
+     * // Cache status: Not found
      * ```
      */
     public void demonstratePracticalUseCases() {
@@ -119,10 +154,10 @@ public class OptionalNotExample {
             System.out.println("Processing result: Invalid input");
         }
 
-        // Caching example
-        Optional<String> cachedValue = getCachedValue("key");
-        System.out.println("Cache status: " + 
-            (cachedValue.isEmpty() ? "Cache miss" : "Cache hit"));
+        // Caching example: the first lookup loads the value, the second finds it cached
+        System.out.println("Cache status: " + cacheStatus("key"));
+        System.out.println("Cache status: " + cacheStatus("key"));
+        System.out.println("Cache status: " + cacheStatus("missing"));
     }
 
     // Helper methods
@@ -130,9 +165,17 @@ public class OptionalNotExample {
         return value != null && !value.isEmpty();
     }
 
-    private Optional<String> getCachedValue(String key) {
-        // Simulated cache lookup
-        return Optional.empty();
+    private String cacheStatus(String key) {
+        if (!Optional.ofNullable(cache.get(key)).isEmpty()) {
+            return "Cache hit";
+        }
+        return getCachedValue(key).isEmpty() ? "Not found" : "Cache miss";
+    }
+
+    Optional<String> getCachedValue(String key) {
+        // Bounded LRU lookup that loads and stores misses; a key the loader
+        // cannot find is not cached and maps naturally to Optional.empty()
+        return Optional.ofNullable(cache.computeIfAbsent(key, loader));
     }
 
     public static void main(String[] args) {
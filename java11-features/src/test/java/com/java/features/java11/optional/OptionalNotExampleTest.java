@@ -0,0 +1,60 @@
+package com.java.features.java11.optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Optional isEmpty Examples")
+class OptionalNotExampleTest {
+
+    @Test
+    @DisplayName("Cached value is loaded once and then hit")
+    void testCachedValueHit() {
+        AtomicInteger loads = new AtomicInteger();
+        OptionalNotExample example = new OptionalNotExample(key -> {
+            loads.incrementAndGet();
+            return key.toUpperCase();
+        });
+
+        assertEquals(Optional.of("KEY"), example.getCachedValue("key"));
+        assertEquals(Optional.of("KEY"), example.getCachedValue("key"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Missing value is empty and not cached")
+    void testMissingValueNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        OptionalNotExample example = new OptionalNotExample(key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertTrue(example.getCachedValue("missing").isEmpty());
+        assertTrue(example.getCachedValue("missing").isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Least recently used value is evicted")
+    void testLeastRecentlyUsedEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+        OptionalNotExample example = new OptionalNotExample(key -> {
+            loads.incrementAndGet();
+            return key;
+        });
+
+        example.getCachedValue("first");
+        for (int i = 0; i < 256; i++) {
+            example.getCachedValue("key" + i);
+        }
+        assertEquals(257, loads.get());
+        example.getCachedValue("key255");
+        assertEquals(257, loads.get());
+        example.getCachedValue("first");
+        assertEquals(258, loads.get());
+    }
+}
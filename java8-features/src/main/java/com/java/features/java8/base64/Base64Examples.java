@@ -1,5 +1,6 @@
 package com.java.features.java8.base64;
 
+import java.util.Arrays;
 import java.util.Base64;
 import java.nio.charset.StandardCharsets;
 import java.io.*;
@@ -9,6 +10,16 @@ import java.io.*;
  */
 public class Base64Examples {
 
+    /**
+     * Raw bytes encoded per chunk when streaming files (64 KB of output, multiple of 3)
+     */
+    private static final int ENCODE_CHUNK_SIZE = 48 * 1024;
+
+    /**
+     * Encoded characters decoded per chunk when streaming files (multiple of 4)
+     */
+    private static final int DECODE_CHUNK_SIZE = ENCODE_CHUNK_SIZE / 3 * 4;
+
     /**
      * Encodes a string using Base64 encoding.
      * 
@@ -98,6 +109,10 @@ public class Base64Examples {
     /**
      * Encodes a file using Base64 encoding and writes the result to another file.
      * 
+     * The file is processed in fixed-size chunks, so heap usage stays constant
+     * regardless of the file size. Chunks are a multiple of 3 bytes, which is
+     * what lets each one be encoded independently without padding in between.
+     * 
      * Sample usage:
      * ```java
      * encodeFile("input.txt", "encoded.txt");
@@ -109,16 +124,17 @@ public class Base64Examples {
      * @throws IOException If there are issues reading or writing the files
      */
     public static void encodeFile(String inputPath, String outputPath) throws IOException {
-        try (InputStream is = new FileInputStream(inputPath)) {
-            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Base64.Encoder encoder = Base64.getEncoder();
+        byte[] chunk = new byte[ENCODE_CHUNK_SIZE];
+        byte[] encoded = new byte[DECODE_CHUNK_SIZE];
+        try (InputStream is = new FileInputStream(inputPath);
+             OutputStream os = new FileOutputStream(outputPath)) {
             int nRead;
-            byte[] data = new byte[1024];
-            while ((nRead = is.read(data, 0, data.length)) != -1) {
-                buffer.write(data, 0, nRead);
+            while ((nRead = readFully(is, chunk)) == chunk.length) {
+                os.write(encoded, 0, encoder.encode(chunk, encoded));
             }
-            byte[] encoded = Base64.getEncoder().encode(buffer.toByteArray());
-            try (OutputStream os = new FileOutputStream(outputPath)) {
-                os.write(encoded);
+            if (nRead > 0) {
+                os.write(encoded, 0, encoder.encode(Arrays.copyOf(chunk, nRead), encoded));
             }
         }
     }
@@ -126,6 +142,10 @@ public class Base64Examples {
     /**
      * Decodes a Base64 encoded file back to its original form.
      * 
+     * Like {@link #encodeFile(String, String)} this streams the file in
+     * fixed-size chunks. Chunks are a multiple of 4 characters, so only the
+     * last one can carry padding.
+     * 
      * Sample usage:
      * ```java
      * decodeFile("encoded.txt", "decoded.txt");
@@ -135,22 +155,96 @@ public class Base64Examples {
      * @param encodedPath Path to the Base64 encoded file
      * @param outputPath Path where the decoded content will be written
      * @throws IOException If there are issues reading or writing the files
+     * @throws IllegalArgumentException If the file is not valid Base64
      */
     public static void decodeFile(String encodedPath, String outputPath) throws IOException {
-        try (InputStream is = new FileInputStream(encodedPath)) {
-            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Base64.Decoder decoder = Base64.getDecoder();
+        byte[] chunk = new byte[DECODE_CHUNK_SIZE];
+        byte[] decoded = new byte[ENCODE_CHUNK_SIZE];
+        try (InputStream is = new FileInputStream(encodedPath);
+             OutputStream os = new FileOutputStream(outputPath)) {
             int nRead;
-            byte[] data = new byte[1024];
-            while ((nRead = is.read(data, 0, data.length)) != -1) {
-                buffer.write(data, 0, nRead);
+            while ((nRead = readFully(is, chunk)) == chunk.length) {
+                os.write(decoded, 0, decoder.decode(chunk, decoded));
             }
-            byte[] decoded = Base64.getDecoder().decode(buffer.toByteArray());
-            try (OutputStream os = new FileOutputStream(outputPath)) {
-                os.write(decoded);
+            if (nRead > 0) {
+                os.write(decoded, 0, decoder.decode(Arrays.copyOf(chunk, nRead), decoded));
             }
         }
     }
 
+    /**
+     * Encodes a file using Base64 encoding on all available cores.
+     * Produces the same output as {@link #encodeFile(String, String)}.
+     * 
+     * Sample usage:
+     * ```java
+     * encodeFileParallel("large.bin", "encoded.txt");
+     * // Creates encoded.txt, encoding chunks of large.bin in parallel
+     * ```
+     * 
+     * @param inputPath Path to the input file
+     * @param outputPath Path where the encoded content will be written
+     * @throws IOException If there are issues reading or writing the files
+     * @see ParallelBase64Encoder
+     */
+    public static void encodeFileParallel(String inputPath, String outputPath) throws IOException {
+        ParallelBase64Encoder.encodeFile(inputPath, outputPath);
+    }
+
+    /**
+     * Encodes a file using MIME Base64 encoding on all available cores.
+     * Produces the same output as {@link #encodeMime(String)} does for strings.
+     * 
+     * @param inputPath Path to the input file
+     * @param outputPath Path where the encoded content will be written
+     * @throws IOException If there are issues reading or writing the files
+     * @see ParallelBase64Encoder
+     */
+    public static void encodeMimeFileParallel(String inputPath, String outputPath) throws IOException {
+        ParallelBase64Encoder.encodeFileMime(inputPath, outputPath);
+    }
+
+    /**
+     * Encodes a file using MIME Base64 encoding with a custom line length on
+     * all available cores. Produces the same output as
+     * {@link #encodeMimeWithLineLength(String, int)} does for strings.
+     * 
+     * Sample usage:
+     * ```java
+     * encodeMimeFileParallel("large.bin", "encoded.txt", 64);
+     * // Creates encoded.txt with 64 character lines separated by \r\n
+     * ```
+     * 
+     * @param inputPath Path to the input file
+     * @param outputPath Path where the encoded content will be written
+     * @param lineLength The custom line length for MIME encoding
+     * @throws IOException If there are issues reading or writing the files
+     * @see ParallelBase64Encoder
+     */
+    public static void encodeMimeFileParallel(String inputPath, String outputPath, int lineLength)
+            throws IOException {
+        ParallelBase64Encoder.encodeFileMime(inputPath, outputPath, lineLength);
+    }
+
+    /**
+     * Reads from the stream until the buffer is full or the stream ends.
+     * 
+     * @param is The stream to read from
+     * @param buffer The buffer to fill
+     * @return Number of bytes read, less than the buffer length only at end of stream
+     * @throws IOException If reading fails
+     */
+    private static int readFully(InputStream is, byte[] buffer) throws IOException {
+        int total = 0;
+        int nRead;
+        while (total < buffer.length
+                && (nRead = is.read(buffer, total, buffer.length - total)) != -1) {
+            total += nRead;
+        }
+        return total;
+    }
+
     /**
      * Demonstrates streaming Base64 encoding.
      * 
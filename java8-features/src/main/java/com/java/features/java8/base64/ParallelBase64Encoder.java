@@ -0,0 +1,255 @@
+package com.java.features.java8.base64;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Encodes large files to Base64 on multiple cores using the fork/join framework.
+ *
+ * Base64 maps every 3 input bytes to 4 output characters, so an input split
+ * on 3-byte boundaries can be encoded chunk by chunk, in any order, and each
+ * chunk's output lands at an offset that is known up front. This class
+ * memory-maps the input and a pre-sized output file, and lets a
+ * {@link ForkJoinPool} encode the chunks straight into their final position.
+ *
+ * MIME encoding works the same way, except that chunks are aligned to whole
+ * output lines, so that every chunk but the last ends with a line separator.
+ *
+ * Sample usage:
+ * ```java
+ * // Same output as Base64Examples.encodeFile, on all cores
+ * ParallelBase64Encoder.encodeFile("video.mp4", "video.b64");
+ *
+ * // Same output as Base64.getMimeEncoder()
+ * ParallelBase64Encoder.encodeFileMime("video.mp4", "video.mime", 76);
+ * ```
+ *
+ * Each chunk is mapped separately, so files larger than 2 GB (the limit of a
+ * single MappedByteBuffer) are supported.
+ *
+ * @see java.util.Base64
+ * @see java.util.concurrent.ForkJoinPool
+ */
+public final class ParallelBase64Encoder {
+
+    /**
+     * Default input bytes per chunk (3 MB, encodes to exactly 4 MB)
+     */
+    static final int DEFAULT_CHUNK_SIZE = 3 * 1024 * 1024;
+
+    /**
+     * Line length used by {@link Base64#getMimeEncoder()}
+     */
+    private static final int MIME_LINE_LENGTH = 76;
+
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private ParallelBase64Encoder() {
+    }
+
+    /**
+     * Encodes a file with the basic Base64 encoder using the common pool.
+     *
+     * Sample usage:
+     * ```java
+     * ParallelBase64Encoder.encodeFile("input.bin", "encoded.txt");
+     * // encoded.txt is byte-for-byte equal to Base64.getEncoder().encode(input)
+     * ```
+     *
+     * @param inputPath Path to the input file
+     * @param outputPath Path where the encoded content will be written
+     * @throws IOException If there are issues reading or writing the files
+     */
+    public static void encodeFile(String inputPath, String outputPath) throws IOException {
+        encode(Paths.get(inputPath), Paths.get(outputPath), 0, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Encodes a file with the MIME encoder (76 character lines, CRLF separators)
+     * using the common pool.
+     *
+     * @param inputPath Path to the input file
+     * @param outputPath Path where the encoded content will be written
+     * @throws IOException If there are issues reading or writing the files
+     */
+    public static void encodeFileMime(String inputPath, String outputPath) throws IOException {
+        encodeFileMime(inputPath, outputPath, MIME_LINE_LENGTH);
+    }
+
+    /**
+     * Encodes a file with a MIME encoder of the given line length using the
+     * common pool. As with {@link Base64#getMimeEncoder(int, byte[])} the
+     * line length is rounded down to a multiple of 4, and a non-positive
+     * result disables line separation.
+     *
+     * Sample usage:
+     * ```java
+     * ParallelBase64Encoder.encodeFileMime("input.bin", "encoded.txt", 64);
+     * // encoded.txt contains 64 character lines separated by \r\n
+     * ```
+     *
+     * @param inputPath Path to the input file
+     * @param outputPath Path where the encoded content will be written
+     * @param lineLength Maximum number of characters per output line
+     * @throws IOException If there are issues reading or writing the files
+     */
+    public static void encodeFileMime(String inputPath, String outputPath, int lineLength) throws IOException {
+        encode(Paths.get(inputPath), Paths.get(outputPath), lineLength, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Encodes a file on the given pool, for callers that want to bound the
+     * number of cores used.
+     *
+     * Sample usage:
+     * ```java
+     * ForkJoinPool pool = new ForkJoinPool(4);
+     * ParallelBase64Encoder.encode(Paths.get("in.bin"), Paths.get("out.txt"), 0, pool);
+     * ```
+     *
+     * @param input The file to encode
+     * @param output The file to write, created or truncated
+     * @param lineLength MIME line length, or 0 for the basic encoder
+     * @param pool The pool running the chunk tasks
+     * @throws IOException If there are issues reading or writing the files
+     */
+    public static void encode(Path input, Path output, int lineLength, ForkJoinPool pool)
+            throws IOException {
+        encode(input, output, lineLength, pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Encodes a file on the given pool with a custom chunk size.
+     *
+     * @param input The file to encode
+     * @param output The file to write, created or truncated
+     * @param lineLength MIME line length, or 0 for the basic encoder
+     * @param pool The pool running the chunk tasks
+     * @param chunkSize Target number of input bytes per chunk
+     * @throws IOException If there are issues reading or writing the files
+     */
+    static void encode(Path input, Path output, int lineLength, ForkJoinPool pool, int chunkSize)
+            throws IOException {
+        Layout layout = Layout.of(lineLength, chunkSize);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.READ, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            long inputSize = in.size();
+            if (inputSize == 0) {
+                return;
+            }
+            long chunks = (inputSize + layout.chunkInput - 1) / layout.chunkInput;
+            // Pre-size the output so every chunk can map its own region
+            out.write(ByteBuffer.allocate(1), layout.encodedLength(inputSize) - 1);
+            pool.invoke(new EncodeTask(in, out, inputSize, layout, 0, chunks));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Chunk geometry for one encoding mode.
+     */
+    private static final class Layout {
+        final Base64.Encoder encoder;
+        final long chunkInput;
+        final long chunkOutput;
+        final int lineLength;
+
+        private Layout(Base64.Encoder encoder, long chunkInput, long chunkOutput, int lineLength) {
+            this.encoder = encoder;
+            this.chunkInput = chunkInput;
+            this.chunkOutput = chunkOutput;
+            this.lineLength = lineLength;
+        }
+
+        static Layout of(int lineLength, int chunkSize) {
+            int line = lineLength / 4 * 4;
+            if (line <= 0) {
+                long chunkInput = Math.max(3, chunkSize / 3 * 3);
+                return new Layout(Base64.getEncoder(), chunkInput, chunkInput / 3 * 4, 0);
+            }
+            // A chunk holds whole lines, each line encodes line / 4 * 3 input bytes
+            long lineInput = line / 4 * 3;
+            long lines = Math.max(1, chunkSize / lineInput);
+            return new Layout(Base64.getMimeEncoder(line, CRLF),
+                    lines * lineInput, lines * (line + CRLF.length), line);
+        }
+
+        long encodedLength(long inputSize) {
+            long encoded = (inputSize + 2) / 3 * 4;
+            if (lineLength == 0) {
+                return encoded;
+            }
+            long lines = (encoded + lineLength - 1) / lineLength;
+            return encoded + (lines - 1) * CRLF.length;
+        }
+    }
+
+    /**
+     * Encodes the chunk range [from, to), splitting it in halves until a
+     * single chunk is left.
+     */
+    private static final class EncodeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel in;
+        private final transient FileChannel out;
+        private final long inputSize;
+        private final transient Layout layout;
+        private final long from;
+        private final long to;
+
+        EncodeTask(FileChannel in, FileChannel out, long inputSize, Layout layout, long from, long to) {
+            this.in = in;
+            this.out = out;
+            this.inputSize = inputSize;
+            this.layout = layout;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                long mid = (from + to) >>> 1;
+                invokeAll(new EncodeTask(in, out, inputSize, layout, from, mid),
+                          new EncodeTask(in, out, inputSize, layout, mid, to));
+                return;
+            }
+            try {
+                encodeChunk(from);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void encodeChunk(long chunk) throws IOException {
+            long inputOffset = chunk * layout.chunkInput;
+            int length = (int) Math.min(layout.chunkInput, inputSize - inputOffset);
+            boolean last = inputOffset + length == inputSize;
+
+            byte[] src = new byte[length];
+            in.map(FileChannel.MapMode.READ_ONLY, inputOffset, length).get(src);
+
+            int separator = last || layout.lineLength == 0 ? 0 : CRLF.length;
+            byte[] dst = new byte[(int) layout.encodedLength(length) + separator];
+            int written = layout.encoder.encode(src, dst);
+            if (separator > 0) {
+                System.arraycopy(CRLF, 0, dst, written, separator);
+            }
+
+            out.map(FileChannel.MapMode.READ_WRITE, chunk * layout.chunkOutput, dst.length).put(dst);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.java.features.java8.concurrent;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs a task over a stream of inputs with a fixed cap on in-flight work.
+ *
+ * Creating one CompletableFuture per input up front and joining them with
+ * {@code allOf} holds every future, and every result, in memory until the
+ * last one completes. This processor pulls inputs from an iterator only when
+ * one of {@code maxInFlight} permits is free, and hands each result to a sink
+ * as soon as it may be emitted. Memory use is therefore proportional to
+ * {@code maxInFlight}, not to the number of inputs.
+ *
+ * In ordered mode results are emitted in input order. A result that finishes
+ * early waits in a reorder buffer and keeps its permit until it is emitted,
+ * so the buffer never grows beyond {@code maxInFlight} entries. In unordered
+ * mode results are emitted as they complete.
+ *
+ * The calling thread submits the tasks and blocks while all permits are in
+ * use, which is what applies backpressure to the input. The sink is never
+ * called concurrently.
+ *
+ * Example usage:
+ * ```java
+ * BoundedBatchProcessor<String, String> processor =
+ *     new BoundedBatchProcessor<>(executor, String::toUpperCase, 64, true);
+ *
+ * BoundedBatchProcessor.Stats stats =
+ *     processor.process(Files.lines(path).iterator(), System.out::println);
+ * System.out.println(stats);  // Throughput and latency percentiles
+ * ```
+ *
+ * @param <T> The input type
+ * @param <R> The result type
+ */
+public final class BoundedBatchProcessor<T, R> {
+
+    private final Executor executor;
+    private final Function<? super T, ? extends R> task;
+    private final int maxInFlight;
+    private final boolean ordered;
+
+    /**
+     * Creates a processor.
+     *
+     * @param executor The executor running the tasks
+     * @param task The task applied to every input
+     * @param maxInFlight Maximum number of tasks running or waiting to be emitted
+     * @param ordered Whether results are emitted in input order
+     */
+    public BoundedBatchProcessor(Executor executor, Function<? super T, ? extends R> task,
+                                 int maxInFlight, boolean ordered) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.executor = executor;
+        this.task = task;
+        this.maxInFlight = maxInFlight;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Processes every input and passes each result to the sink, blocking
+     * until all results have been emitted.
+     *
+     * When a task or the sink fails, no further inputs are pulled, results
+     * still in flight are dropped and the first failure is rethrown once
+     * the running tasks have finished.
+     *
+     * @param inputs The inputs, pulled lazily
+     * @param sink Receives the results, one call at a time
+     * @return Throughput and latency statistics for the batch
+     * @throws CompletionException If a task or the sink failed
+     * @throws InterruptedException If interrupted while waiting for a permit
+     */
+    public Stats process(Iterator<? extends T> inputs, Consumer<? super R> sink) throws InterruptedException {
+        Batch batch = new Batch(sink);
+        long start = System.nanoTime();
+        long sequence = 0;
+        while (batch.failure.get() == null) {
+            batch.permits.acquire();
+            // A task may have failed while we were waiting for the permit
+            if (batch.failure.get() != null || !inputs.hasNext()) {
+                batch.permits.release();
+                break;
+            }
+            batch.submit(sequence++, inputs.next());
+        }
+        // Every permit is back once all tasks have completed and been emitted
+        batch.permits.acquire(maxInFlight);
+
+        Throwable failure = batch.failure.get();
+        if (failure != null) {
+            throw failure instanceof CompletionException
+                    ? (CompletionException) failure
+                    : new CompletionException(failure);
+        }
+        return new Stats(batch.emitted.sum(), System.nanoTime() - start, batch.latencies);
+    }
+
+    /**
+     * State of a single {@link #process} call.
+     */
+    private final class Batch {
+        final Semaphore permits = new Semaphore(maxInFlight);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final LatencyHistogram latencies = new LatencyHistogram();
+        final LongAdder emitted = new LongAdder();
+        final Consumer<? super R> sink;
+
+        // Guarded by this: results waiting for their predecessors in ordered mode
+        final Map<Long, R> reorderBuffer = new HashMap<>();
+        long nextToEmit;
+
+        Batch(Consumer<? super R> sink) {
+            this.sink = sink;
+        }
+
+        void submit(long sequence, T input) {
+            long submitted = System.nanoTime();
+            try {
+                CompletableFuture.supplyAsync(() -> task.apply(input), executor)
+                        .whenComplete((result, error) -> {
+                            latencies.record(System.nanoTime() - submitted);
+                            complete(sequence, result, error);
+                        });
+            } catch (RejectedExecutionException e) {
+                failure.compareAndSet(null, e);
+                permits.release();
+            }
+        }
+
+        synchronized void complete(long sequence, R result, Throwable error) {
+            int released = 0;
+            try {
+                if (error != null) {
+                    failure.compareAndSet(null, error);
+                } else if (failure.get() == null) {
+                    if (ordered) {
+                        reorderBuffer.put(sequence, result);
+                        while (reorderBuffer.containsKey(nextToEmit)) {
+                            R next = reorderBuffer.remove(nextToEmit++);
+                            released++;
+                            emit(next);
+                        }
+                    } else {
+                        released++;
+                        emit(result);
+                    }
+                    return;
+                }
+                // Failed, or completed after another task failed: drop the result
+                released++;
+            } catch (RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                if (failure.get() != null) {
+                    released += reorderBuffer.size();
+                    reorderBuffer.clear();
+                }
+                permits.release(released);
+            }
+        }
+
+        private void emit(R result) {
+            sink.accept(result);
+            emitted.increment();
+        }
+    }
+
+    /**
+     * Throughput and latency of one batch. Latency is measured per task,
+     * from submission to completion, and excludes time spent in the
+     * reorder buffer.
+     */
+    public static final class Stats {
+        private final long completed;
+        private final long elapsedNanos;
+        private final LatencyHistogram latencies;
+
+        Stats(long completed, long elapsedNanos, LatencyHistogram latencies) {
+            this.completed = completed;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+        }
+
+        /**
+         * Gets the number of results emitted
+         * @return Emitted result count
+         */
+        public long getCompleted() {
+            return completed;
+        }
+
+        /**
+         * Gets the wall-clock time of the batch
+         * @param unit The unit of the result
+         * @return Elapsed time
+         */
+        public long getElapsed(TimeUnit unit) {
+            return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Gets the number of results emitted per second
+         * @return Throughput in results per second
+         */
+        public double getThroughputPerSecond() {
+            return elapsedNanos == 0 ? 0 : completed * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Gets the per-task latency histogram
+         * @return Latency histogram
+         */
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("completed=%d, elapsed=%dms, throughput=%.1f/s, latency[%s]",
+                    completed, getElapsed(TimeUnit.MILLISECONDS), getThroughputPerSecond(), latencies);
+        }
+    }
+}
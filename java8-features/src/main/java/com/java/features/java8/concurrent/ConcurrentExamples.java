@@ -2,8 +2,11 @@ package com.java.features.java8.concurrent;
 
 import java.util.concurrent.*;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Demonstrates the concurrent programming features introduced in Java 8.
@@ -21,11 +24,35 @@ import java.util.Random;
  * // Parallel array sorting
  * int[] array = {5, 3, 1, 4, 2};
  * examples.parallelSort(array);
+ *
+ * // Blocking tasks on a fixed pool of 4 platform threads
+ * ConcurrentExamples pooled = new ConcurrentExamples(ExecutorStrategy.FIXED_POOL, 4);
  * ```
  */
 public class ConcurrentExamples {
 
-    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private static final int DEFAULT_POOL_SIZE = 4;
+
+    private final ExecutorService executor;
+
+    /**
+     * Creates an instance that uses virtual threads on JDK 21+ and a fixed
+     * pool of 4 threads on older JDKs.
+     */
+    public ConcurrentExamples() {
+        this(ExecutorStrategy.AUTO, DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Creates an instance whose async tasks run on the given executor strategy.
+     * 
+     * @param strategy How to run async tasks
+     * @param poolSize Number of threads for pooled strategies
+     * @throws UnsupportedOperationException If the strategy is not supported on this JDK
+     */
+    public ConcurrentExamples(ExecutorStrategy strategy, int poolSize) {
+        this.executor = strategy.create(poolSize);
+    }
 
     /**
      * Demonstrates basic CompletableFuture usage for async computation.
@@ -41,15 +68,42 @@ public class ConcurrentExamples {
      * @return CompletableFuture containing the processed result
      */
     public CompletableFuture<String> asyncComputation(String input) {
-        return CompletableFuture.supplyAsync(() -> {
-            // Simulate some processing
+        return supplyCancellable(() -> process(input));
+    }
+
+    private static String process(String input) {
+        // Simulate some processing
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "Processed: " + input;
+    }
+
+    /**
+     * Like CompletableFuture.supplyAsync on the instance executor, except that
+     * cancelling the returned future interrupts the running task.
+     * CompletableFuture.cancel on its own never reaches the worker thread.
+     * 
+     * @param supplier The computation to run
+     * @return CompletableFuture completing with the supplier's result
+     */
+    private <T> CompletableFuture<T> supplyCancellable(Supplier<T> supplier) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
             try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+                result.complete(supplier.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
             }
-            return "Processed: " + input;
-        }, executor);
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
     }
 
     /**
@@ -155,6 +209,9 @@ public class ConcurrentExamples {
 
     /**
      * Demonstrates timeout handling with CompletableFuture.
+     * The timeout runs on the JVM-wide {@link SharedTimer}, so no thread is
+     * created per call. When the timeout wins, the underlying computation is
+     * cancelled instead of being left running.
      * 
      * Sample usage:
      * ```java
@@ -168,19 +225,15 @@ public class ConcurrentExamples {
      * @return CompletableFuture with timeout handling
      */
     public CompletableFuture<String> withTimeout(String input, long timeoutSeconds) {
-        CompletableFuture<String> future = asyncComputation(input);
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-        
-        CompletableFuture<String> timeout = new CompletableFuture<>();
-        scheduler.schedule(() -> timeout.complete("Timeout occurred"), timeoutSeconds, TimeUnit.SECONDS);
-        
-        return CompletableFuture.anyOf(future, timeout)
-                .thenApply(result -> (String) result)
-                .whenComplete((r, t) -> scheduler.shutdown());
+        return SharedTimer.getInstance()
+                .withTimeout(asyncComputation(input), "Timeout occurred", timeoutSeconds, TimeUnit.SECONDS);
     }
 
     /**
      * Demonstrates parallel collection processing with CompletableFuture.
+     * Every input is a blocking one-second task, so the total time depends on
+     * the executor strategy: about one second with virtual threads, versus
+     * {@code inputs.size() / poolSize} seconds on a fixed pool.
      * 
      * Sample usage:
      * ```java
@@ -209,8 +262,42 @@ public class ConcurrentExamples {
         );
     }
 
+    /**
+     * Processes inputs in parallel with at most {@code maxConcurrency} tasks
+     * in flight, handing each result to the sink as soon as it is available.
+     * 
+     * Unlike {@link #processInParallel(List)}, inputs are pulled lazily and
+     * results are not collected, so memory stays proportional to
+     * {@code maxConcurrency} even for millions of inputs. This call blocks
+     * until every result has been emitted.
+     * 
+     * Sample usage:
+     * ```java
+     * Iterator<String> inputs = hugeInputStream.iterator();
+     * BoundedBatchProcessor.Stats stats =
+     *     examples.processInParallel(inputs, 100, true, System.out::println);
+     * // Prints results in input order, then e.g.
+     * // completed=1000, elapsed=10012ms, throughput=99.9/s, latency[...]
+     * System.out.println(stats);
+     * ```
+     * 
+     * @param inputs The inputs, pulled lazily
+     * @param maxConcurrency Maximum number of tasks in flight
+     * @param ordered Whether results are emitted in input order
+     * @param sink Receives the results, one call at a time
+     * @return Throughput and latency statistics
+     * @throws InterruptedException If interrupted while waiting for a free slot
+     */
+    public BoundedBatchProcessor.Stats processInParallel(Iterator<String> inputs, int maxConcurrency,
+                                                         boolean ordered, Consumer<String> sink)
+            throws InterruptedException {
+        return new BoundedBatchProcessor<String, String>(executor, ConcurrentExamples::process,
+                maxConcurrency, ordered).process(inputs, sink);
+    }
+
     /**
      * Demonstrates async task scheduling with CompletableFuture.
+     * The delay runs on the JVM-wide {@link SharedTimer}.
      * 
      * Sample usage:
      * ```java
@@ -224,16 +311,8 @@ public class ConcurrentExamples {
      * @return CompletableFuture that completes after the delay
      */
     public CompletableFuture<String> scheduleTask(String input, long delaySeconds) {
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-        
-        CompletableFuture<String> future = new CompletableFuture<>();
-        
-        scheduler.schedule(() -> {
-            future.complete("Delayed task completed: " + input);
-            scheduler.shutdown();
-        }, delaySeconds, TimeUnit.SECONDS);
-        
-        return future;
+        return SharedTimer.getInstance()
+                .completeAfter("Delayed task completed: " + input, delaySeconds, TimeUnit.SECONDS);
     }
 
     /**
@@ -3,10 +3,13 @@ package com.java.features.java8.concurrent;
 import java.util.concurrent.locks.StampedLock;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.DoubleSummaryStatistics;
+import java.util.function.DoubleConsumer;
 
 /**
  * Demonstrates the new concurrent utilities introduced in Java 8, specifically StampedLock
@@ -168,6 +171,102 @@ public class ConcurrentUtilsExample {
         }
     }
 
+    /**
+     * A lock-free alternative to {@link Point} built on an immutable snapshot
+     * and compare-and-set.
+     * 
+     * Both coordinates live in one immutable object behind an AtomicReference.
+     * A read is a single volatile load, so readers never block and never
+     * retry. A write builds a new snapshot from the current one and publishes
+     * it with compareAndSet, retrying on conflict, so no update is ever lost.
+     * This fixes the weakness of {@link Point#calculateAndUpdateDistance},
+     * where a failed {@code tryConvertToWriteLock} silently skips the update.
+     * 
+     * The cost is one small allocation per write, which makes this design a
+     * good fit for read-mostly data.
+     * 
+     * Example usage:
+     * ```java
+     * SnapshotPoint p = new SnapshotPoint();
+     * p.move(3.0, 4.0);
+     * p.distanceFromOrigin();             // 5.0
+     * p.calculateAndUpdateDistance(10.0); // 10.0, point is now (6.0, 8.0)
+     * ```
+     */
+    public static class SnapshotPoint {
+        private final AtomicReference<Coordinates> coordinates = new AtomicReference<>(new Coordinates(0, 0));
+
+        /**
+         * Moves the point, retrying until the move is applied to the latest coordinates
+         * @param deltaX Change in x coordinate
+         * @param deltaY Change in y coordinate
+         */
+        public void move(double deltaX, double deltaY) {
+            coordinates.updateAndGet(c -> new Coordinates(c.x + deltaX, c.y + deltaY));
+        }
+
+        /**
+         * Calculates the distance from the origin from one consistent snapshot
+         * @return Distance from origin (0,0)
+         */
+        public double distanceFromOrigin() {
+            return coordinates.get().distance();
+        }
+
+        /**
+         * Scales the point along its direction from the origin so that its
+         * distance becomes the target. Unlike {@link Point#calculateAndUpdateDistance},
+         * a concurrent write causes a retry on the new coordinates instead of a
+         * skipped update. A point at the origin has no direction and is left alone.
+         * 
+         * @param distance Target distance from origin
+         * @return Distance after the update
+         */
+        public double calculateAndUpdateDistance(double distance) {
+            while (true) {
+                Coordinates current = coordinates.get();
+                double currentDistance = current.distance();
+                if (currentDistance == distance || currentDistance == 0) {
+                    return currentDistance;
+                }
+                double scale = distance / currentDistance;
+                if (coordinates.compareAndSet(current, new Coordinates(current.x * scale, current.y * scale))) {
+                    return distance;
+                }
+            }
+        }
+
+        /**
+         * Gets the x coordinate
+         * @return Current x
+         */
+        public double getX() {
+            return coordinates.get().x;
+        }
+
+        /**
+         * Gets the y coordinate
+         * @return Current y
+         */
+        public double getY() {
+            return coordinates.get().y;
+        }
+
+        private static final class Coordinates {
+            final double x;
+            final double y;
+
+            Coordinates(double x, double y) {
+                this.x = x;
+                this.y = y;
+            }
+
+            double distance() {
+                return Math.sqrt(x * x + y * y);
+            }
+        }
+    }
+
     /**
      * Demonstrates high-performance concurrent counting using LongAdder and DoubleAdder.
      * These classes are optimized for high-concurrency scenarios where multiple threads
@@ -243,13 +342,302 @@ public class ConcurrentUtilsExample {
         }
     }
 
+    /**
+     * A contention-friendly accumulator of count, sum, min, max and sum of
+     * squares, for metrics recorded from many threads at once.
+     * 
+     * Samples go to one of several stripes, roughly one per core, picked per
+     * thread in the same way as LongAdder picks its cells. Each stripe is a
+     * StampedLock guarding its own five fields, padded so that neighbouring
+     * stripes never share a cache line. A thread that finds its stripe busy
+     * moves on to another stripe instead of waiting. {@code @Contended} would
+     * do the padding for us, but outside the JDK it needs
+     * {@code -XX:-RestrictContended}, so the padding is written out by hand.
+     * 
+     * {@link #snapshot()} reads every stripe with an optimistic read, so
+     * taking a snapshot never blocks the writers. Each stripe is read
+     * consistently; the snapshot as a whole is not atomic with respect to
+     * concurrent writes, just like {@link LongAdder#sum()}.
+     * 
+     * Example usage:
+     * ```java
+     * ConcurrentStatistics latencies = new ConcurrentStatistics();
+     * 
+     * // From any number of threads
+     * latencies.accept(12.5);
+     * latencies.accept(7.0);
+     * 
+     * Snapshot stats = latencies.snapshot();
+     * System.out.println(stats.getAverage());  // 9.75
+     * System.out.println(stats.getMax());      // 12.5
+     * ```
+     */
+    public static class ConcurrentStatistics implements DoubleConsumer {
+        private static final int MAX_WRITE_ATTEMPTS = 3;
+
+        private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> new int[] {
+            // Scramble the thread id so that consecutive threads spread over the stripes
+            (int) (Thread.currentThread().getId() * 0x9E3779B9L) | 1
+        });
+
+        private final Stripe[] stripes;
+
+        /**
+         * Creates an accumulator with about one stripe per available core
+         */
+        public ConcurrentStatistics() {
+            this(Runtime.getRuntime().availableProcessors());
+        }
+
+        /**
+         * Creates an accumulator with the given number of stripes,
+         * rounded up to a power of two
+         * @param stripeCount Minimum number of stripes
+         */
+        public ConcurrentStatistics(int stripeCount) {
+            int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(Math.min(stripeCount - 1, 1 << 15)) << 1;
+            stripes = new Stripe[size];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Stripe();
+            }
+        }
+
+        /**
+         * Records a sample
+         * @param value Value to record
+         */
+        @Override
+        public void accept(double value) {
+            int[] probe = PROBE.get();
+            int mask = stripes.length - 1;
+            for (int attempt = 0; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+                Stripe stripe = stripes[probe[0] & mask];
+                long stamp = stripe.tryWriteLock();
+                if (stamp != 0L) {
+                    stripe.record(value, stamp);
+                    return;
+                }
+                // Busy stripe: move this thread elsewhere (xorshift, as in Striped64)
+                int h = probe[0];
+                h ^= h << 13;
+                h ^= h >>> 17;
+                h ^= h << 5;
+                probe[0] = h;
+            }
+            Stripe stripe = stripes[probe[0] & mask];
+            stripe.record(value, stripe.writeLock());
+        }
+
+        /**
+         * Returns a DoubleSummaryStatistics-style view of all samples recorded so far,
+         * without blocking concurrent writers. The view is immutable.
+         * @return Snapshot of the accumulated statistics
+         */
+        public Snapshot snapshot() {
+            long count = 0;
+            double sum = 0;
+            double sumOfSquares = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            double[] values = new double[4];
+            for (Stripe stripe : stripes) {
+                long stripeCount = stripe.read(values);
+                if (stripeCount > 0) {
+                    count += stripeCount;
+                    sum += values[0];
+                    sumOfSquares += values[1];
+                    min = Math.min(min, values[2]);
+                    max = Math.max(max, values[3]);
+                }
+            }
+            return new Snapshot(count, sum, sumOfSquares, min, max);
+        }
+
+        /**
+         * Resets all recorded samples.
+         * Like {@link LongAdder#reset()}, only reliable when no thread is writing.
+         */
+        public void reset() {
+            for (Stripe stripe : stripes) {
+                stripe.clear();
+            }
+        }
+
+        /**
+         * One stripe of samples, guarded by the StampedLock it extends.
+         */
+        @SuppressWarnings("unused")
+        private static final class Stripe extends StampedLock {
+            private static final long serialVersionUID = 1L;
+
+            private long count;
+            private double sum;
+            private double sumOfSquares;
+            private double min = Double.POSITIVE_INFINITY;
+            private double max = Double.NEGATIVE_INFINITY;
+
+            // Keeps the next stripe's lock state off this stripe's cache line
+            private long p1, p2, p3, p4, p5, p6, p7, p8;
+
+            /** Adds a sample, then releases the write lock */
+            void record(double value, long stamp) {
+                try {
+                    count++;
+                    sum += value;
+                    sumOfSquares += value * value;
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                } finally {
+                    unlockWrite(stamp);
+                }
+            }
+
+            /** Clears the stripe under the write lock */
+            void clear() {
+                long stamp = writeLock();
+                try {
+                    count = 0;
+                    sum = 0;
+                    sumOfSquares = 0;
+                    min = Double.POSITIVE_INFINITY;
+                    max = Double.NEGATIVE_INFINITY;
+                } finally {
+                    unlockWrite(stamp);
+                }
+            }
+
+            /** Copies sum, sum of squares, min and max into values and returns the count */
+            long read(double[] values) {
+                while (true) {
+                    long stamp = tryOptimisticRead();
+                    long currentCount = count;
+                    values[0] = sum;
+                    values[1] = sumOfSquares;
+                    values[2] = min;
+                    values[3] = max;
+                    if (stamp != 0L && validate(stamp)) {
+                        return currentCount;
+                    }
+                    Thread.yield();
+                }
+            }
+        }
+    }
+
+    /**
+     * An immutable snapshot of a {@link ConcurrentStatistics}.
+     * 
+     * It has the same getters and the same empty-state values as
+     * {@link DoubleSummaryStatistics} (whose getters are final and which has
+     * no constructor taking values before Java 10), and additionally reports
+     * the variance and standard deviation.
+     */
+    public static final class Snapshot {
+        private final long count;
+        private final double sum;
+        private final double sumOfSquares;
+        private final double min;
+        private final double max;
+
+        Snapshot(long count, double sum, double sumOfSquares, double min, double max) {
+            this.count = count;
+            this.sum = sum;
+            this.sumOfSquares = sumOfSquares;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Gets the number of samples
+         * @return Sample count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the sum of all samples
+         * @return Sum, or 0 if there are no samples
+         */
+        public double getSum() {
+            return sum;
+        }
+
+        /**
+         * Gets the smallest sample
+         * @return Minimum, or positive infinity if there are no samples
+         */
+        public double getMin() {
+            return min;
+        }
+
+        /**
+         * Gets the largest sample
+         * @return Maximum, or negative infinity if there are no samples
+         */
+        public double getMax() {
+            return max;
+        }
+
+        /**
+         * Gets the arithmetic mean of all samples
+         * @return Average, or 0 if there are no samples
+         */
+        public double getAverage() {
+            return count > 0 ? sum / count : 0.0;
+        }
+
+        /**
+         * Gets the sum of the squares of all samples
+         * @return Sum of squares
+         */
+        public double getSumOfSquares() {
+            return sumOfSquares;
+        }
+
+        /**
+         * Gets the population variance of all samples
+         * @return Variance, or 0 if there are no samples
+         */
+        public double getVariance() {
+            if (count == 0) {
+                return 0.0;
+            }
+            double mean = getAverage();
+            return Math.max(0.0, sumOfSquares / count - mean * mean);
+        }
+
+        /**
+         * Gets the population standard deviation of all samples
+         * @return Standard deviation, or 0 if there are no samples
+         */
+        public double getStandardDeviation() {
+            return Math.sqrt(getVariance());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s{count=%d, sum=%f, min=%f, average=%f, max=%f, stddev=%f}",
+                    getClass().getSimpleName(), getCount(), getSum(), getMin(), getAverage(), getMax(),
+                    getStandardDeviation());
+        }
+    }
+
     /**
      * Demonstrates performance comparison between LongAdder operations in a multi-threaded environment.
      * This method creates multiple threads that concurrently increment and add to counters.
      * 
+     * It then records the same number of samples into a {@link ConcurrentStatistics}
+     * and into a DoubleSummaryStatistics guarded by {@code synchronized}, with 1 to 64
+     * threads, to show how each scales with contention.
+     * 
      * Example usage:
      * ```java
      * performanceComparison();  // Runs the benchmark
+     * // Threads  ConcurrentStatistics  synchronized DoubleSummaryStatistics
+     * //       1              95 ms                                 90 ms
+     * //       2              60 ms                                240 ms
+     * // ...
      * ```
      * 
      * @throws InterruptedException if thread execution is interrupted
@@ -280,6 +668,48 @@ public class ConcurrentUtilsExample {
         System.out.printf("LongAdder final count: %d%n", counter.getCount());
         System.out.printf("DoubleAdder final count: %.2f%n", counter.getDoubleCount());
         System.out.printf("Time taken: %d ms%n", (endTime - startTime) / 1_000_000);
+
+        final int samples = 4_000_000;
+        System.out.println();
+        System.out.println("Threads  ConcurrentStatistics  synchronized DoubleSummaryStatistics");
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            ConcurrentStatistics striped = new ConcurrentStatistics();
+            long stripedMillis = recordSamples(threads, samples, striped);
+
+            DoubleSummaryStatistics shared = new DoubleSummaryStatistics();
+            long lockedMillis = recordSamples(threads, samples, value -> {
+                synchronized (shared) {
+                    shared.accept(value);
+                }
+            });
+            System.out.printf("%7d  %17d ms  %34d ms%n", threads, stripedMillis, lockedMillis);
+        }
+    }
+
+    /**
+     * Records samples from the given number of threads and returns the elapsed time.
+     * 
+     * @param threads Number of recording threads
+     * @param samples Total number of samples, split evenly between the threads
+     * @param sink Receives the samples
+     * @return Elapsed time in milliseconds
+     * @throws InterruptedException if thread execution is interrupted
+     */
+    private static long recordSamples(int threads, int samples, DoubleConsumer sink) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        int perThread = samples / threads;
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    sink.accept(ThreadLocalRandom.current().nextDouble());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return (System.nanoTime() - startTime) / 1_000_000;
     }
 
     /**
@@ -294,6 +724,10 @@ public class ConcurrentUtilsExample {
      * LongAdder final count: 8000000
      * DoubleAdder final count: 2000000.50
      * Time taken: 1234 ms
+     * 
+     * Threads  ConcurrentStatistics  synchronized DoubleSummaryStatistics
+     *       1              95 ms                                 90 ms
+     * ...
      * ```
      * 
      * @param args Command line arguments (not used)
@@ -0,0 +1,112 @@
+package com.java.features.java8.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Chooses how {@link ConcurrentExamples} runs its blocking tasks.
+ *
+ * A fixed pool runs at most {@code poolSize} sleeping tasks at a time, so
+ * 10,000 one-second tasks on 4 threads take about 2,500 seconds. Virtual
+ * threads (JDK 21+) park instead of holding a carrier thread while blocked,
+ * so the same fan-out finishes in roughly the time of the slowest task.
+ *
+ * This module targets Java 8, so virtual threads are looked up reflectively
+ * through {@code Executors.newVirtualThreadPerTaskExecutor()}.
+ *
+ * Sample usage:
+ * ```java
+ * // Virtual threads on JDK 21+, a fixed pool of 4 threads otherwise
+ * ConcurrentExamples examples = new ConcurrentExamples(ExecutorStrategy.AUTO, 4);
+ *
+ * if (ExecutorStrategy.VIRTUAL_THREADS.isSupported()) {
+ *     ExecutorService executor = ExecutorStrategy.VIRTUAL_THREADS.create(0);
+ * }
+ * ```
+ *
+ * @see java.util.concurrent.Executors#newFixedThreadPool(int)
+ */
+public enum ExecutorStrategy {
+
+    /**
+     * A fixed pool of platform threads, available on every JDK
+     */
+    FIXED_POOL {
+        @Override
+        public boolean isSupported() {
+            return true;
+        }
+
+        @Override
+        public ExecutorService create(int poolSize) {
+            return Executors.newFixedThreadPool(poolSize);
+        }
+    },
+
+    /**
+     * One virtual thread per task, available on JDK 21 and later
+     */
+    VIRTUAL_THREADS {
+        @Override
+        public boolean isSupported() {
+            return VIRTUAL_THREAD_FACTORY != null;
+        }
+
+        @Override
+        public ExecutorService create(int poolSize) {
+            if (VIRTUAL_THREAD_FACTORY == null) {
+                throw new UnsupportedOperationException(
+                        "Virtual threads require JDK 21+, running on " + System.getProperty("java.version"));
+            }
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_FACTORY.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create virtual thread executor", e);
+            }
+        }
+    },
+
+    /**
+     * Virtual threads when the running JDK has them, a fixed pool otherwise
+     */
+    AUTO {
+        @Override
+        public boolean isSupported() {
+            return true;
+        }
+
+        @Override
+        public ExecutorService create(int poolSize) {
+            return VIRTUAL_THREADS.isSupported()
+                    ? VIRTUAL_THREADS.create(poolSize)
+                    : FIXED_POOL.create(poolSize);
+        }
+    };
+
+    private static final Method VIRTUAL_THREAD_FACTORY = findVirtualThreadFactory();
+
+    /**
+     * Checks whether this strategy can run on the current JDK
+     * @return true if {@link #create(int)} will succeed
+     */
+    public abstract boolean isSupported();
+
+    /**
+     * Creates a new executor for this strategy. The caller owns the
+     * executor and is responsible for shutting it down.
+     *
+     * @param poolSize Number of threads for pooled strategies, ignored for virtual threads
+     * @return A new executor service
+     * @throws UnsupportedOperationException If the strategy is not supported on this JDK
+     */
+    public abstract ExecutorService create(int poolSize);
+
+    private static Method findVirtualThreadFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.java.features.java8.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size, thread-safe latency histogram with log-linear buckets.
+ *
+ * Every power of two is split into 8 linear sub-buckets, so any recorded
+ * value is reported within 12.5% of its real value, while the whole
+ * nanosecond range of a long fits in (64 - 3) * 8 = 488 counters: 8 for
+ * the values below 8, then 8 for each power of two from 2^3 to 2^62.
+ * Recording is lock-free and allocation-free, which makes it cheap enough
+ * to call from every task.
+ *
+ * Example usage:
+ * ```java
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * long start = System.nanoTime();
+ * doWork();
+ * histogram.record(System.nanoTime() - start);
+ *
+ * System.out.println(histogram.getPercentile(99.0, TimeUnit.MICROSECONDS) + "us at p99");
+ * ```
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one latency. Negative values are recorded as zero.
+     *
+     * @param nanos The latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Gets the number of recorded values
+     * @return Recorded value count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the mean of the recorded values
+     * @param unit The unit of the result
+     * @return Mean latency, or 0 if nothing was recorded
+     */
+    public double getMean(TimeUnit unit) {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n / unit.toNanos(1);
+    }
+
+    /**
+     * Gets the largest recorded value
+     * @param unit The unit of the result
+     * @return Maximum latency
+     */
+    public long getMax(TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the value below which the given percentage of recorded values
+     * fall. The result is the upper bound of the matching bucket, capped at
+     * the recorded maximum.
+     *
+     * Example usage:
+     * ```java
+     * long p50 = histogram.getPercentile(50.0, TimeUnit.MILLISECONDS);
+     * long p999 = histogram.getPercentile(99.9, TimeUnit.MILLISECONDS);
+     * ```
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @param unit The unit of the result
+     * @return Latency at the percentile, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile, TimeUnit unit) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                long nanos = Math.min(upperBoundOf(bucket), max.get());
+                return unit.convert(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        return getMax(unit);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.1fus, p50=%dus, p99=%dus, max=%dus",
+                getCount(), getMean(TimeUnit.MICROSECONDS),
+                getPercentile(50, TimeUnit.MICROSECONDS), getPercentile(99, TimeUnit.MICROSECONDS),
+                getMax(TimeUnit.MICROSECONDS));
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,179 @@
+package com.java.features.java8.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A process-wide timer for delays and timeouts on CompletableFuture.
+ *
+ * Creating a ScheduledExecutorService per call costs a thread per call.
+ * This class instead keeps one daemon ScheduledThreadPoolExecutor for the
+ * whole JVM, with the remove-on-cancel policy enabled so that timers
+ * cancelled early (the common case for timeouts) do not linger in the
+ * queue until their deadline.
+ *
+ * Key features:
+ * - Zero thread creation per scheduled delay or timeout
+ * - Timeouts cancel the losing future, and completions cancel the timer
+ * - Counters for pending, fired and cancelled timers
+ *
+ * Example usage:
+ * ```java
+ * SharedTimer timer = SharedTimer.getInstance();
+ *
+ * // Complete with a fallback value if the work takes longer than 2 seconds
+ * CompletableFuture<String> result =
+ *     timer.withTimeout(slowLookup(), "fallback", 2, TimeUnit.SECONDS);
+ *
+ * // A future that completes after a delay
+ * CompletableFuture<String> later = timer.completeAfter("done", 1, TimeUnit.SECONDS);
+ * ```
+ *
+ * Java 9 added {@code completeOnTimeout} and {@code orTimeout} to
+ * CompletableFuture, which use a similar shared delayer internally.
+ *
+ * @see java.util.concurrent.ScheduledThreadPoolExecutor#setRemoveOnCancelPolicy(boolean)
+ */
+public final class SharedTimer {
+
+    private static final SharedTimer INSTANCE = new SharedTimer();
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final LongAdder firedTimers = new LongAdder();
+    private final LongAdder cancelledTimers = new LongAdder();
+    private final LongAdder cancelledFutures = new LongAdder();
+
+    private SharedTimer() {
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "shared-timer");
+            thread.setDaemon(true);
+            return thread;
+        };
+        scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Returns the JVM-wide timer instance.
+     *
+     * @return The shared timer
+     */
+    public static SharedTimer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a future that completes with the given value after a delay.
+     * Cancelling the returned future cancels the underlying timer.
+     *
+     * Example usage:
+     * ```java
+     * CompletableFuture<String> future = timer.completeAfter("ready", 2, TimeUnit.SECONDS);
+     * future.thenAccept(System.out::println);  // Prints "ready" after 2 seconds
+     * ```
+     *
+     * @param value The value to complete with
+     * @param delay The delay before completion
+     * @param unit The unit of the delay
+     * @param <T> The value type
+     * @return A future completing after the delay
+     */
+    public <T> CompletableFuture<T> completeAfter(T value, long delay, TimeUnit unit) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        ScheduledFuture<?> timer = scheduler.schedule(() -> {
+            firedTimers.increment();
+            future.complete(value);
+        }, delay, unit);
+        future.whenComplete((result, error) -> cancelTimer(timer));
+        return future;
+    }
+
+    /**
+     * Races a future against a timeout.
+     *
+     * Whichever side finishes first decides the result. If the timeout wins,
+     * the original future is cancelled so that cancellation-aware work can
+     * stop; if the future wins, the timer is cancelled and removed from the
+     * scheduler queue immediately.
+     *
+     * Example usage:
+     * ```java
+     * CompletableFuture<String> result =
+     *     timer.withTimeout(fetchQuote(), "No quote", 500, TimeUnit.MILLISECONDS);
+     * ```
+     *
+     * @param future The future to race
+     * @param timeoutValue The value used when the timeout wins
+     * @param timeout The timeout duration
+     * @param unit The unit of the timeout
+     * @param <T> The value type
+     * @return A future holding either the original result or the timeout value
+     */
+    public <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future, T timeoutValue,
+                                                long timeout, TimeUnit unit) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean timedOut = new AtomicBoolean();
+        ScheduledFuture<?> timer = scheduler.schedule(() -> {
+            firedTimers.increment();
+            if (!future.isDone() && timedOut.compareAndSet(false, true)) {
+                // Cancel before completing, so callers woken by the result see the loser cancelled
+                if (future.cancel(true)) {
+                    cancelledFutures.increment();
+                }
+                result.complete(timeoutValue);
+            }
+        }, timeout, unit);
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else if (!(timedOut.get() && future.isCancelled())) {
+                result.completeExceptionally(error);
+            }
+            cancelTimer(timer);
+        });
+        return result;
+    }
+
+    private void cancelTimer(ScheduledFuture<?> timer) {
+        if (timer.cancel(false)) {
+            cancelledTimers.increment();
+        }
+    }
+
+    /**
+     * Gets the number of timers waiting to fire
+     * @return Pending timer count
+     */
+    public int getPendingTimers() {
+        return scheduler.getQueue().size();
+    }
+
+    /**
+     * Gets the number of timers that fired since startup
+     * @return Fired timer count
+     */
+    public long getFiredTimers() {
+        return firedTimers.sum();
+    }
+
+    /**
+     * Gets the number of timers cancelled before firing since startup
+     * @return Cancelled timer count
+     */
+    public long getCancelledTimers() {
+        return cancelledTimers.sum();
+    }
+
+    /**
+     * Gets the number of futures cancelled because their timeout won
+     * @return Cancelled future count
+     */
+    public long getCancelledFutures() {
+        return cancelledFutures.sum();
+    }
+}
@@ -0,0 +1,349 @@
+package com.java.features.java8.datetime;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAdjuster;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A business-day calendar answering "N business days after" and "business
+ * days between" in constant time.
+ *
+ * Walking with {@code plusDays} and {@code getDayOfWeek} costs one step per
+ * calendar day. Here every day of a fixed range of years is one bit of a
+ * bitmap, set for business days, and a rank table stores the number of
+ * business days before each 64-day word:
+ * - Counting business days before a date is a table lookup plus a
+ *   {@code Long.bitCount} of one partial word
+ * - Finding the k-th business day starts from a sampled position (every
+ *   64th business day) and scans at most a few words, then selects the bit
+ *   inside the word
+ *
+ * The calendar is immutable and thread-safe. Holidays can be loaded from a
+ * text file with one ISO date per line; blank lines and lines starting
+ * with {@code #} are ignored.
+ *
+ * Example usage:
+ * ```java
+ * BusinessCalendar calendar = BusinessCalendar.load(Paths.get("holidays.txt"), 2000, 2050);
+ *
+ * LocalDate settlement = calendar.plusBusinessDays(tradeDate, 2);      // T+2
+ * long days = calendar.businessDaysBetween(start, end);
+ * LocalDate next = tradeDate.with(calendar.nextBusinessDay());
+ * ```
+ *
+ * @see java.time.temporal.TemporalAdjusters
+ */
+public final class BusinessCalendar {
+
+    private static final int SAMPLE_SHIFT = 6;
+
+    private final int firstYear;
+    private final int lastYear;
+    private final long firstEpochDay;
+    private final int days;
+    private final long[] words;
+    private final int[] rank;
+    private final int[] selectSamples;
+    private final int businessDays;
+
+    /**
+     * Creates a calendar with Saturday and Sunday as the weekend.
+     *
+     * @param firstYear First year covered
+     * @param lastYear Last year covered, inclusive
+     * @param holidays Non-business days besides weekends; dates outside the range are ignored
+     */
+    public BusinessCalendar(int firstYear, int lastYear, Collection<LocalDate> holidays) {
+        this(firstYear, lastYear, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), holidays);
+    }
+
+    /**
+     * Creates a calendar.
+     *
+     * @param firstYear First year covered
+     * @param lastYear Last year covered, inclusive
+     * @param weekend Days of the week that are never business days
+     * @param holidays Non-business days besides weekends; dates outside the range are ignored
+     */
+    public BusinessCalendar(int firstYear, int lastYear, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        if (lastYear < firstYear) {
+            throw new IllegalArgumentException("Empty year range: " + firstYear + " to " + lastYear);
+        }
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.firstEpochDay = LocalDate.of(firstYear, 1, 1).toEpochDay();
+        this.days = Math.toIntExact(LocalDate.of(lastYear + 1, 1, 1).toEpochDay() - firstEpochDay);
+        this.words = new long[(days + 63) >>> 6];
+
+        boolean[] workingDay = new boolean[7];
+        for (DayOfWeek day : DayOfWeek.values()) {
+            workingDay[day.ordinal()] = !weekend.contains(day);
+        }
+        int firstDayOfWeek = LocalDate.ofEpochDay(firstEpochDay).getDayOfWeek().ordinal();
+        for (int offset = 0; offset < days; offset++) {
+            if (workingDay[(firstDayOfWeek + offset) % 7]) {
+                words[offset >>> 6] |= 1L << offset;
+            }
+        }
+        for (LocalDate holiday : holidays) {
+            long offset = holiday.toEpochDay() - firstEpochDay;
+            if (offset >= 0 && offset < days) {
+                words[(int) (offset >>> 6)] &= ~(1L << offset);
+            }
+        }
+
+        this.rank = new int[words.length + 1];
+        for (int w = 0; w < words.length; w++) {
+            rank[w + 1] = rank[w] + Long.bitCount(words[w]);
+        }
+        this.businessDays = rank[words.length];
+
+        // selectSamples[j] is the word holding business day number (j << SAMPLE_SHIFT) + 1
+        this.selectSamples = new int[(businessDays >>> SAMPLE_SHIFT) + 1];
+        int w = 0;
+        for (int j = 0; j < selectSamples.length; j++) {
+            int k = (j << SAMPLE_SHIFT) + 1;
+            while (w < words.length - 1 && rank[w + 1] < k) {
+                w++;
+            }
+            selectSamples[j] = w;
+        }
+    }
+
+    /**
+     * Creates a calendar with Saturday and Sunday as the weekend and the
+     * holidays listed in a file.
+     *
+     * Example file:
+     * ```
+     * # New Year's Day
+     * 2024-01-01
+     * 2024-12-25
+     * ```
+     *
+     * @param holidayFile UTF-8 file with one ISO date (yyyy-MM-dd) per line
+     * @param firstYear First year covered
+     * @param lastYear Last year covered, inclusive
+     * @return The calendar
+     * @throws IOException if the file cannot be read
+     * @throws DateTimeParseException if a line is not a date
+     */
+    public static BusinessCalendar load(Path holidayFile, int firstYear, int lastYear) throws IOException {
+        List<LocalDate> holidays = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(holidayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    holidays.add(LocalDate.parse(line));
+                }
+            }
+        }
+        return new BusinessCalendar(firstYear, lastYear, holidays);
+    }
+
+    /**
+     * Checks whether a date is a business day.
+     *
+     * @param date A date within the calendar's years
+     * @return true unless the date is a weekend day or a holiday
+     * @throws DateTimeException if the date is outside the calendar's years
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        int offset = offsetOf(date);
+        return (words[offset >>> 6] & (1L << offset)) != 0;
+    }
+
+    /**
+     * Moves a date by a number of business days. For a positive amount the
+     * result is the n-th business day after the date, for a negative amount
+     * the n-th business day before it; the date itself need not be a
+     * business day. An amount of 0 returns the date unchanged.
+     *
+     * Example usage:
+     * ```java
+     * // Friday 2024-01-12 plus 1 business day is Monday 2024-01-15
+     * calendar.plusBusinessDays(LocalDate.of(2024, 1, 12), 1);
+     * ```
+     *
+     * @param date The start date
+     * @param businessDaysToAdd Business days to move, may be negative
+     * @return The resulting business day
+     * @throws DateTimeException if the date or the result is outside the calendar's years
+     */
+    public LocalDate plusBusinessDays(LocalDate date, long businessDaysToAdd) {
+        int offset = offsetOf(date);
+        if (businessDaysToAdd == 0) {
+            return date;
+        }
+        // Business days up to and including the date
+        long upToDate = countBefore(offset + 1);
+        long k;
+        if (Math.abs(businessDaysToAdd) > businessDays) {
+            k = -1;
+        } else if (businessDaysToAdd > 0) {
+            k = upToDate + businessDaysToAdd;
+        } else {
+            boolean business = (words[offset >>> 6] & (1L << offset)) != 0;
+            k = upToDate + businessDaysToAdd + (business ? 0 : 1);
+        }
+        if (k < 1 || k > businessDays) {
+            throw new DateTimeException(date + " plus " + businessDaysToAdd
+                    + " business days is outside " + firstYear + " to " + lastYear);
+        }
+        return LocalDate.ofEpochDay(firstEpochDay + select((int) k));
+    }
+
+    /**
+     * Counts the business days from a start date, inclusive, to an end date,
+     * exclusive, like {@code ChronoUnit.DAYS.between}; negative if the end
+     * is before the start.
+     *
+     * @param startInclusive The first date counted
+     * @param endExclusive The date after the last date counted
+     * @return The number of business days
+     * @throws DateTimeException if a date is outside the calendar's years
+     */
+    public long businessDaysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+        return countBefore(boundaryOf(endExclusive)) - countBefore(boundaryOf(startInclusive));
+    }
+
+    /**
+     * Counts the business days of a year.
+     *
+     * @param year A year within the calendar's range
+     * @return The number of business days
+     */
+    public int businessDaysInYear(int year) {
+        if (year < firstYear || year > lastYear) {
+            throw new DateTimeException("Year " + year + " is outside " + firstYear + " to " + lastYear);
+        }
+        int start = (int) (LocalDate.of(year, 1, 1).toEpochDay() - firstEpochDay);
+        int end = (int) (LocalDate.of(year + 1, 1, 1).toEpochDay() - firstEpochDay);
+        return countBefore(end) - countBefore(start);
+    }
+
+    /**
+     * Returns an adjuster to the next business day after the date.
+     *
+     * Example usage:
+     * ```java
+     * LocalDateTime next = dateTime.with(calendar.nextBusinessDay());  // Time of day is kept
+     * ```
+     *
+     * @return The adjuster
+     */
+    public TemporalAdjuster nextBusinessDay() {
+        return plusBusinessDaysAdjuster(1);
+    }
+
+    /**
+     * Returns an adjuster to the last business day before the date.
+     *
+     * @return The adjuster
+     */
+    public TemporalAdjuster previousBusinessDay() {
+        return plusBusinessDaysAdjuster(-1);
+    }
+
+    /**
+     * Returns an adjuster to the date itself if it is a business day, else
+     * to the next business day, the usual "following" roll convention.
+     *
+     * @return The adjuster
+     */
+    public TemporalAdjuster nextOrSameBusinessDay() {
+        return temporal -> {
+            LocalDate date = LocalDate.from(temporal);
+            LocalDate adjusted = isBusinessDay(date) ? date : plusBusinessDays(date, 1);
+            return temporal.with(ChronoField.EPOCH_DAY, adjusted.toEpochDay());
+        };
+    }
+
+    /**
+     * Returns an adjuster moving a date by a number of business days, as
+     * {@link #plusBusinessDays(LocalDate, long)} does.
+     *
+     * @param businessDaysToAdd Business days to move, may be negative
+     * @return The adjuster
+     */
+    public TemporalAdjuster plusBusinessDaysAdjuster(long businessDaysToAdd) {
+        return temporal -> temporal.with(ChronoField.EPOCH_DAY,
+                plusBusinessDays(LocalDate.from(temporal), businessDaysToAdd).toEpochDay());
+    }
+
+    /**
+     * Gets the first year covered
+     * @return First year
+     */
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * Gets the last year covered
+     * @return Last year, inclusive
+     */
+    public int getLastYear() {
+        return lastYear;
+    }
+
+    private int offsetOf(LocalDate date) {
+        long offset = date.toEpochDay() - firstEpochDay;
+        if (offset < 0 || offset >= days) {
+            throw new DateTimeException(date + " is outside " + firstYear + " to " + lastYear);
+        }
+        return (int) offset;
+    }
+
+    /**
+     * Like offsetOf, but also accepts January 1 after the last year as an exclusive end
+     */
+    private int boundaryOf(LocalDate date) {
+        long offset = date.toEpochDay() - firstEpochDay;
+        if (offset < 0 || offset > days) {
+            throw new DateTimeException(date + " is outside " + firstYear + " to " + lastYear);
+        }
+        return (int) offset;
+    }
+
+    /**
+     * Rank: business days at offsets below the given one
+     */
+    private int countBefore(int offset) {
+        int word = offset >>> 6;
+        int bit = offset & 63;
+        if (bit == 0) {
+            return rank[word];
+        }
+        return rank[word] + Long.bitCount(words[word] & ((1L << bit) - 1));
+    }
+
+    /**
+     * Select: offset of the k-th business day, counting from 1
+     */
+    private int select(int k) {
+        int word = selectSamples[(k - 1) >>> SAMPLE_SHIFT];
+        while (rank[word + 1] < k) {
+            word++;
+        }
+        long bits = words[word];
+        for (int skip = k - rank[word] - 1; skip > 0; skip--) {
+            bits &= bits - 1;
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+}
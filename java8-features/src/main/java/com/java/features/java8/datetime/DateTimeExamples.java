@@ -154,25 +154,28 @@ public class DateTimeExamples {
 
     /**
      * Demonstrates date and time formatting.
-     * DateTimeFormatter provides thread-safe formatting and parsing.
+     * DateTimeFormatter provides thread-safe formatting and parsing, so a
+     * formatter built from a pattern can be shared; FormatterRegistry
+     * compiles each pattern once instead of on every call.
      * 
      * @param dateTime The date-time to format
      * @return A formatted string representation
+     * @see IsoTimestampFormatter for high-volume ISO-8601 timestamps
      */
     public static String formatDateTime(LocalDateTime dateTime) {
         // Predefined formatters
         String iso = dateTime.format(DateTimeFormatter.ISO_DATE_TIME);
         
         // Custom formatters
-        DateTimeFormatter custom = DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy 'at' HH:mm");
+        DateTimeFormatter custom = FormatterRegistry.ofPattern("EEEE, MMMM d, yyyy 'at' HH:mm");
         String formatted = dateTime.format(custom);
         
         // Localized formatters
-        DateTimeFormatter localized = DateTimeFormatter.ofPattern("dd-MMM-yyyy");
+        DateTimeFormatter localized = FormatterRegistry.ofPattern("dd-MMM-yyyy");
         String localDate = dateTime.format(localized);
         
-        return String.format("ISO: %s%nCustom: %s%nLocalized: %s",
-                iso, formatted, localDate);
+        String newline = System.lineSeparator();
+        return "ISO: " + iso + newline + "Custom: " + formatted + newline + "Localized: " + localDate;
     }
 
     /**
@@ -199,6 +202,31 @@ public class DateTimeExamples {
                 firstDay, lastDay, nextMonday, firstDayNextYear);
     }
 
+    /**
+     * Demonstrates custom temporal adjusters for business-day arithmetic.
+     * A BusinessCalendar answers business-day questions with bitmap lookups
+     * instead of walking the calendar day by day.
+     * 
+     * @param date The date to adjust
+     * @param calendar The business calendar covering the date
+     * @return A formatted string containing adjusted dates
+     */
+    public static String demonstrateAdjusters(LocalDate date, BusinessCalendar calendar) {
+        // Next and previous business day
+        LocalDate nextBusinessDay = date.with(calendar.nextBusinessDay());
+        LocalDate previousBusinessDay = date.with(calendar.previousBusinessDay());
+        
+        // Settlement two business days later (T+2)
+        LocalDate settlement = date.with(calendar.plusBusinessDaysAdjuster(2));
+        
+        // Business days left in the month
+        long remaining = calendar.businessDaysBetween(date,
+                date.with(TemporalAdjusters.firstDayOfNextMonth()));
+        
+        return String.format("Next business day: %s%nPrevious business day: %s%nT+2 settlement: %s%nBusiness days left in month: %d",
+                nextBusinessDay, previousBusinessDay, settlement, remaining);
+    }
+
     /**
      * Demonstrates instant operations for machine-based time.
      * Instant represents a point in time on the timeline (epoch-based).
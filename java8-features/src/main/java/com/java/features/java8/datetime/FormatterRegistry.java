@@ -0,0 +1,89 @@
+package com.java.features.java8.datetime;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches DateTimeFormatters by pattern and locale.
+ *
+ * {@code DateTimeFormatter.ofPattern} parses the pattern and builds a
+ * chain of printer-parsers on every call. DateTimeFormatter is immutable
+ * and thread-safe, so one instance per pattern and locale can be shared by
+ * every caller; this registry creates it on first use and returns the same
+ * instance afterwards, without allocating on a hit.
+ *
+ * The registry is meant for a fixed set of patterns from code or
+ * configuration. Past {@value #MAX_FORMATTERS} formatters, new patterns are
+ * compiled on every call instead of being cached, so patterns built from
+ * input cannot grow it without bound.
+ *
+ * Example usage:
+ * ```java
+ * // Same as DateTimeFormatter.ofPattern("dd-MMM-yyyy"), compiled once
+ * String date = dateTime.format(FormatterRegistry.ofPattern("dd-MMM-yyyy"));
+ *
+ * String french = dateTime.format(FormatterRegistry.ofPattern("EEEE d MMMM", Locale.FRENCH));
+ * ```
+ *
+ * @see DateTimeFormatter#ofPattern(String, Locale)
+ */
+public final class FormatterRegistry {
+
+    /**
+     * Maximum number of cached formatters
+     */
+    private static final int MAX_FORMATTERS = 1024;
+
+    // Locale first, so a lookup needs no composite key object
+    private static final ConcurrentMap<Locale, ConcurrentMap<String, DateTimeFormatter>> FORMATTERS =
+            new ConcurrentHashMap<>();
+    private static final AtomicInteger SIZE = new AtomicInteger();
+
+    private FormatterRegistry() {
+    }
+
+    /**
+     * Returns the formatter for a pattern in the default formatting locale,
+     * like {@link DateTimeFormatter#ofPattern(String)}.
+     *
+     * @param pattern The pattern, as for {@code DateTimeFormatter.ofPattern}
+     * @return The shared formatter
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter ofPattern(String pattern) {
+        return ofPattern(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Returns the formatter for a pattern and locale.
+     *
+     * @param pattern The pattern, as for {@code DateTimeFormatter.ofPattern}
+     * @param locale The locale for text fields such as month names
+     * @return The shared formatter
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter ofPattern(String pattern, Locale locale) {
+        Objects.requireNonNull(pattern, "pattern");
+        ConcurrentMap<String, DateTimeFormatter> byPattern = FORMATTERS.get(locale);
+        if (byPattern == null) {
+            byPattern = FORMATTERS.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
+        }
+        DateTimeFormatter formatter = byPattern.get(pattern);
+        if (formatter != null) {
+            return formatter;
+        }
+        formatter = DateTimeFormatter.ofPattern(pattern, locale);
+        if (SIZE.get() < MAX_FORMATTERS) {
+            DateTimeFormatter existing = byPattern.putIfAbsent(pattern, formatter);
+            if (existing != null) {
+                return existing;
+            }
+            SIZE.incrementAndGet();
+        }
+        return formatter;
+    }
+}
@@ -0,0 +1,306 @@
+package com.java.features.java8.datetime;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats and parses ISO-8601 timestamps with millisecond precision, such
+ * as {@code 2024-01-15T10:30:05.123} and {@code 2024-01-15T10:30:05.123Z},
+ * for log-style workloads.
+ *
+ * The output is that of the pattern {@code uuuu-MM-dd'T'HH:mm:ss.SSS}
+ * (with {@code 'Z'} and UTC for an Instant). Consecutive timestamps in a
+ * log mostly share their second, so the formatted
+ * {@code yyyy-MM-ddTHH:mm:ss} prefix of the last second is cached and only
+ * the milliseconds are written per call. Output goes to a caller-supplied
+ * StringBuilder or byte array, so a reused buffer makes formatting
+ * allocation-free within a second.
+ *
+ * Parsing reads the same fixed layout digit by digit, and falls back to
+ * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} or
+ * {@link DateTimeFormatter#ISO_INSTANT} for any other ISO-8601 form.
+ *
+ * Instances are thread-safe. Threads formatting unrelated timestamps keep
+ * replacing each other's cached second, so hot threads do better with an
+ * instance each.
+ *
+ * Example usage:
+ * ```java
+ * IsoTimestampFormatter formatter = new IsoTimestampFormatter();
+ * StringBuilder line = new StringBuilder(256);
+ *
+ * line.setLength(0);
+ * formatter.formatTo(Instant.now(), line).append(' ').append(message);
+ *
+ * Instant parsed = formatter.parseInstant("2024-01-15T10:30:05.123Z");
+ * ```
+ */
+public final class IsoTimestampFormatter {
+
+    /**
+     * Longest output of a format call, for sizing byte buffers; timestamps
+     * in years 0 to 9999 take 23 bytes, or 24 with the zone
+     */
+    public static final int MAX_LENGTH = 32;
+
+    private static final int PREFIX_LENGTH = 19;
+    private static final int LOCAL_LENGTH = 23;
+    private static final int INSTANT_LENGTH = 24;
+    private static final long MIN_FAST_SECOND = LocalDateTime.of(0, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final long MAX_FAST_SECOND = LocalDateTime.of(9999, 12, 31, 23, 59, 59).toEpochSecond(ZoneOffset.UTC);
+
+    private static final DateTimeFormatter LOCAL = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS");
+    private static final DateTimeFormatter INSTANT =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+    private volatile Second lastSecond = new Second(MIN_FAST_SECOND);
+
+    /**
+     * Appends a local date-time, e.g. {@code 2024-01-15T10:30:05.123}.
+     *
+     * @param dateTime The date-time to format; digits below the millisecond are dropped
+     * @param out The builder to append to
+     * @return The builder
+     */
+    public StringBuilder formatTo(LocalDateTime dateTime, StringBuilder out) {
+        long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        if (epochSecond < MIN_FAST_SECOND || epochSecond > MAX_FAST_SECOND) {
+            return out.append(LOCAL.format(dateTime));
+        }
+        out.append(second(epochSecond).text).append('.');
+        appendMillis(dateTime.getNano() / 1_000_000, out);
+        return out;
+    }
+
+    /**
+     * Appends an instant in UTC, e.g. {@code 2024-01-15T10:30:05.123Z}.
+     *
+     * @param instant The instant to format; digits below the millisecond are dropped
+     * @param out The builder to append to
+     * @return The builder
+     */
+    public StringBuilder formatTo(Instant instant, StringBuilder out) {
+        long epochSecond = instant.getEpochSecond();
+        if (epochSecond < MIN_FAST_SECOND || epochSecond > MAX_FAST_SECOND) {
+            return out.append(INSTANT.format(instant));
+        }
+        out.append(second(epochSecond).text).append('.');
+        appendMillis(instant.getNano() / 1_000_000, out);
+        return out.append('Z');
+    }
+
+    /**
+     * Writes a local date-time as ASCII bytes.
+     *
+     * @param dateTime The date-time to format
+     * @param buffer The buffer to write to, with {@link #MAX_LENGTH} bytes free at the offset
+     * @param offset Where to start writing
+     * @return The offset after the last byte written
+     */
+    public int formatTo(LocalDateTime dateTime, byte[] buffer, int offset) {
+        long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        if (epochSecond < MIN_FAST_SECOND || epochSecond > MAX_FAST_SECOND) {
+            return writeAscii(LOCAL.format(dateTime), buffer, offset);
+        }
+        return writeMillis(epochSecond, dateTime.getNano(), buffer, offset);
+    }
+
+    /**
+     * Writes an instant in UTC as ASCII bytes.
+     *
+     * @param instant The instant to format
+     * @param buffer The buffer to write to, with {@link #MAX_LENGTH} bytes free at the offset
+     * @param offset Where to start writing
+     * @return The offset after the last byte written
+     */
+    public int formatTo(Instant instant, byte[] buffer, int offset) {
+        long epochSecond = instant.getEpochSecond();
+        if (epochSecond < MIN_FAST_SECOND || epochSecond > MAX_FAST_SECOND) {
+            return writeAscii(INSTANT.format(instant), buffer, offset);
+        }
+        int end = writeMillis(epochSecond, instant.getNano(), buffer, offset);
+        buffer[end] = 'Z';
+        return end + 1;
+    }
+
+    /**
+     * Formats a local date-time to a new string.
+     *
+     * @param dateTime The date-time to format
+     * @return The timestamp, e.g. {@code 2024-01-15T10:30:05.123}
+     */
+    public String format(LocalDateTime dateTime) {
+        return formatTo(dateTime, new StringBuilder(LOCAL_LENGTH)).toString();
+    }
+
+    /**
+     * Formats an instant in UTC to a new string.
+     *
+     * @param instant The instant to format
+     * @return The timestamp, e.g. {@code 2024-01-15T10:30:05.123Z}
+     */
+    public String format(Instant instant) {
+        return formatTo(instant, new StringBuilder(INSTANT_LENGTH)).toString();
+    }
+
+    /**
+     * Parses a local date-time.
+     *
+     * @param text {@code yyyy-MM-ddTHH:mm:ss.SSS}, or any form accepted by
+     *             {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}
+     * @return The parsed date-time
+     * @throws java.time.format.DateTimeParseException if the text cannot be parsed
+     */
+    public LocalDateTime parseLocalDateTime(CharSequence text) {
+        if (text.length() == LOCAL_LENGTH && hasFixedLayout(text)) {
+            try {
+                return toLocalDateTime(text);
+            } catch (DateTimeException e) {
+                // Out-of-range field; let the formatter report it
+            }
+        }
+        return LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    /**
+     * Parses an instant.
+     *
+     * @param text {@code yyyy-MM-ddTHH:mm:ss.SSSZ}, or any form accepted by
+     *             {@link DateTimeFormatter#ISO_INSTANT}
+     * @return The parsed instant
+     * @throws java.time.format.DateTimeParseException if the text cannot be parsed
+     */
+    public Instant parseInstant(CharSequence text) {
+        if (text.length() == INSTANT_LENGTH && text.charAt(LOCAL_LENGTH) == 'Z' && hasFixedLayout(text)) {
+            try {
+                return toLocalDateTime(text).toInstant(ZoneOffset.UTC);
+            } catch (DateTimeException e) {
+                // Out-of-range field; let the formatter report it
+            }
+        }
+        return DateTimeFormatter.ISO_INSTANT.parse(text, Instant::from);
+    }
+
+    private Second second(long epochSecond) {
+        Second second = lastSecond;
+        if (second.epochSecond != epochSecond) {
+            second = new Second(epochSecond);
+            lastSecond = second;
+        }
+        return second;
+    }
+
+    private int writeMillis(long epochSecond, int nano, byte[] buffer, int offset) {
+        byte[] prefix = second(epochSecond).bytes;
+        System.arraycopy(prefix, 0, buffer, offset, PREFIX_LENGTH);
+        int millis = nano / 1_000_000;
+        buffer[offset + 19] = '.';
+        buffer[offset + 20] = (byte) ('0' + millis / 100);
+        buffer[offset + 21] = (byte) ('0' + millis / 10 % 10);
+        buffer[offset + 22] = (byte) ('0' + millis % 10);
+        return offset + LOCAL_LENGTH;
+    }
+
+    private static void appendMillis(int millis, StringBuilder out) {
+        out.append((char) ('0' + millis / 100))
+                .append((char) ('0' + millis / 10 % 10))
+                .append((char) ('0' + millis % 10));
+    }
+
+    private static int writeAscii(String text, byte[] buffer, int offset) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer[offset + i] = (byte) text.charAt(i);
+        }
+        return offset + text.length();
+    }
+
+    private static boolean hasFixedLayout(CharSequence text) {
+        for (int i = 0; i < LOCAL_LENGTH; i++) {
+            char c = text.charAt(i);
+            switch (i) {
+                case 4:
+                case 7:
+                    if (c != '-') {
+                        return false;
+                    }
+                    break;
+                case 10:
+                    if (c != 'T') {
+                        return false;
+                    }
+                    break;
+                case 13:
+                case 16:
+                    if (c != ':') {
+                        return false;
+                    }
+                    break;
+                case 19:
+                    if (c != '.') {
+                        return false;
+                    }
+                    break;
+                default:
+                    if (c < '0' || c > '9') {
+                        return false;
+                    }
+            }
+        }
+        return true;
+    }
+
+    private static LocalDateTime toLocalDateTime(CharSequence text) {
+        return LocalDateTime.of(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2),
+                digits(text, 11, 2), digits(text, 14, 2), digits(text, 17, 2),
+                digits(text, 20, 3) * 1_000_000);
+    }
+
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * The formatted {@code yyyy-MM-ddTHH:mm:ss} of one epoch second.
+     */
+    private static final class Second {
+        final long epochSecond;
+        final String text;
+        final byte[] bytes;
+
+        Second(long epochSecond) {
+            this.epochSecond = epochSecond;
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+            char[] chars = new char[PREFIX_LENGTH];
+            write(dateTime.getYear(), 4, chars, 0);
+            chars[4] = '-';
+            write(dateTime.getMonthValue(), 2, chars, 5);
+            chars[7] = '-';
+            write(dateTime.getDayOfMonth(), 2, chars, 8);
+            chars[10] = 'T';
+            write(dateTime.getHour(), 2, chars, 11);
+            chars[13] = ':';
+            write(dateTime.getMinute(), 2, chars, 14);
+            chars[16] = ':';
+            write(dateTime.getSecond(), 2, chars, 17);
+            this.text = new String(chars);
+            this.bytes = new byte[PREFIX_LENGTH];
+            for (int i = 0; i < PREFIX_LENGTH; i++) {
+                bytes[i] = (byte) chars[i];
+            }
+        }
+
+        private static void write(int value, int width, char[] chars, int offset) {
+            for (int i = offset + width - 1; i >= offset; i--) {
+                chars[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.java.features.java8.lambda;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A list collector that avoids copying elements once they are stored, with
+ * optional per-element and completion callbacks.
+ *
+ * {@code Collectors.toList()} accumulates into ArrayLists that start at
+ * ten elements and copy themselves each time they grow, and in a parallel
+ * stream every combine step copies the right list into the left one, so
+ * each element is copied about log2(forks) more times. This collector
+ * accumulates into a chain of array chunks instead: a full chunk is kept
+ * and a new, larger one is linked after it, and combining two partial
+ * results links the right chain after the left one in constant time. The
+ * result is a read-only random-access list over the chunks; chunks that
+ * are less than half full, such as the last one of each partial result,
+ * are copied down to their size, so the result never keeps more than
+ * twice its size in slots.
+ *
+ * Chunks start small and double in size. With a size hint they grow four
+ * times at a time instead, up to the expected number of elements split
+ * across the common pool's workers, so a stream whose size is known up
+ * front needs few chunks. The hint is only an upper bound for the chunk
+ * size: a filter that drops most elements does not make each partial
+ * result allocate its full share up front. Pass the source's
+ * {@link Spliterator#estimateSize()} with {@link #sizedFrom(Spliterator)}
+ * or a count with {@link #withExpectedSize(long)}.
+ *
+ * The callbacks of {@code LambdaExamples.CustomCollector} are kept: one
+ * runs for every element as it is accumulated, on whichever thread
+ * accumulates it, so it must be thread-safe in parallel streams; the other
+ * runs once, when the result is finished.
+ *
+ * Example usage:
+ * ```java
+ * List<Product> copy = products.parallelStream()
+ *     .collect(ChunkedListCollector.<Product>toList().sizedFrom(products.spliterator()));
+ *
+ * LongAdder seen = new LongAdder();
+ * List<Order> orders = stream.collect(ChunkedListCollector.of(
+ *     order -> seen.increment(),
+ *     () -> System.out.println("Collected " + seen + " orders")));
+ * ```
+ *
+ * @param <T> The element type
+ * @see java.util.stream.Collectors#toList()
+ */
+public final class ChunkedListCollector<T> implements Collector<T, ChunkedListCollector.Chunks<T>, List<T>> {
+
+    private static final int MIN_CHUNK = 16;
+    private static final int MAX_FIRST_CHUNK = 1 << 10;
+    private static final int MAX_CHUNK = 1 << 20;
+    private static final Consumer<Object> NO_ACTION = element -> { };
+    private static final Runnable NO_FINISH = () -> { };
+
+    private final Consumer<? super T> onAccept;
+    private final Runnable onFinish;
+    // Chunk size a partial result grows towards four times at a time; MIN_CHUNK without a hint
+    private final int targetChunk;
+
+    private ChunkedListCollector(Consumer<? super T> onAccept, Runnable onFinish, int targetChunk) {
+        this.onAccept = onAccept;
+        this.onFinish = onFinish;
+        this.targetChunk = targetChunk;
+    }
+
+    /**
+     * Returns a collector without callbacks or size hint.
+     *
+     * @param <T> The element type
+     * @return The collector
+     */
+    public static <T> ChunkedListCollector<T> toList() {
+        return new ChunkedListCollector<>(NO_ACTION, NO_FINISH, MIN_CHUNK);
+    }
+
+    /**
+     * Returns a collector calling back for every element and at the end,
+     * as {@code LambdaExamples.CustomCollector} does.
+     *
+     * @param onAccept Called with every element; must be thread-safe for parallel streams
+     * @param onFinish Called once, when the list is complete
+     * @param <T> The element type
+     * @return The collector
+     */
+    public static <T> ChunkedListCollector<T> of(Consumer<? super T> onAccept, Runnable onFinish) {
+        return new ChunkedListCollector<>(Objects.requireNonNull(onAccept, "onAccept"),
+                Objects.requireNonNull(onFinish, "onFinish"), MIN_CHUNK);
+    }
+
+    /**
+     * Returns a collector with the same callbacks, sized for a number of
+     * elements.
+     *
+     * @param expectedSize Expected number of elements; Long.MAX_VALUE if unknown
+     * @return A new collector
+     */
+    public ChunkedListCollector<T> withExpectedSize(long expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        long perFork = expectedSize == Long.MAX_VALUE ? MIN_CHUNK
+                : expectedSize / ((long) ForkJoinPool.getCommonPoolParallelism() << 2);
+        return new ChunkedListCollector<>(onAccept, onFinish, (int) Math.max(MIN_CHUNK, Math.min(perFork, MAX_CHUNK)));
+    }
+
+    /**
+     * Returns a collector with the same callbacks, sized for the elements
+     * of a stream source.
+     *
+     * @param source A spliterator over the source, e.g. {@code list.spliterator()}
+     * @return A new collector
+     */
+    public ChunkedListCollector<T> sizedFrom(Spliterator<?> source) {
+        return withExpectedSize(source.estimateSize());
+    }
+
+    @Override
+    public Supplier<Chunks<T>> supplier() {
+        int target = targetChunk;
+        return () -> new Chunks<>(target);
+    }
+
+    @Override
+    public BiConsumer<Chunks<T>, T> accumulator() {
+        if (onAccept == NO_ACTION) {
+            return Chunks::add;
+        }
+        return (chunks, element) -> {
+            onAccept.accept(element);
+            chunks.add(element);
+        };
+    }
+
+    @Override
+    public BinaryOperator<Chunks<T>> combiner() {
+        return Chunks::link;
+    }
+
+    @Override
+    public Function<Chunks<T>, List<T>> finisher() {
+        return chunks -> {
+            List<T> list = chunks.toList();
+            onFinish.run();
+            return list;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * The accumulation container: a singly linked chain of array chunks.
+     *
+     * @param <T> The element type
+     */
+    public static final class Chunks<T> {
+        private final int targetChunk;
+        private Chunk head;
+        private Chunk tail;
+        private long size;
+
+        Chunks(int targetChunk) {
+            this.targetChunk = targetChunk;
+            head = tail = new Chunk(Math.min(targetChunk, MAX_FIRST_CHUNK));
+        }
+
+        void add(T element) {
+            Chunk chunk = tail;
+            if (chunk.size == chunk.items.length) {
+                int length = chunk.items.length;
+                int next = length < targetChunk ? Math.min(length << 2, targetChunk) : Math.min(length << 1, MAX_CHUNK);
+                chunk = new Chunk(next);
+                tail.next = chunk;
+                tail = chunk;
+            }
+            chunk.items[chunk.size++] = element;
+            size++;
+        }
+
+        Chunks<T> link(Chunks<T> right) {
+            if (right.size == 0) {
+                return this;
+            }
+            if (size == 0) {
+                return right;
+            }
+            tail.next = right.head;
+            tail = right.tail;
+            size += right.size;
+            return this;
+        }
+
+        List<T> toList() {
+            if (size > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Too many elements for a List: " + size);
+            }
+            int count = 0;
+            for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+                if (chunk.size > 0) {
+                    count++;
+                }
+            }
+            Object[][] arrays = new Object[count][];
+            int[] offsets = new int[count + 1];
+            int i = 0;
+            for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+                if (chunk.size > 0) {
+                    // Trim mostly empty chunks, typically the last one of each partial result
+                    arrays[i] = chunk.size < chunk.items.length >>> 1
+                            ? Arrays.copyOf(chunk.items, chunk.size) : chunk.items;
+                    offsets[i + 1] = offsets[i] + chunk.size;
+                    i++;
+                }
+            }
+            return new ChunkedList<>(arrays, offsets);
+        }
+    }
+
+    private static final class Chunk {
+        final Object[] items;
+        int size;
+        Chunk next;
+
+        Chunk(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+
+    /**
+     * Gets the number of slots a list returned by this collector keeps alive
+     * @param list A list returned by the collector
+     * @return Total length of the list's chunk arrays
+     */
+    static long capacityOf(List<?> list) {
+        long capacity = 0;
+        for (Object[] items : ((ChunkedList<?>) list).arrays) {
+            capacity += items.length;
+        }
+        return capacity;
+    }
+
+    /**
+     * Read-only list over filled chunk arrays; offsets[i] is the index of
+     * the first element of arrays[i], and offsets[arrays.length] the size.
+     */
+    private static final class ChunkedList<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[][] arrays;
+        private final int[] offsets;
+
+        ChunkedList(Object[][] arrays, int[] offsets) {
+            this.arrays = arrays;
+            this.offsets = offsets;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            // Last chunk whose offset is <= index
+            int low = 0;
+            int high = arrays.length - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (offsets[mid] <= index) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return (T) arrays[low][index - offsets[low]];
+        }
+
+        @Override
+        public int size() {
+            return offsets[arrays.length];
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int chunk;
+                private int position;
+
+                @Override
+                public boolean hasNext() {
+                    return chunk < arrays.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if (chunk >= arrays.length) {
+                        throw new NoSuchElementException();
+                    }
+                    T element = (T) arrays[chunk][position++];
+                    if (position == offsets[chunk + 1] - offsets[chunk]) {
+                        chunk++;
+                        position = 0;
+                    }
+                    return element;
+                }
+            };
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(Consumer<? super T> action) {
+            for (int i = 0; i < arrays.length; i++) {
+                Object[] items = arrays[i];
+                int length = offsets[i + 1] - offsets[i];
+                for (int j = 0; j < length; j++) {
+                    action.accept((T) items[j]);
+                }
+            }
+        }
+    }
+}
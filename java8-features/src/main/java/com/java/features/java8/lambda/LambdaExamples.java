@@ -1,3 +1,25 @@
+package com.java.features.java8.lambda;
+
+import com.java.features.java8.streams.Aggregations;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
 /**
  * Demonstrates Lambda expressions and functional interfaces introduced in Java 8.
  * This class showcases various ways to use lambda expressions for more
@@ -140,12 +162,26 @@ public class LambdaExamples {
 
     // Domain classes for examples
     static class Product {
+        static final Currency CURRENCY = Currency.getInstance("USD");
+
         private String name;
-        private BigDecimal price;
+        // Minor units, so that aggregating prices does not allocate
+        private Money price;
         private String category;
         private LocalDate expiryDate;
 
+        /**
+         * Creates a product priced in {@link #CURRENCY}. The price is rounded
+         * half-even to cents, so {@code getPrice()} returns it with two
+         * decimal places: 1.999 becomes 2.00 and 2 becomes 2.00. A null
+         * price is kept as null.
+         */
         public Product(String name, BigDecimal price, String category, LocalDate expiryDate) {
+            this(name, price == null ? null : Money.of(price, CURRENCY, RoundingMode.HALF_EVEN),
+                    category, expiryDate);
+        }
+
+        public Product(String name, Money price, String category, LocalDate expiryDate) {
             this.name = name;
             this.price = price;
             this.category = category;
@@ -154,7 +190,8 @@ public class LambdaExamples {
 
         // Getters
         public String getName() { return name; }
-        public BigDecimal getPrice() { return price; }
+        public BigDecimal getPrice() { return price == null ? null : price.toBigDecimal(); }
+        public Money getPriceAsMoney() { return price; }
         public String getCategory() { return category; }
         public LocalDate getExpiryDate() { return expiryDate; }
     }
@@ -199,6 +236,21 @@ public class LambdaExamples {
         public List<T> getItems() {
             return items;
         }
+
+        /**
+         * Returns a stream collector with the same callbacks. Unlike accept,
+         * it can be used from parallel streams; the accumulator callback
+         * then runs on several threads.
+         *
+         * Sample usage:
+         * ```java
+         * List<String> items = words.parallelStream()
+         *     .collect(collector.asCollector().sizedFrom(words.spliterator()));
+         * ```
+         */
+        public ChunkedListCollector<T> asCollector() {
+            return ChunkedListCollector.of(accumulator, finisher);
+        }
     }
 
     /**
@@ -298,6 +350,30 @@ public class LambdaExamples {
                     .map(transformer)
                     .collect(Collectors.partitioningBy(predicate));
         }
+
+        /**
+         * Computes several reductions, groupings and partitions of the same
+         * items in one parallel pass, instead of one stream per method above.
+         *
+         * Sample usage:
+         * ```java
+         * List<String> words = Arrays.asList("hello", "hi", "world");
+         * Aggregations<String> report = Aggregations.create();
+         * Aggregations.Aggregate<Optional<String>> joined = report.reduce(str -> true, String::concat);
+         * Aggregations.Aggregate<Map<Integer, List<String>>> byLength =
+         *     report.groupBy(String::length, String::toUpperCase);
+         *
+         * Aggregations.Results results = aggregate(words, report);
+         * // results.get(joined): Optional[hellohiworld]
+         * // results.get(byLength): {2: ["HI"], 5: ["HELLO", "WORLD"]}
+         * ```
+         */
+        public static <T> Aggregations.Results aggregate(
+                List<T> items,
+                Aggregations<T> aggregations) {
+            return items.parallelStream()
+                    .collect(aggregations.toCollector());
+        }
     }
 
     /**
@@ -320,6 +396,16 @@ public class LambdaExamples {
         Transformer<String, Integer> lengthTransformer = String::length;
         Transformer<Product, Integer> compositeTransformer = nameTransformer.andThen(lengthTransformer);
 
+        // The same rules and steps as one flat plan, for long chains over many elements
+        RulePipeline<Product, Integer> pipeline =
+            RulePipeline.<Product>create()
+                .rule("positive price", priceValidator::validate)
+                .rule("not expired", expiryValidator::validate)
+                .transform(nameTransformer::transform)
+                .transform(lengthTransformer::transform);
+        System.out.println("Name lengths: " + pipeline.apply(products));
+        pipeline.getRuleStats().forEach(System.out::println);
+
         // Custom collector usage
         CustomCollector<Product> collector = new CustomCollector<>(
             p -> System.out.println("Processing: " + p.getName()),
@@ -327,20 +413,35 @@ public class LambdaExamples {
         );
 
         // Using custom operations
-        BigDecimal totalPrice = products.stream()
+        Money totalPrice = products.stream()
             .filter(compositeValidator::validate)
-            .map(Product::getPrice)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+            .collect(MoneyCollectors.summing(Product.CURRENCY, Product::getPriceAsMoney));
+        Map<String, MoneySummaryStatistics> priceByCategory = products.stream()
+            .collect(MoneyCollectors.summarizingBy(Product::getCategory, Product.CURRENCY, Product::getPriceAsMoney));
+        System.out.println("Total: " + totalPrice + ", by category: " + priceByCategory);
 
         // Custom grouping with transformation
         Map<String, List<Product>> groupedProducts = CustomOperations.groupByWithTransform(
             products,
             Product::getCategory,
-            p -> new Product(p.getName().toUpperCase(), p.getPrice(), p.getCategory(), p.getExpiryDate())
+            p -> new Product(p.getName().toUpperCase(), p.getPriceAsMoney(), p.getCategory(), p.getExpiryDate())
         );
 
+        // Several aggregations in one pass over the products
+        Aggregations<Product> report = Aggregations.create();
+        Aggregations.Aggregate<Optional<Product>> cheapestValid =
+            report.reduce(compositeValidator::validate, BinaryOperator.minBy(Comparator.comparing(Product::getPriceAsMoney)));
+        Aggregations.Aggregate<Map<String, List<Product>>> byCategory =
+            report.groupBy(Product::getCategory, UnaryOperator.identity());
+        Aggregations.Aggregate<Map<Boolean, List<Product>>> byPrice =
+            report.partition(p -> p.getPrice().compareTo(new BigDecimal("2.00")) > 0, UnaryOperator.identity());
+        Aggregations.Results results = CustomOperations.aggregate(products, report);
+        System.out.println("Cheapest valid: " + results.get(cheapestValid).map(Product::getName).orElse("none"));
+        System.out.println("Categories: " + results.get(byCategory).keySet());
+        System.out.println("Over 2.00: " + results.get(byPrice).get(true).size());
+
         // Method reference examples
-        Comparator<Product> priceComparator = Comparator.comparing(Product::getPrice);
+        Comparator<Product> priceComparator = Comparator.comparing(Product::getPriceAsMoney);
         products.sort(priceComparator.thenComparing(Product::getName));
 
         // Complex lambda with exception handling
@@ -370,8 +471,9 @@ public class LambdaExamples {
         );
 
         // Parallel processing with custom collector
-        products.parallelStream().forEach(collector::accept);
-        collector.finish();
+        List<Product> processed = products.parallelStream()
+            .collect(collector.asCollector().sizedFrom(products.spliterator()));
+        System.out.println("Processed " + processed.size() + " products");
     }
 
     /**
@@ -0,0 +1,307 @@
+package com.java.features.java8.lambda;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * An immutable amount of money held as a {@code long} count of minor units
+ * (cents for USD, yen for JPY) in the currency's default scale.
+ *
+ * Adding BigDecimal prices allocates a new BigDecimal, and often a
+ * BigInteger, on every addition. A Money is one long and a Currency, so
+ * adding two amounts is a long addition, and the collectors in
+ * {@link MoneyCollectors} add up millions of prices without allocating
+ * per element.
+ *
+ * All arithmetic is exact. Sums and products that do not fit in a long
+ * throw ArithmeticException instead of wrapping around, and operations
+ * that can produce fractions of a minor unit, such as division and
+ * conversion from a BigDecimal with more digits than the currency has,
+ * take an explicit RoundingMode. Amounts in different currencies cannot be
+ * combined; that throws IllegalArgumentException.
+ *
+ * Example usage:
+ * ```java
+ * Currency usd = Currency.getInstance("USD");
+ * Money price = Money.of(new BigDecimal("19.99"), usd);
+ * Money total = price.multipliedBy(3).plus(Money.ofMinor(500, usd));     // USD 64.97
+ * Money share = total.dividedBy(4, RoundingMode.HALF_EVEN);              // USD 16.24
+ * BigDecimal amount = share.toBigDecimal();                              // 16.24
+ * ```
+ *
+ * @see MoneyCollectors
+ */
+public final class Money implements Comparable<Money> {
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    /**
+     * Creates an amount from a count of minor units.
+     *
+     * @param minorUnits The amount in minor units, e.g. 1999 for USD 19.99
+     * @param currency The currency
+     * @return The amount
+     * @throws IllegalArgumentException if the currency has no minor unit scale
+     */
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        scaleOf(currency);
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * Creates a zero amount.
+     *
+     * @param currency The currency
+     * @return Zero in the currency
+     */
+    public static Money zero(Currency currency) {
+        return ofMinor(0, currency);
+    }
+
+    /**
+     * Creates an amount from a decimal that fits the currency's scale
+     * exactly.
+     *
+     * @param amount The amount, e.g. 19.99
+     * @param currency The currency
+     * @return The amount
+     * @throws ArithmeticException if the amount has more decimal places than
+     *                             the currency, or does not fit in a long
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        return of(amount, currency, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Creates an amount from a decimal, rounded to the currency's scale.
+     *
+     * @param amount The amount
+     * @param currency The currency
+     * @param rounding How to round digits beyond the currency's scale
+     * @return The amount
+     * @throws ArithmeticException if the rounding mode is UNNECESSARY and
+     *                             rounding is needed, or the amount does not fit in a long
+     */
+    public static Money of(BigDecimal amount, Currency currency, RoundingMode rounding) {
+        Objects.requireNonNull(amount, "amount");
+        BigDecimal scaled = amount.setScale(scaleOf(currency), rounding);
+        return new Money(scaled.unscaledValue().longValueExact(), currency);
+    }
+
+    /**
+     * Gets the amount in minor units
+     * @return Minor units, e.g. 1999 for USD 19.99
+     */
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    /**
+     * Gets the currency
+     * @return Currency
+     */
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Gets the number of decimal places of the currency
+     * @return Scale, e.g. 2 for USD and 0 for JPY
+     */
+    public int getScale() {
+        return currency.getDefaultFractionDigits();
+    }
+
+    /**
+     * Adds an amount in the same currency.
+     *
+     * @param other The amount to add
+     * @return The sum
+     * @throws ArithmeticException if the sum overflows
+     */
+    public Money plus(Money other) {
+        checkCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Subtracts an amount in the same currency.
+     *
+     * @param other The amount to subtract
+     * @return The difference
+     * @throws ArithmeticException if the difference overflows
+     */
+    public Money minus(Money other) {
+        checkCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Multiplies by a whole number, e.g. a quantity.
+     *
+     * @param factor The factor
+     * @return The product
+     * @throws ArithmeticException if the product overflows
+     */
+    public Money multipliedBy(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor), currency);
+    }
+
+    /**
+     * Multiplies by a decimal, e.g. a tax rate, rounding to the currency's
+     * scale.
+     *
+     * @param factor The factor
+     * @param rounding How to round fractions of a minor unit
+     * @return The product
+     * @throws ArithmeticException if rounding is needed with UNNECESSARY, or the product overflows
+     */
+    public Money multipliedBy(BigDecimal factor, RoundingMode rounding) {
+        BigDecimal product = new BigDecimal(minorUnits).multiply(factor).setScale(0, rounding);
+        return new Money(product.longValueExact(), currency);
+    }
+
+    /**
+     * Divides by a whole number, rounding to the currency's scale.
+     *
+     * @param divisor The divisor
+     * @param rounding How to round fractions of a minor unit
+     * @return The quotient
+     * @throws ArithmeticException if the divisor is 0, or rounding is needed with UNNECESSARY
+     */
+    public Money dividedBy(long divisor, RoundingMode rounding) {
+        return new Money(divide(minorUnits, divisor, rounding), currency);
+    }
+
+    /**
+     * Negates the amount.
+     *
+     * @return The negated amount
+     * @throws ArithmeticException if the amount is Long.MIN_VALUE minor units
+     */
+    public Money negated() {
+        return new Money(Math.negateExact(minorUnits), currency);
+    }
+
+    /**
+     * Gets the sign of the amount
+     * @return -1, 0 or 1
+     */
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    /**
+     * Converts to a decimal in the currency's scale.
+     *
+     * @return The amount, e.g. 19.99
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, getScale());
+    }
+
+    /**
+     * Compares amounts in the same currency.
+     *
+     * @param other The amount to compare with
+     * @return A negative number, zero or a positive number as this amount is smaller, equal or larger
+     * @throws IllegalArgumentException if the currencies differ
+     */
+    @Override
+    public int compareTo(Money other) {
+        checkCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money)) {
+            return false;
+        }
+        Money money = (Money) o;
+        return minorUnits == money.minorUnits && currency.equals(money.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + " " + toBigDecimal().toPlainString();
+    }
+
+    void checkCurrency(Money other) {
+        if (currency != other.currency) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+    }
+
+    static int scaleOf(Currency currency) {
+        int scale = currency.getDefaultFractionDigits();
+        if (scale < 0) {
+            throw new IllegalArgumentException("Currency has no minor unit: " + currency);
+        }
+        return scale;
+    }
+
+    /**
+     * Divides two longs and rounds the quotient, like BigDecimal.divide with
+     * scale 0 but without allocating.
+     */
+    static long divide(long dividend, long divisor, RoundingMode rounding) {
+        if (divisor == -1) {
+            return Math.negateExact(dividend);
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int sign = (dividend < 0) == (divisor < 0) ? 1 : -1;
+        // Compare |remainder| with |divisor| - |remainder|, i.e. the fraction with one half;
+        // as negative magnitudes, which cannot overflow even for Long.MIN_VALUE
+        long negativeRemainder = remainder < 0 ? remainder : -remainder;
+        long negativeRest = (divisor < 0 ? divisor : -divisor) - negativeRemainder;
+        int half = Long.compare(negativeRest, negativeRemainder);
+        boolean away;
+        switch (rounding) {
+            case UP:
+                away = true;
+                break;
+            case DOWN:
+                away = false;
+                break;
+            case CEILING:
+                away = sign > 0;
+                break;
+            case FLOOR:
+                away = sign < 0;
+                break;
+            case HALF_UP:
+                away = half >= 0;
+                break;
+            case HALF_DOWN:
+                away = half > 0;
+                break;
+            case HALF_EVEN:
+                away = half > 0 || half == 0 && (quotient & 1) != 0;
+                break;
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+        return away ? quotient + sign : quotient;
+    }
+}
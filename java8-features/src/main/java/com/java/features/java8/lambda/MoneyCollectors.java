@@ -0,0 +1,122 @@
+package com.java.features.java8.lambda;
+
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Collectors adding up {@link Money} amounts in minor units.
+ *
+ * {@code map(Product::getPrice).reduce(BigDecimal.ZERO, BigDecimal::add)}
+ * allocates a BigDecimal per element. These collectors keep a long sum
+ * (and count, minimum and maximum) per fork instead, check each addition
+ * for overflow, and only create Money objects for the result. Every
+ * amount must be in the collector's currency.
+ *
+ * Example usage:
+ * ```java
+ * Money total = products.parallelStream()
+ *     .collect(MoneyCollectors.summing(usd, Product::getPriceAsMoney));
+ *
+ * Map<String, MoneySummaryStatistics> byCategory = products.stream()
+ *     .collect(MoneyCollectors.summarizingBy(Product::getCategory, usd, Product::getPriceAsMoney));
+ * Optional<Money> cheapestFruit = byCategory.get("Fruit").getMin();
+ * ```
+ *
+ * @see MoneySummaryStatistics
+ */
+public final class MoneyCollectors {
+
+    private MoneyCollectors() {
+    }
+
+    /**
+     * Returns a collector summing amounts.
+     *
+     * @param currency The currency of all amounts
+     * @param mapper Amount of each element
+     * @param <T> The element type
+     * @return A collector producing the sum, zero for no elements
+     */
+    public static <T> Collector<T, ?, Money> summing(Currency currency, Function<? super T, Money> mapper) {
+        return Collector.<T, MoneySummaryStatistics, Money>of(
+                () -> new MoneySummaryStatistics(currency),
+                (stats, element) -> stats.accept(mapper.apply(element)),
+                MoneySummaryStatistics::combine,
+                MoneySummaryStatistics::getSum);
+    }
+
+    /**
+     * Returns a collector averaging amounts, rounded to the currency's
+     * scale.
+     *
+     * @param currency The currency of all amounts
+     * @param mapper Amount of each element
+     * @param rounding How to round fractions of a minor unit
+     * @param <T> The element type
+     * @return A collector producing the average, empty for no elements
+     */
+    public static <T> Collector<T, ?, Optional<Money>> averaging(Currency currency,
+                                                               Function<? super T, Money> mapper,
+                                                               RoundingMode rounding) {
+        Objects.requireNonNull(rounding, "rounding");
+        return Collector.<T, MoneySummaryStatistics, Optional<Money>>of(
+                () -> new MoneySummaryStatistics(currency),
+                (stats, element) -> stats.accept(mapper.apply(element)),
+                MoneySummaryStatistics::combine,
+                stats -> stats.getAverage(rounding));
+    }
+
+    /**
+     * Returns a collector computing count, sum, minimum, maximum and
+     * average in one pass.
+     *
+     * @param currency The currency of all amounts
+     * @param mapper Amount of each element
+     * @param <T> The element type
+     * @return A collector producing the statistics
+     */
+    public static <T> Collector<T, ?, MoneySummaryStatistics> summarizing(Currency currency,
+                                                                        Function<? super T, Money> mapper) {
+        return Collector.of(
+                () -> new MoneySummaryStatistics(currency),
+                (stats, element) -> stats.accept(mapper.apply(element)),
+                MoneySummaryStatistics::combine);
+    }
+
+    /**
+     * Returns a collector computing the statistics of each group, such as
+     * the total, average, cheapest and dearest price per category.
+     *
+     * @param classifier Maps each element to its group key
+     * @param currency The currency of all amounts
+     * @param mapper Amount of each element
+     * @param <T> The element type
+     * @param <K> The key type
+     * @return A collector producing one statistics object per group
+     */
+    public static <T, K> Collector<T, ?, Map<K, MoneySummaryStatistics>> summarizingBy(
+            Function<? super T, ? extends K> classifier, Currency currency, Function<? super T, Money> mapper) {
+        Money.scaleOf(currency);
+        return Collector.<T, Map<K, MoneySummaryStatistics>>of(
+                HashMap::new,
+                (groups, element) -> {
+                    K key = classifier.apply(element);
+                    MoneySummaryStatistics stats = groups.get(key);
+                    if (stats == null) {
+                        stats = new MoneySummaryStatistics(currency);
+                        groups.put(key, stats);
+                    }
+                    stats.accept(mapper.apply(element));
+                },
+                (left, right) -> {
+                    right.forEach((key, stats) -> left.merge(key, stats, MoneySummaryStatistics::combine));
+                    return left;
+                });
+    }
+}
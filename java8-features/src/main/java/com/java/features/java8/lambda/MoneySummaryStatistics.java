@@ -0,0 +1,150 @@
+package com.java.features.java8.lambda;
+
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Count, sum, minimum, maximum and average of amounts in one currency,
+ * like {@link java.util.LongSummaryStatistics} for {@link Money}.
+ *
+ * The state is four longs, so accepting an amount allocates nothing; Money
+ * objects are only created when a result is read. The sum is
+ * overflow-checked. Instances are not thread-safe; in parallel streams
+ * every fork fills its own instance and {@link #combine} merges them, as
+ * {@link MoneyCollectors#summarizing} does.
+ *
+ * Example usage:
+ * ```java
+ * MoneySummaryStatistics stats = products.stream()
+ *     .collect(MoneyCollectors.summarizing(usd, Product::getPriceAsMoney));
+ * Optional<Money> average = stats.getAverage(RoundingMode.HALF_EVEN);
+ * ```
+ */
+public final class MoneySummaryStatistics implements Consumer<Money> {
+
+    private final Currency currency;
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Creates empty statistics.
+     *
+     * @param currency The currency of all amounts
+     * @throws IllegalArgumentException if the currency has no minor unit scale
+     */
+    public MoneySummaryStatistics(Currency currency) {
+        Money.scaleOf(Objects.requireNonNull(currency, "currency"));
+        this.currency = currency;
+    }
+
+    /**
+     * Records an amount.
+     *
+     * @param amount The amount
+     * @throws IllegalArgumentException if the amount is in another currency
+     * @throws ArithmeticException if the sum overflows
+     */
+    @Override
+    public void accept(Money amount) {
+        if (amount.getCurrency() != currency) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + amount.getCurrency());
+        }
+        acceptMinor(amount.getMinorUnits());
+    }
+
+    /**
+     * Records an amount given in minor units of this currency.
+     *
+     * @param minorUnits The amount in minor units
+     * @throws ArithmeticException if the sum overflows
+     */
+    public void acceptMinor(long minorUnits) {
+        sum = Math.addExact(sum, minorUnits);
+        count++;
+        min = Math.min(min, minorUnits);
+        max = Math.max(max, minorUnits);
+    }
+
+    /**
+     * Adds the amounts recorded by other statistics.
+     *
+     * @param other Statistics in the same currency
+     * @return These statistics
+     * @throws IllegalArgumentException if the currencies differ
+     * @throws ArithmeticException if the sum overflows
+     */
+    public MoneySummaryStatistics combine(MoneySummaryStatistics other) {
+        if (other.currency != currency) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+        sum = Math.addExact(sum, other.sum);
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * Gets the currency
+     * @return Currency
+     */
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Gets the number of amounts recorded
+     * @return Count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the sum of the amounts
+     * @return Sum, zero if none were recorded
+     */
+    public Money getSum() {
+        return Money.ofMinor(sum, currency);
+    }
+
+    /**
+     * Gets the smallest amount
+     * @return Minimum, or empty if none were recorded
+     */
+    public Optional<Money> getMin() {
+        return count == 0 ? Optional.empty() : Optional.of(Money.ofMinor(min, currency));
+    }
+
+    /**
+     * Gets the largest amount
+     * @return Maximum, or empty if none were recorded
+     */
+    public Optional<Money> getMax() {
+        return count == 0 ? Optional.empty() : Optional.of(Money.ofMinor(max, currency));
+    }
+
+    /**
+     * Gets the average amount, rounded to the currency's scale.
+     *
+     * @param rounding How to round fractions of a minor unit
+     * @return Average, or empty if none were recorded
+     * @throws ArithmeticException if rounding is needed with UNNECESSARY
+     */
+    public Optional<Money> getAverage(RoundingMode rounding) {
+        return count == 0 ? Optional.empty()
+                : Optional.of(Money.ofMinor(Money.divide(sum, count, rounding), currency));
+    }
+
+    @Override
+    public String toString() {
+        return "MoneySummaryStatistics{count=" + count + ", sum=" + getSum()
+                + ", min=" + getMin().map(Money::toString).orElse("-")
+                + ", max=" + getMax().map(Money::toString).orElse("-") + "}";
+    }
+}
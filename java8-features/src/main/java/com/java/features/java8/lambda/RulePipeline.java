@@ -0,0 +1,327 @@
+package com.java.features.java8.lambda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A flat validation and transformation plan: named rules checked in a loop,
+ * followed by transformation steps applied in a loop.
+ *
+ * Composing with default methods such as {@code Predicate.and} or
+ * {@code Function.andThen} nests one lambda inside the next, so a chain of
+ * ten rules is ten nested calls per element, and the shared call sites
+ * inside the default methods see so many lambda classes that the JIT stops
+ * inlining them. A RulePipeline keeps rules and steps in arrays instead;
+ * every element takes one loop over the rules, stopping at the first one
+ * that rejects it.
+ *
+ * Rules are not checked in declaration order. One element in
+ * {@value #SAMPLE_INTERVAL}, picked at random by each thread, is a sample:
+ * all rules are checked and timed, which gives each rule's pass rate and
+ * average cost. After 1, 2, 4, ... {@value #REPLAN_INTERVAL} samples, and
+ * every {@value #REPLAN_INTERVAL} samples after that, the rules are
+ * reordered by cost divided by rejection rate, so cheap rules that reject
+ * many elements run first. Rules must therefore be free of side effects, and must not
+ * depend on each other having been checked; the result of {@link #test}
+ * never depends on the order.
+ *
+ * Pipelines are immutable apart from their statistics; {@code rule} and
+ * {@code transform} return a new pipeline with statistics of its own. A
+ * pipeline is thread-safe and can be used from a parallel stream.
+ *
+ * Example usage:
+ * ```java
+ * RulePipeline<Product, Integer> pipeline = RulePipeline.<Product>create()
+ *     .rule("in stock", p -> p.getQuantity() > 0)
+ *     .rule("not expired", p -> p.getExpiryDate().isAfter(today))
+ *     .rule("name pattern", p -> NAME.matcher(p.getName()).matches())
+ *     .transform(Product::getName)
+ *     .transform(String::length);
+ *
+ * List<Integer> lengths = pipeline.apply(products);
+ * // or: products.parallelStream().filter(pipeline).map(pipeline::transform)
+ *
+ * pipeline.getRuleStats().forEach(System.out::println);
+ * ```
+ *
+ * @param <T> The type of input elements
+ * @param <R> The type produced by the transformation steps
+ */
+public final class RulePipeline<T, R> implements Predicate<T> {
+
+    /**
+     * Average number of elements per sample
+     */
+    public static final int SAMPLE_INTERVAL = 256;
+
+    /**
+     * Samples between two reorderings, once the pipeline is warm
+     */
+    public static final int REPLAN_INTERVAL = 256;
+
+    /**
+     * Cost of one System.nanoTime call, subtracted from sampled rule times
+     */
+    private static final long TIMER_OVERHEAD = timerOverhead();
+
+    private final Rule<T>[] rules;
+    private final Function<Object, Object>[] steps;
+    private final AtomicLong samples = new AtomicLong();
+    private volatile Rule<T>[] plan;
+
+    private RulePipeline(Rule<T>[] rules, Function<Object, Object>[] steps) {
+        this.rules = rules;
+        this.steps = steps;
+        this.plan = rules.clone();
+    }
+
+    /**
+     * Creates a pipeline with no rules, which accepts every element, and no
+     * transformation steps.
+     *
+     * @param <T> The type of input elements
+     * @return An empty pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RulePipeline<T, T> create() {
+        return new RulePipeline<>((Rule<T>[]) new Rule<?>[0], (Function<Object, Object>[]) new Function<?, ?>[0]);
+    }
+
+    /**
+     * Returns a pipeline with an extra rule.
+     *
+     * @param name Name shown in the statistics
+     * @param rule Side-effect-free check an element must pass
+     * @return A new pipeline
+     * @throws IllegalStateException if transformation steps were already added
+     */
+    public RulePipeline<T, R> rule(String name, Predicate<? super T> rule) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(rule, "rule");
+        if (steps.length > 0) {
+            throw new IllegalStateException("Rules must be added before transformation steps");
+        }
+        Rule<T>[] extended = Arrays.copyOf(freshRules(), rules.length + 1);
+        extended[rules.length] = new Rule<>(name, rule);
+        return new RulePipeline<>(extended, steps);
+    }
+
+    /**
+     * Returns a pipeline with an extra transformation step, applied to the
+     * result of the previous steps.
+     *
+     * @param step The transformation
+     * @param <V> The type the step produces
+     * @return A new pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public <V> RulePipeline<T, V> transform(Function<? super R, ? extends V> step) {
+        Objects.requireNonNull(step, "step");
+        Function<Object, Object>[] extended = Arrays.copyOf(steps, steps.length + 1);
+        extended[steps.length] = (Function<Object, Object>) step;
+        return new RulePipeline<>(freshRules(), extended);
+    }
+
+    /**
+     * Checks an element against every rule.
+     *
+     * @param element The element
+     * @return true if all rules accept the element
+     */
+    @Override
+    public boolean test(T element) {
+        // Per-thread random choice, so parallel callers share no write on this path
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_INTERVAL) == 0) {
+            return sample(element);
+        }
+        for (Rule<T> rule : plan) {
+            if (!rule.predicate.test(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies the transformation steps without checking the rules.
+     *
+     * @param element The element
+     * @return The transformed element
+     */
+    @SuppressWarnings("unchecked")
+    public R transform(T element) {
+        Object value = element;
+        for (Function<Object, Object> step : steps) {
+            value = step.apply(value);
+        }
+        return (R) value;
+    }
+
+    /**
+     * Transforms the elements that pass every rule.
+     *
+     * @param elements The elements
+     * @return The transformed elements, in encounter order
+     */
+    public List<R> apply(Collection<? extends T> elements) {
+        List<R> results = new ArrayList<>();
+        for (T element : elements) {
+            if (test(element)) {
+                results.add(transform(element));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Gets the statistics of each rule, in the order rules are currently
+     * checked.
+     *
+     * @return One entry per rule
+     */
+    public List<RuleStats> getRuleStats() {
+        long sampled = samples.get();
+        List<RuleStats> stats = new ArrayList<>(rules.length);
+        for (Rule<T> rule : plan) {
+            stats.add(new RuleStats(rule.name, sampled, rule.passed.sum(), rule.nanos.sum()));
+        }
+        return Collections.unmodifiableList(stats);
+    }
+
+    /**
+     * Gets the number of sampled elements the statistics are based on
+     * @return Sample count
+     */
+    public long getSampleCount() {
+        return samples.get();
+    }
+
+    private boolean sample(T element) {
+        boolean accepted = true;
+        for (Rule<T> rule : rules) {
+            long start = System.nanoTime();
+            boolean passed = rule.predicate.test(element);
+            rule.nanos.add(Math.max(0, System.nanoTime() - start - TIMER_OVERHEAD));
+            if (passed) {
+                rule.passed.increment();
+            } else {
+                accepted = false;
+            }
+        }
+        long sampled = samples.incrementAndGet();
+        if ((sampled & (sampled - 1)) == 0 && sampled <= REPLAN_INTERVAL || sampled % REPLAN_INTERVAL == 0) {
+            replan(sampled);
+        }
+        return accepted;
+    }
+
+    private void replan(long sampled) {
+        Rule<T>[] ordered = rules.clone();
+        double[] ranks = new double[ordered.length];
+        for (int i = 0; i < ordered.length; i++) {
+            double passRate = (double) rules[i].passed.sum() / sampled;
+            double cost = (double) rules[i].nanos.sum() / sampled;
+            // Expected cost per rejected element; +1 keeps free rules ordered by rejection rate
+            double rank = (cost + 1) / Math.max(1 - passRate, 1e-9);
+            // Insertion sort: few rules, and ties keep declaration order
+            int j = i;
+            for (; j > 0 && ranks[j - 1] > rank; j--) {
+                ranks[j] = ranks[j - 1];
+                ordered[j] = ordered[j - 1];
+            }
+            ranks[j] = rank;
+            ordered[j] = rules[i];
+        }
+        plan = ordered;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Rule<T>[] freshRules() {
+        Rule<T>[] copies = (Rule<T>[]) new Rule<?>[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            copies[i] = new Rule<>(rules[i].name, rules[i].predicate);
+        }
+        return copies;
+    }
+
+    private static long timerOverhead() {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 1000; i++) {
+            long start = System.nanoTime();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return "RulePipeline{rules=" + getRuleStats() + ", steps=" + steps.length + "}";
+    }
+
+    private static final class Rule<T> {
+        final String name;
+        final Predicate<? super T> predicate;
+        final LongAdder passed = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        Rule(String name, Predicate<? super T> predicate) {
+            this.name = name;
+            this.predicate = predicate;
+        }
+    }
+
+    /**
+     * Sampled statistics of one rule.
+     */
+    public static final class RuleStats {
+        private final String name;
+        private final long samples;
+        private final long passed;
+        private final long nanos;
+
+        RuleStats(String name, long samples, long passed, long nanos) {
+            this.name = name;
+            this.samples = samples;
+            this.passed = passed;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Gets the rule name
+         * @return Rule name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the share of sampled elements the rule accepted
+         * @return Pass rate from 0 to 1, or 1 before the first sample
+         */
+        public double getPassRate() {
+            return samples == 0 ? 1 : (double) passed / samples;
+        }
+
+        /**
+         * Gets the average time the rule took on a sampled element
+         * @return Average cost in nanoseconds, or 0 before the first sample
+         */
+        public double getAverageNanos() {
+            return samples == 0 ? 0 : (double) nanos / samples;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: pass rate %.1f%%, %.1f ns", name, getPassRate() * 100, getAverageNanos());
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package com.java.features.java8.map;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A bounded, thread-safe cache with {@code computeIfAbsent}-style loading.
+ *
+ * Using {@code map.computeIfAbsent(key, loader)} as a cache, as in
+ * {@link MapExamples#demonstrateComputeIfAbsent(java.util.Map, String)}, lets the map
+ * grow without bound, and ConcurrentHashMap runs the loader while holding a
+ * lock on the key's bin. This cache adds:
+ * - Size or weight bounds, with segmented LRU eviction: new entries start
+ *   in a probation segment and move to a protected segment (80% of the
+ *   capacity) on their second access, so a scan of one-off keys cannot
+ *   flush the frequently used ones
+ * - Single-flight loading: concurrent misses on one key run the loader
+ *   once, the other callers wait for its result, and other keys are not
+ *   blocked while it runs
+ * - Optional expiry a fixed time after each write
+ * - Hit, miss, load and eviction counters
+ *
+ * Lookups never block: they read a ConcurrentHashMap and only reorder the
+ * eviction queues if the lock is free, skipping the reorder otherwise.
+ * Writes and evictions are serialized by one lock.
+ *
+ * Example usage:
+ * ```java
+ * BoundedCache<String, User> users = new BoundedCache<>(10_000);
+ * User user = users.get("alice", userRepository::load);
+ *
+ * // Bounded by total bytes, entries expire 10 minutes after being written
+ * BoundedCache<String, byte[]> pages = new BoundedCache<>(
+ *     64 * 1024 * 1024, (url, page) -> page.length, 10, TimeUnit.MINUTES);
+ *
+ * System.out.println(users);
+ * // BoundedCache{size=1, hits=0, misses=1, loads=1, evictions=0, hitRate=0.00}
+ * ```
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public class BoundedCache<K, V> {
+
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private final ConcurrentHashMap<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final long maximumWeight;
+    private final long maximumProtectedWeight;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+
+    // Segmented LRU queues, guarded by evictionLock; the head is the least recently used
+    private final Node<K, V> probation = Node.sentinel();
+    private final Node<K, V> protectedSegment = Node.sentinel();
+    private long weightedSize;
+    private long protectedWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding at most the given number of entries
+     * @param maximumSize Maximum number of entries
+     */
+    public BoundedCache(long maximumSize) {
+        this(maximumSize, (key, value) -> 1, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its entries.
+     *
+     * @param maximumWeight Maximum total weight
+     * @param weigher Computes the weight of an entry, at least 0
+     */
+    public BoundedCache(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+        this(maximumWeight, weigher, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates a cache bounded by weight whose entries expire a fixed time
+     * after they are written.
+     *
+     * @param maximumWeight Maximum total weight
+     * @param weigher Computes the weight of an entry, at least 0
+     * @param expireAfterWrite Lifetime of an entry, or 0 for no expiry
+     * @param unit The unit of the lifetime
+     */
+    public BoundedCache(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher,
+                        long expireAfterWrite, TimeUnit unit) {
+        this(maximumWeight, weigher, expireAfterWrite, unit, System::nanoTime);
+    }
+
+    BoundedCache(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher,
+                 long expireAfterWrite, TimeUnit unit, LongSupplier ticker) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("maximumWeight must not be negative: " + maximumWeight);
+        }
+        if (expireAfterWrite < 0) {
+            throw new IllegalArgumentException("expireAfterWrite must not be negative: " + expireAfterWrite);
+        }
+        this.maximumWeight = maximumWeight;
+        this.maximumProtectedWeight = (long) (maximumWeight * PROTECTED_SHARE);
+        this.weigher = Objects.requireNonNull(weigher, "weigher");
+        this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns the cached value of a key, if present and not expired. Counts
+     * as a hit or a miss.
+     *
+     * @param key The key to look up
+     * @return The cached value, or empty
+     */
+    public Optional<V> getIfPresent(K key) {
+        V value = lookup(key);
+        if (value == null) {
+            misses.increment();
+        }
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Returns the cached value of a key, loading it on a miss.
+     *
+     * Only one thread runs the loader for a given key at a time; other
+     * threads asking for the same key wait for its result. A null result is
+     * returned but not cached. An exception from the loader is thrown to
+     * every waiting caller, and nothing is cached.
+     *
+     * Example usage:
+     * ```java
+     * Integer length = cache.get("hello", String::length);  // Loads 5
+     * cache.get("hello", String::length);                     // Hit
+     * ```
+     *
+     * @param key The key to look up
+     * @param loader Computes the value of a missing key
+     * @return The cached or loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = lookup(key);
+        if (value != null) {
+            return value;
+        }
+        misses.increment();
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+        try {
+            // Another thread may have finished loading between the miss and putIfAbsent
+            Node<K, V> node = entries.get(key);
+            if (node != null && !isExpired(node)) {
+                load.complete(node.value);
+                return node.value;
+            }
+            loads.increment();
+            V loaded = loader.apply(key);
+            if (loaded != null) {
+                put(key, loaded);
+            }
+            load.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * Caches a value, replacing any previous value of the key.
+     *
+     * @param key The key
+     * @param value The value, not null
+     */
+    public void put(K key, V value) {
+        Objects.requireNonNull(value, "value");
+        int weight = weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight " + weight + " for key " + key);
+        }
+        Node<K, V> node = new Node<>(key, value, weight, expireAfterWriteNanos > 0 ? ticker.getAsLong() : 0);
+        evictionLock.lock();
+        try {
+            Node<K, V> previous = entries.put(key, node);
+            if (previous != null) {
+                unlink(previous);
+            }
+            link(probation, node);
+            weightedSize += weight;
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the cached value of a key.
+     *
+     * @param key The key to remove
+     */
+    public void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = entries.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private V lookup(K key) {
+        Node<K, V> node = entries.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (isExpired(node)) {
+            removeExpired(node);
+            return null;
+        }
+        hits.increment();
+        // Reordering is best effort: a busy lock means other threads are already maintaining the queues
+        if (evictionLock.tryLock()) {
+            try {
+                onAccess(node);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    private boolean isExpired(Node<K, V> node) {
+        return expireAfterWriteNanos > 0 && ticker.getAsLong() - node.writeTime >= expireAfterWriteNanos;
+    }
+
+    private void removeExpired(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            if (entries.remove(node.key, node)) {
+                unlink(node);
+                evictions.increment();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Moves an entry to the most recently used end of the protected segment,
+     * demoting the protected entries that no longer fit back to probation.
+     */
+    private void onAccess(Node<K, V> node) {
+        if (node.prev == null) {
+            // Removed or replaced since the lookup
+            return;
+        }
+        detach(node);
+        if (!node.isProtected) {
+            node.isProtected = true;
+            protectedWeight += node.weight;
+        }
+        link(protectedSegment, node);
+        while (protectedWeight > maximumProtectedWeight && protectedSegment.next != node) {
+            Node<K, V> demoted = protectedSegment.next;
+            detach(demoted);
+            demoted.isProtected = false;
+            protectedWeight -= demoted.weight;
+            link(probation, demoted);
+        }
+    }
+
+    private void evict() {
+        while (weightedSize > maximumWeight) {
+            Node<K, V> victim = probation.next != probation ? probation.next : protectedSegment.next;
+            entries.remove(victim.key, victim);
+            unlink(victim);
+            evictions.increment();
+        }
+    }
+
+    private void link(Node<K, V> segment, Node<K, V> node) {
+        node.prev = segment.prev;
+        node.next = segment;
+        segment.prev.next = node;
+        segment.prev = node;
+    }
+
+    private void detach(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.prev == null) {
+            return;
+        }
+        detach(node);
+        weightedSize -= node.weight;
+        if (node.isProtected) {
+            protectedWeight -= node.weight;
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of cached entries, including expired entries not yet removed
+     * @return Entry count
+     */
+    public long size() {
+        return entries.mappingCount();
+    }
+
+    /**
+     * Gets the total weight of the cached entries
+     * @return Weighted size
+     */
+    public long getWeightedSize() {
+        evictionLock.lock();
+        try {
+            return weightedSize;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of lookups that found a value
+     * @return Hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that found no value
+     * @return Miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of times a loader ran
+     * @return Load count
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Gets the number of entries removed for size, weight or expiry
+     * @return Eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the share of lookups that found a value
+     * @return Hit rate between 0 and 1, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BoundedCache{size=%d, hits=%d, misses=%d, loads=%d, evictions=%d, hitRate=%.2f}",
+                size(), getHitCount(), getMissCount(), getLoadCount(), getEvictionCount(), getHitRate());
+    }
+
+    /**
+     * A cached entry, linked into one of the two eviction queues.
+     */
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final int weight;
+        final long writeTime;
+        Node<K, V> prev;
+        Node<K, V> next;
+        boolean isProtected;
+
+        Node(K key, V value, int weight, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = writeTime;
+        }
+
+        static <K, V> Node<K, V> sentinel() {
+            Node<K, V> sentinel = new Node<>(null, null, 0, 0);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.java.features.java8.map;
+
+import com.java.features.java8.streams.AdaptiveExecution;
+import com.java.features.java8.streams.TopK;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Typed aggregations over the values of a ConcurrentHashMap, run with its
+ * parallel bulk operations.
+ *
+ * The bulk operations of ConcurrentHashMap ({@code reduceValuesToLong},
+ * {@code forEachValue}, ...) take a {@code parallelismThreshold}: the
+ * number of entries from which the work is split over the common pool.
+ * A threshold of 1 forks even for a three-entry map, and
+ * {@code Long.MAX_VALUE} never forks. This class picks the threshold per
+ * call with {@link #parallelismThreshold(ConcurrentHashMap)}: small maps,
+ * or a busy common pool, run sequentially, and large maps are split into
+ * a few tasks per core.
+ *
+ * Results are weakly consistent, like the bulk operations themselves: with
+ * concurrent updates, each entry is seen either before or after an update.
+ *
+ * Example usage:
+ * ```java
+ * ConcurrentHashMap<String, Long> requestsPerHost = ...;
+ * ConcurrentMapAnalytics<String, Long> analytics = ConcurrentMapAnalytics.of(requestsPerHost);
+ *
+ * long total = analytics.sum();
+ * OptionalLong busiest = analytics.max();
+ * long[] buckets = analytics.histogram(10, 100, 1000);   // <10, <100, <1000, >=1000
+ * List<Map.Entry<String, Long>> top = analytics.topN(5);
+ * ```
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @see ConcurrentHashMap#reduceValuesToLong(long, ToLongFunction, long, java.util.function.LongBinaryOperator)
+ */
+public final class ConcurrentMapAnalytics<K, V> {
+
+    /**
+     * Entries per task below which splitting further does not pay off
+     */
+    static final long MIN_ENTRIES_PER_TASK = 1 << 12;
+
+    private static final int TASKS_PER_CORE = 4;
+
+    /**
+     * Work per entry of a bulk reduction, relative to squaring and summing
+     * an int: each entry is a pointer chase through the table
+     */
+    private static final double COST_PER_ENTRY = 2.0;
+
+    private final ConcurrentHashMap<K, V> map;
+    private final ToLongFunction<? super V> valueFunction;
+    private final AdaptiveExecution adaptive;
+
+    private ConcurrentMapAnalytics(ConcurrentHashMap<K, V> map, ToLongFunction<? super V> valueFunction,
+                                   AdaptiveExecution adaptive) {
+        this.map = map;
+        this.valueFunction = valueFunction;
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Creates analytics over a map with numeric values.
+     *
+     * @param map The map to aggregate
+     * @param <K> The key type
+     * @param <V> The value type
+     * @return Analytics using {@code Number.longValue()} of each value
+     */
+    public static <K, V extends Number> ConcurrentMapAnalytics<K, V> of(ConcurrentHashMap<K, V> map) {
+        return of(map, Number::longValue);
+    }
+
+    /**
+     * Creates analytics over a map, aggregating a long derived from each value.
+     *
+     * Example usage:
+     * ```java
+     * ConcurrentMapAnalytics<String, Session> analytics =
+     *     ConcurrentMapAnalytics.of(sessions, Session::getBytesSent);
+     * ```
+     *
+     * @param map The map to aggregate
+     * @param valueFunction Extracts the aggregated long from each value
+     * @param <K> The key type
+     * @param <V> The value type
+     * @return Analytics over the given map
+     */
+    public static <K, V> ConcurrentMapAnalytics<K, V> of(ConcurrentHashMap<K, V> map,
+                                                        ToLongFunction<? super V> valueFunction) {
+        return new ConcurrentMapAnalytics<>(map, valueFunction, AdaptiveExecution.getDefault());
+    }
+
+    /**
+     * Returns analytics over the same map that decide between sequential and
+     * parallel execution with the given policy, e.g. to force either mode.
+     *
+     * @param adaptive The policy to use
+     * @return New analytics sharing the map and value function
+     */
+    public ConcurrentMapAnalytics<K, V> withAdaptiveExecution(AdaptiveExecution adaptive) {
+        return new ConcurrentMapAnalytics<>(map, valueFunction, adaptive);
+    }
+
+    /**
+     * Chooses the parallelism threshold for a bulk operation on a map, using
+     * the default {@link AdaptiveExecution}.
+     *
+     * Example usage:
+     * ```java
+     * long threshold = ConcurrentMapAnalytics.parallelismThreshold(map);
+     * Integer sum = map.reduceValues(threshold, Integer::sum);
+     * ```
+     *
+     * @param map The map about to be traversed
+     * @return {@code Long.MAX_VALUE} for a sequential traversal, otherwise the entries per task
+     */
+    public static long parallelismThreshold(ConcurrentHashMap<?, ?> map) {
+        return parallelismThreshold(map, AdaptiveExecution.getDefault());
+    }
+
+    private static long parallelismThreshold(ConcurrentHashMap<?, ?> map, AdaptiveExecution adaptive) {
+        long size = map.mappingCount();
+        if (!adaptive.shouldRunInParallel(size, COST_PER_ENTRY)) {
+            return AdaptiveExecution.NEVER_PARALLEL;
+        }
+        long tasks = (long) ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_CORE;
+        return Math.max(MIN_ENTRIES_PER_TASK, size / tasks);
+    }
+
+    private long threshold() {
+        return parallelismThreshold(map, adaptive);
+    }
+
+    /**
+     * Sums the values.
+     *
+     * @return The sum, 0 for an empty map
+     */
+    public long sum() {
+        return map.reduceValuesToLong(threshold(), valueFunction, 0L, Long::sum);
+    }
+
+    /**
+     * Finds the smallest value.
+     *
+     * @return The minimum, or empty if the map is empty
+     */
+    public OptionalLong min() {
+        long min = map.reduceValuesToLong(threshold(), valueFunction, Long.MAX_VALUE, Math::min);
+        return min == Long.MAX_VALUE && map.isEmpty() ? OptionalLong.empty() : OptionalLong.of(min);
+    }
+
+    /**
+     * Finds the largest value.
+     *
+     * @return The maximum, or empty if the map is empty
+     */
+    public OptionalLong max() {
+        long max = map.reduceValuesToLong(threshold(), valueFunction, Long.MIN_VALUE, Math::max);
+        return max == Long.MIN_VALUE && map.isEmpty() ? OptionalLong.empty() : OptionalLong.of(max);
+    }
+
+    /**
+     * Computes the mean of the values, counting and summing in one traversal
+     * with {@code reduceToDouble}.
+     *
+     * @return The mean, or empty if the map is empty
+     */
+    public OptionalDouble average() {
+        LongAdder count = new LongAdder();
+        double sum = map.reduceToDouble(threshold(), (key, value) -> {
+            count.increment();
+            return valueFunction.applyAsLong(value);
+        }, 0.0, Double::sum);
+        long entries = count.sum();
+        return entries == 0 ? OptionalDouble.empty() : OptionalDouble.of(sum / entries);
+    }
+
+    /**
+     * Counts the values falling into each bucket. Bucket {@code i} holds the
+     * values below {@code upperBounds[i]} and at or above the previous bound;
+     * a last bucket holds the values at or above the last bound.
+     *
+     * Example usage:
+     * ```java
+     * long[] counts = analytics.histogram(100, 1000);
+     * // counts[0]: values < 100, counts[1]: 100 to 999, counts[2]: >= 1000
+     * ```
+     *
+     * @param upperBounds Exclusive upper bounds of the buckets, in ascending order
+     * @return One count per bucket, {@code upperBounds.length + 1} in total
+     */
+    public long[] histogram(long... upperBounds) {
+        for (int i = 1; i < upperBounds.length; i++) {
+            if (upperBounds[i] <= upperBounds[i - 1]) {
+                throw new IllegalArgumentException("Bounds must be ascending: " + Arrays.toString(upperBounds));
+            }
+        }
+        // LongAdder keeps a cell per contending thread, so parallel tasks rarely share a counter
+        LongAdder[] buckets = new LongAdder[upperBounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+        map.forEachValue(threshold(), value -> {
+            int index = Arrays.binarySearch(upperBounds, valueFunction.applyAsLong(value));
+            buckets[index >= 0 ? index + 1 : -index - 1].increment();
+        });
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the n entries with the largest values, largest first, using a
+     * bounded heap per task.
+     *
+     * @param n Maximum number of entries to return
+     * @return Key and value pairs
+     * @see TopK
+     */
+    public List<Map.Entry<K, Long>> topN(int n) {
+        Comparator<Map.Entry<K, V>> byValueDescending =
+                Comparator.<Map.Entry<K, V>>comparingLong(entry -> valueFunction.applyAsLong(entry.getValue()))
+                        .reversed();
+        boolean parallel = threshold() != AdaptiveExecution.NEVER_PARALLEL;
+        List<Map.Entry<K, V>> top = (parallel ? map.entrySet().parallelStream() : map.entrySet().stream())
+                .collect(TopK.smallest(n, byValueDescending));
+
+        List<Map.Entry<K, Long>> result = new ArrayList<>(top.size());
+        for (Map.Entry<K, V> entry : top) {
+            result.add(entry(entry.getKey(), valueFunction.applyAsLong(entry.getValue())));
+        }
+        return result;
+    }
+
+    private static <K> Map.Entry<K, Long> entry(K key, long value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+}
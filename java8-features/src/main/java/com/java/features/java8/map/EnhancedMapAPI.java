@@ -77,13 +77,18 @@ public class EnhancedMapAPI {
      * Use cases:
      * - Lazy initialization of complex values
      * - Building multimap structures
-     * - Caching computed values
+     * - Caching computed values (see {@link BoundedCache} for a bounded cache)
      */
     public static void demonstrateComputeIfAbsent() {
         Map<String, Integer> scores = new HashMap<>();
         
         scores.computeIfAbsent("John", key -> key.length() * 10);
         System.out.println("John's score: " + scores.get("John")); // Prints 40
+
+        // As a cache, a bounded map evicts old entries instead of growing forever
+        BoundedCache<String, Integer> scoreCache = new BoundedCache<>(1_000);
+        scoreCache.get("John", key -> key.length() * 10);
+        System.out.println("Cached score: " + scoreCache.get("John", key -> key.length() * 10)); // Prints 40, a hit
     }
 
     /**
@@ -324,12 +329,15 @@ public class EnhancedMapAPI {
      * map.put("John", 100);
      * map.put("Jane", 150);
      * 
+     * // Fork only for maps large enough to benefit
+     * long threshold = ConcurrentMapAnalytics.parallelismThreshold(map);
+     * 
      * // Parallel search
-     * Integer highScore = map.search(2, (key, value) -> 
+     * Integer highScore = map.search(threshold, (key, value) -> 
      *     value > 120 ? value : null);
      * 
      * // Parallel reduce
-     * Integer total = map.reduce(2,
+     * Integer total = map.reduce(threshold,
      *     (key, value) -> value,
      *     Integer::sum);
      * ```
@@ -344,17 +352,58 @@ public class EnhancedMapAPI {
         concurrentScores.put("John", 100);
         concurrentScores.put("Jane", 150);
         
+        // Parallel only when the map is large enough to pay for forking
+        long threshold = ConcurrentMapAnalytics.parallelismThreshold(concurrentScores);
+
         // Search with parallelism threshold
-        Integer result = concurrentScores.search(2, (key, value) -> 
+        Integer result = concurrentScores.search(threshold, (key, value) -> 
             value > 120 ? value : null);
         
         // Reduce with parallelism threshold
-        Integer sum = concurrentScores.reduce(2,
+        Integer sum = concurrentScores.reduce(threshold,
             (key, value) -> value,
             Integer::sum);
             
         // ForEach with parallelism threshold
-        concurrentScores.forEach(2,
+        concurrentScores.forEach(threshold,
             (key, value) -> System.out.println(key + ": " + value));
+
+        // Typed aggregations with the same automatic threshold
+        ConcurrentMapAnalytics<String, Integer> analytics = ConcurrentMapAnalytics.of(concurrentScores);
+        System.out.println("Max score: " + analytics.max().getAsLong()); // Prints 150
+    }
+
+    /**
+     * Demonstrates the same idioms on {@link ObjectIntMap} and {@link IntObjectMap},
+     * which store int keys or values unboxed in open-addressing arrays.
+     *
+     * Example usage:
+     * ```java
+     * ObjectIntMap<String> scores = new ObjectIntMap<>();
+     * scores.merge("John", 100, Integer::sum);                 // 100
+     * scores.compute("John", (key, value) -> value + 50);      // 150
+     *
+     * IntObjectMap<String> names = new IntObjectMap<>();
+     * names.computeIfAbsent(1, id -> "user" + id);             // "user1"
+     * ```
+     *
+     * Use cases:
+     * - Counters and histograms with millions of keys
+     * - Lookup tables keyed by int ids
+     * - Reducing memory footprint and GC pressure
+     */
+    public static void demonstratePrimitiveMaps() {
+        ObjectIntMap<String> scores = new ObjectIntMap<>();
+        scores.merge("John", 100, Integer::sum);
+        scores.merge("John", 50, Integer::sum);
+        scores.compute("Jane", (key, value) -> value + 150);
+        scores.computeIfAbsent("Jack", key -> key.length() * 10);
+        scores.replaceAll((key, value) -> value + 1);
+        scores.forEach((key, value) -> System.out.println(key + ": " + value));
+
+        IntObjectMap<String> names = new IntObjectMap<>();
+        names.computeIfAbsent(1, id -> "user" + id);
+        names.merge(1, "admin", (old, role) -> old + " (" + role + ")");
+        System.out.println("User 1: " + names.getOrDefault(1, "unknown")); // Prints user1 (admin)
     }
 }
@@ -0,0 +1,387 @@
+package com.java.features.java8.map;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/**
+ * A map from primitive int keys to object values, with the Java 8 Map
+ * idioms shown in {@link EnhancedMapAPI} and {@link MapExamples}.
+ *
+ * A {@code HashMap<Integer, V>} allocates a node and, for keys outside the
+ * small Integer cache, a boxed Integer per entry. This map keeps keys and
+ * values in two parallel arrays with linear probing, so an entry costs one
+ * int and one value reference.
+ *
+ * Differences from {@code Map<Integer, V>}:
+ * - Null values are not supported; as in {@code Map.compute} and
+ *   {@code Map.merge}, a function returning null removes the entry
+ * - Functions passed to merge and the compute methods must not modify the map
+ * - Not thread-safe
+ *
+ * Example usage:
+ * ```java
+ * IntObjectMap<List<String>> byLength = new IntObjectMap<>();
+ * for (String word : words) {
+ *     byLength.computeIfAbsent(word.length(), length -> new ArrayList<>()).add(word);
+ * }
+ *
+ * List<String> threeLetters = byLength.getOrDefault(3, Collections.emptyList());
+ * ```
+ *
+ * @param <V> The value type
+ * @see ObjectIntMap
+ */
+public class IntObjectMap<V> {
+
+    /**
+     * A function of an int key and its value, used by {@link #compute} and
+     * {@link #replaceAll}.
+     *
+     * @param <V> The value type
+     * @param <R> The result type
+     */
+    @FunctionalInterface
+    public interface IntObjFunction<V, R> {
+        /**
+         * Computes a new value
+         * @param key The key
+         * @param value The current value, or null if absent
+         * @return The new value, or null to remove the entry
+         */
+        R apply(int key, V value);
+    }
+
+    /**
+     * An action on an int key and its value, used by {@link #forEach}.
+     *
+     * @param <V> The value type
+     */
+    @FunctionalInterface
+    public interface IntObjConsumer<V> {
+        /**
+         * Performs the action
+         * @param key The key
+         * @param value The value
+         */
+        void accept(int key, V value);
+    }
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int shift;
+    private int resizeAt;
+
+    /**
+     * Creates an empty map
+     */
+    public IntObjectMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty map that holds the given number of entries without resizing
+     * @param expectedSize Expected number of entries
+     */
+    public IntObjectMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal size: " + expectedSize);
+        }
+        allocate(ObjectIntMap.capacityFor(expectedSize));
+    }
+
+    /**
+     * Gets the number of entries
+     * @return Entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the map has no entries
+     * @return true if the map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether the map has an entry for the key
+     * @param key The key to look up
+     * @return true if the key is present
+     */
+    public boolean containsKey(int key) {
+        return slotFor(key) >= 0;
+    }
+
+    /**
+     * Returns the value for a key.
+     *
+     * @param key The key to look up
+     * @return The value, or null if the key is absent
+     */
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value for a key, or a default when the key is absent.
+     *
+     * @param key The key to look up
+     * @param defaultValue The value returned for an absent key
+     * @return The value or the default
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue) {
+        int slot = slotFor(key);
+        return slot >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     *
+     * @param key The key
+     * @param value The value, not null
+     * @return The previous value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        Objects.requireNonNull(value, "value");
+        int slot = slotFor(key);
+        if (slot >= 0) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insert(~slot, key, value);
+        return null;
+    }
+
+    /**
+     * Removes the entry for a key.
+     *
+     * @param key The key to remove
+     * @return The removed value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = slotFor(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        delete(slot);
+        return previous;
+    }
+
+    /**
+     * Removes all entries, keeping the current capacity
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Puts the value if the key is absent, otherwise replaces the value with
+     * the result of the remapping function, removing the entry if it is null.
+     *
+     * Example usage:
+     * ```java
+     * names.merge(1, "Ann", (old, given) -> old + ", " + given);  // "Ann"
+     * names.merge(1, "Bob", (old, given) -> old + ", " + given);  // "Ann, Bob"
+     * ```
+     *
+     * @param key The key
+     * @param value The value to put or combine, not null
+     * @param remapping Combines the old and the given value
+     * @return The new value, or null if the entry was removed
+     */
+    @SuppressWarnings("unchecked")
+    public V merge(int key, V value, BiFunction<? super V, ? super V, ? extends V> remapping) {
+        Objects.requireNonNull(value, "value");
+        int slot = slotFor(key);
+        if (slot < 0) {
+            insert(~slot, key, value);
+            return value;
+        }
+        return update(slot, remapping.apply((V) values[slot], value));
+    }
+
+    /**
+     * Replaces the value of a key with the result of the function. An absent
+     * key is passed as null; a null result removes the entry.
+     *
+     * @param key The key
+     * @param remapping Computes the new value from the key and the old value
+     * @return The new value, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V compute(int key, IntObjFunction<? super V, ? extends V> remapping) {
+        int slot = slotFor(key);
+        if (slot >= 0) {
+            return update(slot, remapping.apply(key, (V) values[slot]));
+        }
+        V value = remapping.apply(key, null);
+        if (value != null) {
+            insert(~slot, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of a key, computing and adding it first if the key
+     * is absent. Nothing is added if the function returns null.
+     *
+     * Example usage:
+     * ```java
+     * groups.computeIfAbsent(3, length -> new ArrayList<>()).add("cat");
+     * ```
+     *
+     * @param key The key
+     * @param mapping Computes the value of an absent key
+     * @return The existing or computed value
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(int key, IntFunction<? extends V> mapping) {
+        int slot = slotFor(key);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        V value = mapping.apply(key);
+        if (value != null) {
+            insert(~slot, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Performs an action for each entry, in no particular order.
+     *
+     * @param action The action receiving each key and value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjConsumer<? super V> action) {
+        Object[] values = this.values;
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null) {
+                action.accept(keys[slot], (V) values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Replaces every value with the result of the function.
+     *
+     * @param function Computes the new value from each key and value, not null
+     */
+    @SuppressWarnings("unchecked")
+    public void replaceAll(IntObjFunction<? super V, ? extends V> function) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null) {
+                values[slot] = Objects.requireNonNull(function.apply(keys[slot], (V) values[slot]), "value");
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (result.length() > 1) {
+                result.append(", ");
+            }
+            result.append(key).append('=').append(value);
+        });
+        return result.append('}').toString();
+    }
+
+    private V update(int slot, V value) {
+        if (value == null) {
+            delete(slot);
+        } else {
+            values[slot] = value;
+        }
+        return value;
+    }
+
+    private int home(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Returns the slot holding the key, or the complement of the free slot
+     * where it would be inserted. Empty slots have a null value.
+     */
+    private int slotFor(int key) {
+        int mask = keys.length - 1;
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            if (values[slot] == null) {
+                return ~slot;
+            }
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+    }
+
+    private void insert(int slot, int key, Object value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            resize();
+        }
+    }
+
+    /**
+     * Backward-shift deletion: entries later in the probe run move into the
+     * gap, so lookups never need tombstones.
+     */
+    private void delete(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = home(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        values[gap] = null;
+        size--;
+    }
+
+    private void resize() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Map is full: " + size + " entries");
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = home(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        resizeAt = capacity == MAX_CAPACITY ? capacity - 1 : capacity / 4 * 3;
+    }
+}
@@ -1,5 +1,7 @@
 package com.java.features.java8.map;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -79,6 +81,22 @@ public class MapExamples {
         return map.computeIfAbsent(key, k -> k.length());
     }
 
+    /**
+     * Demonstrates computeIfAbsent-style caching with a bound.
+     * A plain map used as a cache keeps every key it has ever seen; a
+     * BoundedCache evicts the least valuable entries past its maximum size
+     * and runs the computation once even when several threads miss the same
+     * key at the same time.
+     *
+     * @param cache The cache to demonstrate with
+     * @param key The key to compute for
+     * @return The computed or cached value
+     */
+    public static Integer demonstrateComputeIfAbsent(BoundedCache<String, Integer> cache,
+            String key) {
+        return cache.get(key, k -> k.length());
+    }
+
     /**
      * Demonstrates the computeIfPresent method.
      * Computes a new value if the key is present.
@@ -160,26 +178,30 @@ public class MapExamples {
      * - reduce
      * - forEach with parallelism threshold
      *
+     * The threshold comes from {@link ConcurrentMapAnalytics#parallelismThreshold},
+     * so small maps are traversed sequentially instead of forking per entry.
+     *
      * @param map The concurrent map to demonstrate with
      * @return Results of the operations
      */
     public static String demonstrateConcurrentMapFeatures(
             ConcurrentHashMap<String, Integer> map) {
         StringBuilder result = new StringBuilder();
+        long threshold = ConcurrentMapAnalytics.parallelismThreshold(map);
 
         // Search for first value > 10
-        Integer searchResult = map.search(1, (key, value) -> 
+        Integer searchResult = map.search(threshold, (key, value) -> 
                 value > 10 ? value : null);
         result.append("Search result: ").append(searchResult).append("\n");
 
         // Reduce to find sum of all values
-        Integer reduceResult = map.reduce(1,
+        Integer reduceResult = map.reduce(threshold,
                 (key, value) -> value,
                 Integer::sum);
         result.append("Reduce result: ").append(reduceResult).append("\n");
 
-        // Parallel forEach with threshold
-        map.forEach(1, (key, value) -> 
+        // Sequential forEach: the StringBuilder is not thread-safe
+        map.forEach(Long.MAX_VALUE, (key, value) -> 
                 result.append(String.format("%s=%d, ", key, value)));
 
         return result.toString();
@@ -214,6 +236,28 @@ public class MapExamples {
                 String.join(", ", old, newVal));
     }
 
+    /**
+     * Demonstrates counting words in a large file.
+     * The counting loop in {@link #demonstratePracticalUseCases()} suits a
+     * sentence; for multi-GB files {@link WordCountEngine} maps the file in
+     * chunks and counts on all cores without boxing per increment.
+     *
+     * @param file The file to count words in
+     * @param topN Number of most frequent words to report
+     * @return The most frequent words with their counts, and the throughput
+     * @throws IOException If the file cannot be read
+     */
+    public static String demonstrateWordCount(Path file, int topN) throws IOException {
+        WordCountEngine.Result result = new WordCountEngine().count(file);
+
+        StringBuilder report = new StringBuilder();
+        result.getTopWords(topN).forEach(entry ->
+                report.append(String.format("%s=%d, ", entry.getKey(), entry.getValue())));
+        report.append(String.format("%d words (%d distinct) at %.1f MB/s",
+                result.getTotalWords(), result.getDistinctWords(), result.getMegabytesPerSecond()));
+        return report.toString();
+    }
+
     /**
      * Main method to run all demonstrations.
      */
@@ -240,6 +284,13 @@ public class MapExamples {
         
         System.out.println("ComputeIfAbsent: " + 
                 demonstrateComputeIfAbsent(intMap, "four"));
+
+        BoundedCache<String, Integer> lengthCache = new BoundedCache<>(2);
+        demonstrateComputeIfAbsent(lengthCache, "four");
+        demonstrateComputeIfAbsent(lengthCache, "four");
+        demonstrateComputeIfAbsent(lengthCache, "five");
+        demonstrateComputeIfAbsent(lengthCache, "six");
+        System.out.println("Bounded ComputeIfAbsent: " + lengthCache);
         
         System.out.println("ComputeIfPresent: " + 
                 demonstrateComputeIfPresent(intMap, "one"));
@@ -0,0 +1,372 @@
+package com.java.features.java8.map;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * A map from object keys to primitive int values, with the Java 8 Map
+ * idioms shown in {@link EnhancedMapAPI} and {@link MapExamples}.
+ *
+ * A {@code HashMap<String, Integer>} allocates a node and, for values
+ * outside the small Integer cache, a boxed Integer per entry. This map keeps
+ * keys and values in two parallel arrays with linear probing, so an entry
+ * costs one key reference and one int, and updates never allocate.
+ *
+ * Differences from {@code Map<K, Integer>}:
+ * - Absent keys read as 0 in {@link #compute} (the counter idiom), and as
+ *   the given default in {@link #getOrDefault}
+ * - Null keys are not supported
+ * - Functions passed to merge and the compute methods must not modify the map
+ * - Not thread-safe
+ *
+ * Example usage:
+ * ```java
+ * ObjectIntMap<String> wordCount = new ObjectIntMap<>();
+ *
+ * // Instead of map.compute(word, (k, v) -> v == null ? 1 : v + 1)
+ * wordCount.compute("fox", (word, count) -> count + 1);
+ *
+ * // Instead of map.merge(word, 1, Integer::sum)
+ * wordCount.merge("fox", 1, Integer::sum);
+ *
+ * int foxes = wordCount.getOrDefault("fox", 0);  // 2
+ * wordCount.forEach((word, count) -> System.out.println(word + "=" + count));
+ * ```
+ *
+ * @param <K> The key type
+ * @see IntObjectMap
+ */
+public class ObjectIntMap<K> {
+
+    /**
+     * A function of a key and its int value, used by {@link #compute} and
+     * {@link #replaceAll}.
+     *
+     * @param <K> The key type
+     */
+    @FunctionalInterface
+    public interface ObjIntOperator<K> {
+        /**
+         * Computes a new value
+         * @param key The key
+         * @param value The current value
+         * @return The new value
+         */
+        int applyAsInt(K key, int value);
+    }
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] keys;
+    private int[] values;
+    private int size;
+    private int shift;
+    private int resizeAt;
+
+    /**
+     * Creates an empty map
+     */
+    public ObjectIntMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty map that holds the given number of entries without resizing
+     * @param expectedSize Expected number of entries
+     */
+    public ObjectIntMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal size: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Gets the number of entries
+     * @return Entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the map has no entries
+     * @return true if the map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether the map has an entry for the key
+     * @param key The key to look up
+     * @return true if the key is present
+     */
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns the value for a key, or a default when the key is absent.
+     *
+     * @param key The key to look up
+     * @param defaultValue The value returned for an absent key
+     * @return The value or the default
+     */
+    public int getOrDefault(K key, int defaultValue) {
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     *
+     * @param key The key
+     * @param value The value
+     */
+    public void put(K key, int value) {
+        int slot = slotFor(key);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            insert(~slot, key, value);
+        }
+    }
+
+    /**
+     * Removes the entry for a key.
+     *
+     * @param key The key to remove
+     * @return true if an entry was removed
+     */
+    public boolean remove(K key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        delete(slot);
+        return true;
+    }
+
+    /**
+     * Removes all entries, keeping the current capacity
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        size = 0;
+    }
+
+    /**
+     * Puts the value if the key is absent, otherwise replaces the value with
+     * the result of the remapping function applied to the old and given values.
+     *
+     * Example usage:
+     * ```java
+     * counts.merge("fox", 1, Integer::sum);  // 1
+     * counts.merge("fox", 1, Integer::sum);  // 2
+     * ```
+     *
+     * @param key The key
+     * @param value The value to put or combine
+     * @param remapping Combines the old and the given value
+     * @return The new value
+     */
+    public int merge(K key, int value, IntBinaryOperator remapping) {
+        int slot = slotFor(key);
+        if (slot >= 0) {
+            return values[slot] = remapping.applyAsInt(values[slot], value);
+        }
+        insert(~slot, key, value);
+        return value;
+    }
+
+    /**
+     * Replaces the value of a key with the result of the function. An
+     * absent key is passed as 0 and is added with the result.
+     *
+     * Example usage:
+     * ```java
+     * counts.compute("fox", (word, count) -> count + 1);  // 1
+     * ```
+     *
+     * @param key The key
+     * @param remapping Computes the new value from the key and the old value
+     * @return The new value
+     */
+    public int compute(K key, ObjIntOperator<? super K> remapping) {
+        int slot = slotFor(key);
+        if (slot >= 0) {
+            return values[slot] = remapping.applyAsInt(key, values[slot]);
+        }
+        int value = remapping.applyAsInt(key, 0);
+        insert(~slot, key, value);
+        return value;
+    }
+
+    /**
+     * Returns the value of a key, computing and adding it first if the key is absent.
+     *
+     * Example usage:
+     * ```java
+     * lengths.computeIfAbsent("John", String::length);  // 4
+     * ```
+     *
+     * @param key The key
+     * @param mapping Computes the value of an absent key
+     * @return The existing or computed value
+     */
+    public int computeIfAbsent(K key, ToIntFunction<? super K> mapping) {
+        int slot = slotFor(key);
+        if (slot >= 0) {
+            return values[slot];
+        }
+        int value = mapping.applyAsInt(key);
+        insert(~slot, key, value);
+        return value;
+    }
+
+    /**
+     * Performs an action for each entry, in no particular order.
+     *
+     * @param action The action receiving each key and value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjIntConsumer<? super K> action) {
+        Object[] keys = this.keys;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                action.accept((K) keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Replaces every value with the result of the function.
+     *
+     * @param function Computes the new value from each key and value
+     */
+    @SuppressWarnings("unchecked")
+    public void replaceAll(ObjIntOperator<? super K> function) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                values[slot] = function.applyAsInt((K) keys[slot], values[slot]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (result.length() > 1) {
+                result.append(", ");
+            }
+            result.append(key).append('=').append(value);
+        });
+        return result.append('}').toString();
+    }
+
+    private int home(Object key) {
+        return (key.hashCode() * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Returns the slot holding the key, or -1
+     */
+    private int find(Object key) {
+        int mask = keys.length - 1;
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            Object candidate = keys[slot];
+            if (candidate == null) {
+                return -1;
+            }
+            if (candidate == key || candidate.equals(key)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot holding the key, or the complement of the free slot
+     * where it would be inserted
+     */
+    private int slotFor(Object key) {
+        Objects.requireNonNull(key, "key");
+        int mask = keys.length - 1;
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            Object candidate = keys[slot];
+            if (candidate == null) {
+                return ~slot;
+            }
+            if (candidate == key || candidate.equals(key)) {
+                return slot;
+            }
+        }
+    }
+
+    private void insert(int slot, Object key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            resize();
+        }
+    }
+
+    /**
+     * Backward-shift deletion: entries later in the probe run move into the
+     * gap, so lookups never need tombstones.
+     */
+    private void delete(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != null; next = (next + 1) & mask) {
+            int home = home(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = null;
+        size--;
+    }
+
+    private void resize() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Map is full: " + size + " entries");
+        }
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = home(oldKeys[i]);
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new int[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        resizeAt = capacity == MAX_CAPACITY ? capacity - 1 : capacity / 4 * 3;
+    }
+
+    /**
+     * Smallest power of two keeping the table at most 3/4 full
+     */
+    static int capacityFor(int expectedSize) {
+        long needed = Math.max(4L, (long) expectedSize * 4 / 3 + 1);
+        return needed >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit((int) needed - 1) << 1;
+    }
+}
@@ -0,0 +1,423 @@
+package com.java.features.java8.map;
+
+import com.java.features.java8.streams.TopK;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts words in large files on multiple cores.
+ *
+ * The counting loop in {@link MapExamples#demonstratePracticalUseCases()}
+ * creates a String per word and boxes an Integer per increment. This engine
+ * instead memory-maps the file in chunks that end on line boundaries, and
+ * lets one worker per core tokenize chunks straight from the mapped bytes
+ * into its own open-addressing map of byte keys to {@code long} counts.
+ * While counting, the only per-word allocation is a lower-cased copy of
+ * its bytes, made the first time a worker sees the word, so once per
+ * worker and distinct word. The per-worker maps are merged on those byte
+ * keys at the end, and only then is a String created, one per distinct
+ * word.
+ *
+ * A word is a run of ASCII letters and digits, or of non-ASCII bytes (so
+ * UTF-8 encoded letters stay inside words). ASCII letters are lower-cased.
+ *
+ * Sample usage:
+ * ```java
+ * WordCountEngine.Result result = new WordCountEngine().count(Paths.get("access.log"));
+ *
+ * result.getTopWords(10).forEach(e -> System.out.println(e.getKey() + " " + e.getValue()));
+ * System.out.printf("%.1f MB/s%n", result.getMegabytesPerSecond());
+ * ```
+ *
+ * @see java.nio.channels.FileChannel#map(FileChannel.MapMode, long, long)
+ */
+public final class WordCountEngine {
+
+    /**
+     * Default bytes per chunk before extending to the end of the line
+     */
+    static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    private static final double MB = 1024 * 1024;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates an engine using the common pool
+     */
+    public WordCountEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an engine running one worker per thread of the given pool
+     * @param pool The pool running the workers
+     */
+    public WordCountEngine(ForkJoinPool pool) {
+        this(pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    WordCountEngine(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Counts the words of a file.
+     *
+     * @param file The file to read, UTF-8 or ASCII
+     * @return The word counts and throughput
+     * @throws IOException If the file cannot be read
+     */
+    public Result count(Path file) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long[] boundaries = lineBoundaries(channel, size);
+            AtomicInteger nextChunk = new AtomicInteger();
+
+            int workers = Math.max(1, Math.min(pool.getParallelism(), boundaries.length - 1));
+            List<Future<WordCounts>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                futures.add(pool.submit(() -> {
+                    WordCounts counts = new WordCounts();
+                    for (int chunk = nextChunk.getAndIncrement(); chunk < boundaries.length - 1;
+                         chunk = nextChunk.getAndIncrement()) {
+                        long from = boundaries[chunk];
+                        long length = boundaries[chunk + 1] - from;
+                        counts.tokenize(channel.map(FileChannel.MapMode.READ_ONLY, from, length));
+                    }
+                    return counts;
+                }));
+            }
+
+            WordCounts total = join(futures.get(0));
+            for (int i = 1; i < futures.size(); i++) {
+                total.addAll(join(futures.get(i)));
+            }
+            return new Result(total.toMap(), total.getTotal(), size, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Splits the file into chunks of about {@code chunkSize} bytes, each
+     * extended to just past the next newline.
+     */
+    private long[] lineBoundaries(FileChannel channel, long size) throws IOException {
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long position = 0;
+        while (position < size) {
+            long end = Math.min(size, position + chunkSize);
+            while (end < size) {
+                buffer.clear();
+                int read = channel.read(buffer, end);
+                int newline = indexOf(buffer, read, (byte) '\n');
+                if (newline >= 0) {
+                    end += newline + 1;
+                    break;
+                }
+                end += read;
+            }
+            end = Math.min(size, end);
+            if (end - position > Integer.MAX_VALUE) {
+                throw new IOException("Line starting before offset " + position + " exceeds 2 GB");
+            }
+            boundaries.add(end);
+            position = end;
+        }
+        long[] result = new long[boundaries.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = boundaries.get(i);
+        }
+        return result;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int length, byte value) {
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static WordCounts join(Future<WordCounts> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while counting words", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("Word count failed", e.getCause());
+        }
+    }
+
+    /**
+     * Word counts of one file, with the time taken to count them.
+     */
+    public static final class Result {
+        private static final Comparator<Map.Entry<String, Long>> BY_COUNT_DESCENDING =
+                Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey());
+
+        private final Map<String, Long> counts;
+        private final long totalWords;
+        private final long bytes;
+        private final long elapsedNanos;
+
+        Result(Map<String, Long> counts, long totalWords, long bytes, long elapsedNanos) {
+            this.counts = Collections.unmodifiableMap(counts);
+            this.totalWords = totalWords;
+            this.bytes = bytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns the n most frequent words, most frequent first. Words
+         * with equal counts are ordered alphabetically.
+         *
+         * @param n Maximum number of words to return
+         * @return Word and count pairs
+         */
+        public List<Map.Entry<String, Long>> getTopWords(int n) {
+            return counts.entrySet().stream().collect(TopK.smallest(n, BY_COUNT_DESCENDING));
+        }
+
+        /**
+         * Gets the number of occurrences of a word
+         * @param word The word, in lower case
+         * @return Occurrence count, 0 if the word does not occur
+         */
+        public long getCount(String word) {
+            return counts.getOrDefault(word, 0L);
+        }
+
+        /**
+         * Gets all word counts
+         * @return Unmodifiable map of word to count
+         */
+        public Map<String, Long> getCounts() {
+            return counts;
+        }
+
+        /**
+         * Gets the number of distinct words
+         * @return Distinct word count
+         */
+        public int getDistinctWords() {
+            return counts.size();
+        }
+
+        /**
+         * Gets the number of words counted
+         * @return Total word count
+         */
+        public long getTotalWords() {
+            return totalWords;
+        }
+
+        /**
+         * Gets the size of the input
+         * @return Bytes read
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Gets the time taken to count the file
+         * @param unit The unit of the result
+         * @return Elapsed time
+         */
+        public long getElapsed(TimeUnit unit) {
+            return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Gets the throughput of the count
+         * @return Megabytes of input per second
+         */
+        public double getMegabytesPerSecond() {
+            return elapsedNanos == 0 ? 0 : bytes / MB / (elapsedNanos / 1e9);
+        }
+    }
+
+    /**
+     * An open-addressing map from lower-cased word bytes to counts, owned
+     * by a single worker. Keys are compared against the mapped bytes in
+     * place, so only new words are copied.
+     */
+    static final class WordCounts {
+        private static final int INITIAL_CAPACITY = 1 << 12;
+
+        private byte[][] keys = new byte[INITIAL_CAPACITY][];
+        private int[] hashes = new int[INITIAL_CAPACITY];
+        private long[] counts = new long[INITIAL_CAPACITY];
+        private int size;
+        private long total;
+
+        void tokenize(MappedByteBuffer buffer) {
+            int limit = buffer.limit();
+            int start = -1;
+            int hash = 0;
+            for (int i = 0; i < limit; i++) {
+                byte b = buffer.get(i);
+                if (isWordByte(b)) {
+                    if (start < 0) {
+                        start = i;
+                        hash = 0;
+                    }
+                    hash = 31 * hash + toLower(b);
+                } else if (start >= 0) {
+                    increment(buffer, start, i - start, hash);
+                    start = -1;
+                }
+            }
+            if (start >= 0) {
+                increment(buffer, start, limit - start, hash);
+            }
+        }
+
+        private static boolean isWordByte(byte b) {
+            return b < 0
+                    || (b >= 'a' && b <= 'z')
+                    || (b >= 'A' && b <= 'Z')
+                    || (b >= '0' && b <= '9');
+        }
+
+        private static byte toLower(byte b) {
+            return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+        }
+
+        private void increment(ByteBuffer buffer, int start, int length, int hash) {
+            total++;
+            int mask = keys.length - 1;
+            for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+                byte[] key = keys[slot];
+                if (key == null) {
+                    byte[] copy = new byte[length];
+                    for (int i = 0; i < length; i++) {
+                        copy[i] = toLower(buffer.get(start + i));
+                    }
+                    insert(slot, copy, hash, 1);
+                    return;
+                }
+                if (hashes[slot] == hash && matches(key, buffer, start, length)) {
+                    counts[slot]++;
+                    return;
+                }
+            }
+        }
+
+        private static boolean matches(byte[] key, ByteBuffer buffer, int start, int length) {
+            if (key.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (key[i] != toLower(buffer.get(start + i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void addAll(WordCounts other) {
+            total += other.total;
+            for (int i = 0; i < other.keys.length; i++) {
+                if (other.keys[i] != null) {
+                    add(other.keys[i], other.hashes[i], other.counts[i]);
+                }
+            }
+        }
+
+        private void add(byte[] word, int hash, long count) {
+            int mask = keys.length - 1;
+            for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+                if (keys[slot] == null) {
+                    insert(slot, word, hash, count);
+                    return;
+                }
+                if (hashes[slot] == hash && Arrays.equals(keys[slot], word)) {
+                    counts[slot] += count;
+                    return;
+                }
+            }
+        }
+
+        private void insert(int slot, byte[] word, int hash, long count) {
+            keys[slot] = word;
+            hashes[slot] = hash;
+            counts[slot] = count;
+            // Keep the table at most half full
+            if (++size > keys.length >>> 1) {
+                resize();
+            }
+        }
+
+        private void resize() {
+            byte[][] oldKeys = keys;
+            int[] oldHashes = hashes;
+            long[] oldCounts = counts;
+            keys = new byte[oldKeys.length << 1][];
+            hashes = new int[keys.length];
+            counts = new long[keys.length];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int slot = spread(oldHashes[i]) & mask;
+                    while (keys[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    hashes[slot] = oldHashes[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+
+        private static int spread(int hash) {
+            return hash * 0x9E3779B9 ^ hash >>> 16;
+        }
+
+        long getTotal() {
+            return total;
+        }
+
+        Map<String, Long> toMap() {
+            Map<String, Long> result = new HashMap<>(size * 4 / 3 + 1);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    result.put(new String(keys[i], StandardCharsets.UTF_8), counts[i]);
+                }
+            }
+            return result;
+        }
+    }
+}
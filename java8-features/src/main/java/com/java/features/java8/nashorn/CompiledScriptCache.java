@@ -0,0 +1,274 @@
+package com.java.features.java8.nashorn;
+
+import com.java.features.java8.map.BoundedCache;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+import javax.script.SimpleScriptContext;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compiles each distinct script source once and evaluates it from many
+ * threads, with per-script compile and evaluation timings.
+ *
+ * {@code engine.eval(String)} parses and compiles the source on every
+ * call. Here the {@link CompiledScript} produced by the engine's
+ * {@link Compilable} interface is kept in a {@link BoundedCache} keyed by
+ * the source text, so a script is compiled on first use only; concurrent
+ * first uses compile it once.
+ *
+ * A script engine's default context is a single global scope, so it must
+ * not be used from several threads at once. {@link #eval(String, Map)}
+ * instead borrows a {@link ScriptContext} from a pool; each context has its
+ * own engine scope (a separate global in Nashorn) and is used by one thread
+ * at a time. Pooled contexts are meant for stateless scripts: the given
+ * variables are removed after each evaluation, but globals the script
+ * itself declares stay in that context.
+ *
+ * Example usage:
+ * ```java
+ * ScriptEngine engine = new ScriptEngineManager().getEngineByName("nashorn");
+ * CompiledScriptCache scripts = new CompiledScriptCache(engine);
+ *
+ * Map<String, Object> order = new HashMap<>();
+ * order.put("price", 9.5);
+ * order.put("quantity", 4);
+ *
+ * // Safe from any thread; "price * quantity" is compiled once
+ * Object total = scripts.eval("price * quantity", order);   // 38.0
+ *
+ * scripts.getStats("price * quantity").ifPresent(System.out::println);
+ * // ScriptStats{compileMicros=850, evals=1, averageEvalMicros=12}
+ * ```
+ *
+ * @see javax.script.Compilable
+ */
+public class CompiledScriptCache {
+
+    private static final int DEFAULT_MAXIMUM_SCRIPTS = 1_000;
+
+    private final ScriptEngine engine;
+    private final Compilable compiler;
+    private final BoundedCache<String, ScriptStats> scripts;
+    private final BlockingQueue<ScriptContext> idleContexts;
+
+    /**
+     * Creates a cache for up to 1000 scripts, pooling one context per core
+     * @param engine A script engine implementing {@link Compilable}
+     */
+    public CompiledScriptCache(ScriptEngine engine) {
+        this(engine, DEFAULT_MAXIMUM_SCRIPTS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a cache with the given limits.
+     *
+     * @param engine A script engine implementing {@link Compilable}
+     * @param maximumScripts Maximum number of compiled scripts kept
+     * @param maximumIdleContexts Maximum number of contexts kept for reuse
+     */
+    public CompiledScriptCache(ScriptEngine engine, int maximumScripts, int maximumIdleContexts) {
+        Objects.requireNonNull(engine, "No script engine; Nashorn is only bundled with Java 8 to 14");
+        if (!(engine instanceof Compilable)) {
+            throw new IllegalArgumentException("Engine cannot compile scripts: " + engine.getClass().getName());
+        }
+        if (maximumIdleContexts < 1) {
+            throw new IllegalArgumentException("maximumIdleContexts must be positive: " + maximumIdleContexts);
+        }
+        this.engine = engine;
+        this.compiler = (Compilable) engine;
+        this.scripts = new BoundedCache<>(maximumScripts);
+        this.idleContexts = new ArrayBlockingQueue<>(maximumIdleContexts);
+    }
+
+    /**
+     * Returns the compiled form of a script, compiling it on first use.
+     *
+     * @param source The script source
+     * @return The compiled script, bound to this cache's engine
+     * @throws ScriptException if the source does not compile
+     */
+    public CompiledScript compile(String source) throws ScriptException {
+        return statsFor(source).script;
+    }
+
+    /**
+     * Evaluates a script in the engine's default context, where it sees and
+     * changes the engine's global variables. Not safe to call concurrently
+     * with other evaluations in that context.
+     *
+     * @param source The script source
+     * @return The result of the script
+     * @throws ScriptException if the script fails to compile or run
+     */
+    public Object eval(String source) throws ScriptException {
+        return eval(statsFor(source), engine.getContext());
+    }
+
+    /**
+     * Evaluates a script with the given variables in a pooled context. Safe
+     * to call from several threads at once.
+     *
+     * @param source The script source
+     * @param variables Variables visible to the script as globals
+     * @return The result of the script
+     * @throws ScriptException if the script fails to compile or run
+     */
+    public Object eval(String source, Map<String, ?> variables) throws ScriptException {
+        ScriptStats stats = statsFor(source);
+        ScriptContext context = idleContexts.poll();
+        if (context == null) {
+            context = newContext();
+        }
+        Bindings scope = context.getBindings(ScriptContext.ENGINE_SCOPE);
+        try {
+            scope.putAll(variables);
+            return eval(stats, context);
+        } finally {
+            for (String name : variables.keySet()) {
+                scope.remove(name);
+            }
+            idleContexts.offer(context);
+        }
+    }
+
+    /**
+     * Gets the timings of a cached script
+     * @param source The script source
+     * @return The script's statistics, or empty if it is not cached
+     */
+    public Optional<ScriptStats> getStats(String source) {
+        return scripts.getIfPresent(source);
+    }
+
+    /**
+     * Gets the number of compiled scripts in the cache
+     * @return Script count
+     */
+    public long size() {
+        return scripts.size();
+    }
+
+    private ScriptContext newContext() {
+        ScriptContext context = new SimpleScriptContext();
+        context.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
+        context.setBindings(engine.getBindings(ScriptContext.GLOBAL_SCOPE), ScriptContext.GLOBAL_SCOPE);
+        return context;
+    }
+
+    private static Object eval(ScriptStats stats, ScriptContext context) throws ScriptException {
+        long start = System.nanoTime();
+        try {
+            return stats.script.eval(context);
+        } finally {
+            stats.recordEval(System.nanoTime() - start);
+        }
+    }
+
+    private ScriptStats statsFor(String source) throws ScriptException {
+        try {
+            return scripts.get(source, this::compileNow);
+        } catch (CompileFailure e) {
+            throw e.getCause();
+        }
+    }
+
+    private ScriptStats compileNow(String source) {
+        long start = System.nanoTime();
+        try {
+            CompiledScript script = compiler.compile(source);
+            return new ScriptStats(script, System.nanoTime() - start);
+        } catch (ScriptException e) {
+            throw new CompileFailure(e);
+        }
+    }
+
+    /**
+     * Carries a checked ScriptException out of the cache loader.
+     */
+    private static final class CompileFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        CompileFailure(ScriptException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized ScriptException getCause() {
+            return (ScriptException) super.getCause();
+        }
+    }
+
+    /**
+     * A compiled script with its compile time and evaluation timings.
+     */
+    public static final class ScriptStats {
+        private final CompiledScript script;
+        private final long compileNanos;
+        private final LongAdder evals = new LongAdder();
+        private final LongAdder evalNanos = new LongAdder();
+
+        ScriptStats(CompiledScript script, long compileNanos) {
+            this.script = script;
+            this.compileNanos = compileNanos;
+        }
+
+        void recordEval(long nanos) {
+            evals.increment();
+            evalNanos.add(nanos);
+        }
+
+        /**
+         * Gets the time spent compiling the script
+         * @param unit The unit of the result
+         * @return Compile time
+         */
+        public long getCompileTime(TimeUnit unit) {
+            return unit.convert(compileNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Gets the number of evaluations, including failed ones
+         * @return Evaluation count
+         */
+        public long getEvalCount() {
+            return evals.sum();
+        }
+
+        /**
+         * Gets the total time spent evaluating the script
+         * @param unit The unit of the result
+         * @return Total evaluation time
+         */
+        public long getTotalEvalTime(TimeUnit unit) {
+            return unit.convert(evalNanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Gets the mean time of one evaluation
+         * @param unit The unit of the result
+         * @return Mean evaluation time, 0 before the first evaluation
+         */
+        public double getAverageEvalTime(TimeUnit unit) {
+            long count = evals.sum();
+            return count == 0 ? 0 : (double) evalNanos.sum() / count / unit.toNanos(1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ScriptStats{compileMicros=%d, evals=%d, averageEvalMicros=%.0f}",
+                    getCompileTime(TimeUnit.MICROSECONDS), getEvalCount(),
+                    getAverageEvalTime(TimeUnit.MICROSECONDS));
+        }
+    }
+}
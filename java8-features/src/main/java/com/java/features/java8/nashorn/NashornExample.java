@@ -4,8 +4,13 @@ import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 import javax.script.Invocable;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Demonstrates the Nashorn JavaScript engine introduced in Java 8.
@@ -42,20 +47,24 @@ import java.io.IOException;
  */
 public class NashornExample {
     private final ScriptEngine engine;
+    private final CompiledScriptCache scriptCache;
+    private final Map<Path, ScriptFile> loadedFiles = new ConcurrentHashMap<>();
 
     public NashornExample() {
         this.engine = new ScriptEngineManager().getEngineByName("nashorn");
+        this.scriptCache = new CompiledScriptCache(engine);
     }
 
     /**
-     * Evaluates a simple JavaScript expression.
+     * Evaluates a simple JavaScript expression. The expression is compiled
+     * on first use and the compiled form reused afterwards.
      *
      * @param expression JavaScript expression to evaluate
      * @return Result of the evaluation
      * @throws ScriptException if the expression cannot be evaluated
      */
     public Object evaluateExpression(String expression) throws ScriptException {
-        Object result = engine.eval(expression);
+        Object result = scriptCache.eval(expression);
         // Convert numeric results to Double to match JavaScript behavior
         if (result instanceof Number) {
             return ((Number) result).doubleValue();
@@ -64,17 +73,19 @@ public class NashornExample {
     }
 
     /**
-     * Executes JavaScript code from a string.
+     * Executes JavaScript code from a string, compiling it on first use.
      *
      * @param code JavaScript code to execute
      * @throws ScriptException if the code cannot be executed
      */
     public void executeJavaScript(String code) throws ScriptException {
-        engine.eval(code);
+        scriptCache.eval(code);
     }
 
     /**
-     * Calls a JavaScript function with parameters.
+     * Calls a JavaScript function with parameters. The function is looked
+     * up by name on every call; for repeated calls, resolve it once with
+     * {@link #resolveFunction(String)}.
      *
      * @param functionName Name of the JavaScript function to call
      * @param args Arguments to pass to the function
@@ -89,16 +100,47 @@ public class NashornExample {
     }
 
     /**
-     * Loads and executes a JavaScript file.
+     * Resolves a global JavaScript function into a reusable handle, for
+     * calling it many times or over batches of arguments.
+     *
+     * Example usage:
+     * ```java
+     * example.executeJavaScript("function square(x) { return x * x; }");
+     * ScriptFunction square = example.resolveFunction("square");
+     *
+     * Object[] results = new Object[inputs.length];
+     * square.applyBatch(inputs, results);
+     * ```
+     *
+     * @param functionName Name of the JavaScript function
+     * @return A handle bound to the function as currently defined
+     * @throws ScriptException if the handle cannot be created
+     * @throws NoSuchMethodException if the function doesn't exist
+     */
+    public ScriptFunction resolveFunction(String functionName)
+            throws ScriptException, NoSuchMethodException {
+        return ScriptFunction.resolve(engine, functionName);
+    }
+
+    /**
+     * Loads and executes a JavaScript file. The file is read again only
+     * when its modification time or size has changed since the last call.
      *
      * @param filePath Path to the JavaScript file
      * @throws ScriptException if the file cannot be executed
      * @throws IOException if the file cannot be read
      */
     public void loadJavaScriptFile(String filePath) throws ScriptException, IOException {
-        try (FileReader reader = new FileReader(filePath)) {
-            engine.eval(reader);
+        Path path = Paths.get(filePath).toAbsolutePath();
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        long size = Files.size(path);
+        ScriptFile file = loadedFiles.get(path);
+        if (file == null || file.lastModified != lastModified || file.size != size) {
+            String source = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            file = new ScriptFile(lastModified, size, source);
+            loadedFiles.put(path, file);
         }
+        scriptCache.eval(file.source);
     }
 
     /**
@@ -109,4 +151,35 @@ public class NashornExample {
     public ScriptEngine getEngine() {
         return engine;
     }
+
+    /**
+     * Gets the cache of compiled scripts, with per-script timings and
+     * thread-safe evaluation in pooled contexts.
+     *
+     * Example usage:
+     * ```java
+     * Map<String, Object> variables = Collections.singletonMap("x", 21);
+     * example.getScriptCache().eval("x * 2", variables);  // 42.0, from any thread
+     * ```
+     *
+     * @return The script cache backed by this example's engine
+     */
+    public CompiledScriptCache getScriptCache() {
+        return scriptCache;
+    }
+
+    /**
+     * The source of a loaded file, with the attributes used to detect changes.
+     */
+    private static final class ScriptFile {
+        final long lastModified;
+        final long size;
+        final String source;
+
+        ScriptFile(long lastModified, long size, String source) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.source = source;
+        }
+    }
 }
@@ -0,0 +1,273 @@
+package com.java.features.java8.nashorn;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * A JavaScript function resolved once and called from Java without a
+ * per-call name lookup.
+ *
+ * {@code Invocable.invokeFunction(name, args...)} looks the function up by
+ * name in the global scope and copies the varargs array on every call.
+ * A ScriptFunction instead has the engine wrap the function object in a
+ * {@link Function} or {@link BiFunction} adapter when it is resolved; each
+ * call is then an interface call into the script, and a batch of argument
+ * tuples is applied in a Java loop that writes into a result array the
+ * caller allocates once and reuses.
+ *
+ * The handle is bound to the function object that existed when it was
+ * resolved; redefining the function in the script does not change it.
+ * Functions of one or two parameters use a direct adapter; other arities
+ * go through {@code Function.prototype.apply}.
+ *
+ * Example usage:
+ * ```java
+ * example.executeJavaScript("function discount(total, quantity) {"
+ *     + " return quantity >= 10 ? total * 0.9 : total; }");
+ * ScriptFunction discount = example.resolveFunction("discount");
+ *
+ * Object[][] orders = {{100.0, 12}, {50.0, 1}};
+ * Object[] prices = new Object[orders.length];     // Reused for every batch
+ * ScriptFunction.BatchResult batch = discount.applyBatch(orders, prices);
+ * // prices: [90.0, 50.0]
+ * System.out.println(batch.getCallsPerSecond());
+ * ```
+ *
+ * @see NashornExample#resolveFunction(String)
+ */
+public final class ScriptFunction {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private final String name;
+    private final int arity;
+    private final Function<Object, Object> unary;
+    private final BiFunction<Object, Object, Object> binary;
+    private final Function<Object[], Object> variadic;
+
+    @SuppressWarnings("unchecked")
+    private ScriptFunction(String name, int arity, Object adapter) {
+        this.name = name;
+        this.arity = arity;
+        this.unary = arity == 1 ? (Function<Object, Object>) adapter : null;
+        this.binary = arity == 2 ? (BiFunction<Object, Object, Object>) adapter : null;
+        this.variadic = arity != 1 && arity != 2 ? (Function<Object[], Object>) adapter : null;
+    }
+
+    /**
+     * Resolves a global function of a script engine.
+     *
+     * @param engine The engine in whose global scope the function is defined
+     * @param functionName Name of the function
+     * @return A handle calling the function
+     * @throws NoSuchMethodException if there is no global function of that name
+     * @throws ScriptException if the engine cannot create the adapter
+     */
+    public static ScriptFunction resolve(ScriptEngine engine, String functionName)
+            throws ScriptException, NoSuchMethodException {
+        Objects.requireNonNull(engine, "engine");
+        if (!IDENTIFIER.matcher(functionName).matches()) {
+            throw new NoSuchMethodException("Not a function name: " + functionName);
+        }
+        if (!Boolean.TRUE.equals(engine.eval("typeof " + functionName + " === 'function'"))) {
+            throw new NoSuchMethodException("No such function: " + functionName);
+        }
+        int arity = ((Number) engine.eval(functionName + ".length")).intValue();
+        // The adapter captures the function object, so calls do not look the name up again
+        String adapter;
+        if (arity == 1) {
+            adapter = "new java.util.function.Function(" + functionName + ")";
+        } else if (arity == 2) {
+            adapter = "new java.util.function.BiFunction(" + functionName + ")";
+        } else {
+            adapter = "(function(fn) { return new java.util.function.Function("
+                    + "function(args) { return fn.apply(null, Java.from(args)); }); })(" + functionName + ")";
+        }
+        return new ScriptFunction(functionName, arity, engine.eval(adapter));
+    }
+
+    /**
+     * Gets the name the function was resolved by
+     * @return Function name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of declared parameters
+     * @return The function's {@code length}
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * Calls the function with one argument.
+     *
+     * @param argument The argument
+     * @return The function's result
+     */
+    public Object call(Object argument) {
+        if (unary != null) {
+            return unary.apply(argument);
+        }
+        if (binary != null) {
+            return binary.apply(argument, null);
+        }
+        return variadic.apply(new Object[] {argument});
+    }
+
+    /**
+     * Calls the function with two arguments.
+     *
+     * @param first The first argument
+     * @param second The second argument
+     * @return The function's result
+     */
+    public Object call(Object first, Object second) {
+        if (binary != null) {
+            return binary.apply(first, second);
+        }
+        if (unary != null) {
+            return unary.apply(first);
+        }
+        return variadic.apply(new Object[] {first, second});
+    }
+
+    /**
+     * Calls the function with the arguments of a tuple. For one- and
+     * two-parameter functions, arguments beyond the declared parameters are
+     * ignored and missing ones are passed as null.
+     *
+     * @param arguments The argument tuple
+     * @return The function's result
+     */
+    public Object call(Object[] arguments) {
+        if (unary != null) {
+            return unary.apply(arguments.length > 0 ? arguments[0] : null);
+        }
+        if (binary != null) {
+            return binary.apply(arguments.length > 0 ? arguments[0] : null,
+                    arguments.length > 1 ? arguments[1] : null);
+        }
+        return variadic.apply(arguments);
+    }
+
+    /**
+     * Calls the function once per argument tuple, storing the i-th result
+     * in {@code results[i]}.
+     *
+     * @param argumentTuples One argument array per call
+     * @param results Receives the results; at least as long as the tuples
+     * @return The number of calls and the time they took
+     */
+    public BatchResult applyBatch(Object[][] argumentTuples, Object[] results) {
+        checkLength(argumentTuples.length, results);
+        long start = System.nanoTime();
+        for (int i = 0; i < argumentTuples.length; i++) {
+            results[i] = call(argumentTuples[i]);
+        }
+        return new BatchResult(argumentTuples.length, System.nanoTime() - start);
+    }
+
+    /**
+     * Calls a one-parameter function once per argument, storing the i-th
+     * result in {@code results[i]}, without wrapping arguments in tuples.
+     *
+     * @param arguments One argument per call
+     * @param results Receives the results; at least as long as the arguments
+     * @return The number of calls and the time they took
+     */
+    public BatchResult applyBatch(Object[] arguments, Object[] results) {
+        checkLength(arguments.length, results);
+        long start = System.nanoTime();
+        for (int i = 0; i < arguments.length; i++) {
+            results[i] = call(arguments[i]);
+        }
+        return new BatchResult(arguments.length, System.nanoTime() - start);
+    }
+
+    /**
+     * Calls a two-parameter function once per pair {@code (first[i], second[i])},
+     * storing the result in {@code results[i]}.
+     *
+     * @param first First arguments
+     * @param second Second arguments, as many as the first
+     * @param results Receives the results; at least as long as the arguments
+     * @return The number of calls and the time they took
+     */
+    public BatchResult applyBatch(Object[] first, Object[] second, Object[] results) {
+        if (first.length != second.length) {
+            throw new IllegalArgumentException("Argument arrays differ in length: "
+                    + first.length + " and " + second.length);
+        }
+        checkLength(first.length, results);
+        long start = System.nanoTime();
+        for (int i = 0; i < first.length; i++) {
+            results[i] = call(first[i], second[i]);
+        }
+        return new BatchResult(first.length, System.nanoTime() - start);
+    }
+
+    private static void checkLength(int calls, Object[] results) {
+        if (results.length < calls) {
+            throw new IllegalArgumentException("Result array holds " + results.length
+                    + " elements, the batch has " + calls);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ScriptFunction{" + name + "/" + arity + "}";
+    }
+
+    /**
+     * The size and duration of one batch.
+     */
+    public static final class BatchResult {
+        private final int calls;
+        private final long elapsedNanos;
+
+        BatchResult(int calls, long elapsedNanos) {
+            this.calls = calls;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Gets the number of calls in the batch
+         * @return Call count
+         */
+        public int getCalls() {
+            return calls;
+        }
+
+        /**
+         * Gets the time taken by the batch
+         * @param unit The unit of the result
+         * @return Elapsed time
+         */
+        public long getElapsed(TimeUnit unit) {
+            return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Gets the throughput of the batch
+         * @return Calls per second
+         */
+        public double getCallsPerSecond() {
+            return elapsedNanos == 0 ? 0 : calls * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("BatchResult{calls=%d, elapsedMicros=%d, callsPerSecond=%.0f}",
+                    calls, getElapsed(TimeUnit.MICROSECONDS), getCallsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.java.features.java8.streams;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.BaseStream;
+import java.util.stream.IntStream;
+
+/**
+ * Chooses between sequential and parallel execution for a stream pipeline.
+ *
+ * A parallel stream only pays off when the work per call outweighs the cost
+ * of splitting it over the common fork/join pool and merging the results.
+ * For small inputs, or when the pool is already busy with other work, a
+ * sequential stream is faster. This class makes the choice per call from:
+ * - the input size, weighted by an estimated cost per element
+ * - a threshold calibrated once by a short micro-benchmark
+ * - the current load of the common pool
+ *
+ * The calibration runs on a background daemon thread started by the first
+ * {@link #getDefault()} call, so no caller waits for it; until it finishes,
+ * the default instance uses the conservative {@link #DEFAULT_THRESHOLD}.
+ * The threshold can be fixed with the system property
+ * {@code streams.parallelThreshold}, which skips calibration (an invalid
+ * value is reported on standard error and ignored), or per call with
+ * {@link #withThreshold(long)}. Counters record which path ran.
+ *
+ * Example usage:
+ * ```java
+ * AdaptiveExecution adaptive = AdaptiveExecution.getDefault();
+ *
+ * int sum = adaptive.configure(numbers.stream(), numbers.size(), 1.0)
+ *                   .mapToInt(n -> n * n)
+ *                   .sum();
+ *
+ * System.out.println(adaptive);
+ * // AdaptiveExecution{threshold=65536, parallel=3, sequential=120, poolBusy=1}
+ * ```
+ *
+ * @see java.util.concurrent.ForkJoinPool#commonPool()
+ */
+public final class AdaptiveExecution {
+
+    /**
+     * System property that fixes the default threshold and skips calibration
+     */
+    public static final String THRESHOLD_PROPERTY = "streams.parallelThreshold";
+
+    /**
+     * Threshold meaning "never run in parallel"
+     */
+    public static final long NEVER_PARALLEL = Long.MAX_VALUE;
+
+    /**
+     * Threshold of the default instance while calibration is still running
+     */
+    public static final long DEFAULT_THRESHOLD = 1 << 17;
+
+    private static final int CALIBRATION_MAX_SIZE = 1 << 20;
+    private static final int CALIBRATION_ROUNDS = 5;
+
+    // Keeps the calibration results alive so the JIT cannot drop the work
+    private static volatile long sink;
+
+    // Written once by the calibration thread for the default instance
+    private volatile long threshold;
+    private final LongAdder parallelRuns;
+    private final LongAdder sequentialRuns;
+    private final LongAdder poolBusyRuns;
+
+    private AdaptiveExecution(long threshold, LongAdder parallelRuns,
+                              LongAdder sequentialRuns, LongAdder poolBusyRuns) {
+        this.threshold = threshold;
+        this.parallelRuns = parallelRuns;
+        this.sequentialRuns = sequentialRuns;
+        this.poolBusyRuns = poolBusyRuns;
+    }
+
+    private static final class DefaultHolder {
+        static final AdaptiveExecution INSTANCE = createDefault();
+    }
+
+    /**
+     * Gets the shared instance. The first call starts calibrating its
+     * threshold in the background and returns without waiting.
+     * @return The default adaptive execution
+     */
+    public static AdaptiveExecution getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Returns a view with a different threshold that shares this instance's
+     * counters, for overriding the threshold on a single call.
+     *
+     * Example usage:
+     * ```java
+     * // Always sequential for this call
+     * AdaptiveExecution.getDefault().withThreshold(AdaptiveExecution.NEVER_PARALLEL);
+     * ```
+     *
+     * @param threshold Weighted size from which parallel execution is used
+     * @return An instance using the given threshold
+     */
+    public AdaptiveExecution withThreshold(long threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+        }
+        return new AdaptiveExecution(threshold, parallelRuns, sequentialRuns, poolBusyRuns);
+    }
+
+    /**
+     * Decides whether a pipeline should run in parallel, and records the decision.
+     *
+     * @param size Number of elements in the input
+     * @param costPerElement Estimated work per element, relative to squaring and summing an int
+     * @return true if the pipeline should run in parallel
+     */
+    public boolean shouldRunInParallel(long size, double costPerElement) {
+        if (size * costPerElement < threshold) {
+            sequentialRuns.increment();
+            return false;
+        }
+        if (isCommonPoolBusy()) {
+            poolBusyRuns.increment();
+            return false;
+        }
+        parallelRuns.increment();
+        return true;
+    }
+
+    /**
+     * Switches a stream to parallel or sequential mode according to
+     * {@link #shouldRunInParallel(long, double)}.
+     *
+     * @param stream The stream to configure
+     * @param size Number of elements in the input
+     * @param costPerElement Estimated work per element, relative to squaring and summing an int
+     * @param <T> The element type
+     * @param <S> The stream type
+     * @return The same stream in the chosen mode
+     */
+    public <T, S extends BaseStream<T, S>> S configure(S stream, long size, double costPerElement) {
+        return shouldRunInParallel(size, costPerElement) ? stream.parallel() : stream.sequential();
+    }
+
+    /**
+     * Gets the weighted size from which parallel execution is used
+     * @return Current threshold
+     */
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Gets the number of pipelines that ran in parallel
+     * @return Parallel run count
+     */
+    public long getParallelRuns() {
+        return parallelRuns.sum();
+    }
+
+    /**
+     * Gets the number of pipelines that ran sequentially because they were below the threshold
+     * @return Sequential run count
+     */
+    public long getSequentialRuns() {
+        return sequentialRuns.sum();
+    }
+
+    /**
+     * Gets the number of pipelines that ran sequentially because the common pool was busy
+     * @return Pool-busy run count
+     */
+    public long getPoolBusyRuns() {
+        return poolBusyRuns.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveExecution{threshold=" + (threshold == NEVER_PARALLEL ? "never" : String.valueOf(threshold))
+                + ", parallel=" + getParallelRuns()
+                + ", sequential=" + getSequentialRuns()
+                + ", poolBusy=" + getPoolBusyRuns() + "}";
+    }
+
+    private static boolean isCommonPoolBusy() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        return pool.getQueuedSubmissionCount() > 0 || pool.getActiveThreadCount() >= pool.getParallelism();
+    }
+
+    private static AdaptiveExecution createDefault() {
+        String configured = System.getProperty(THRESHOLD_PROPERTY);
+        if (configured != null) {
+            // Runs in a class initializer, where throwing would break the class for good
+            try {
+                return new AdaptiveExecution(parseThreshold(configured),
+                        new LongAdder(), new LongAdder(), new LongAdder());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Warning: " + e.getMessage() + ", calibrating instead");
+            }
+        }
+        if (!hasSpareCores()) {
+            return new AdaptiveExecution(NEVER_PARALLEL, new LongAdder(), new LongAdder(), new LongAdder());
+        }
+        AdaptiveExecution execution =
+                new AdaptiveExecution(DEFAULT_THRESHOLD, new LongAdder(), new LongAdder(), new LongAdder());
+        Thread calibration = new Thread(() -> execution.threshold = calibrate(), "adaptive-execution-calibration");
+        calibration.setDaemon(true);
+        calibration.start();
+        return execution;
+    }
+
+    /**
+     * Parses a value of {@link #THRESHOLD_PROPERTY}.
+     *
+     * @param configured The property value
+     * @return The threshold
+     * @throws IllegalArgumentException If the value is not a non-negative long
+     */
+    static long parseThreshold(String configured) {
+        long threshold;
+        try {
+            threshold = Long.parseLong(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    THRESHOLD_PROPERTY + " must be a non-negative number: \"" + configured + "\"", e);
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException(THRESHOLD_PROPERTY + " must not be negative: " + threshold);
+        }
+        return threshold;
+    }
+
+    private static boolean hasSpareCores() {
+        return ForkJoinPool.getCommonPoolParallelism() >= 2 && Runtime.getRuntime().availableProcessors() >= 2;
+    }
+
+    /**
+     * Finds the smallest input size, doubling from 1K, at which a parallel
+     * sum of squares beats the sequential one by at least 10%. Takes a few
+     * tens of milliseconds. With a single usable core the answer is "never".
+     */
+    static long calibrate() {
+        if (!hasSpareCores()) {
+            return NEVER_PARALLEL;
+        }
+        int[] data = new int[CALIBRATION_MAX_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i & 1023;
+        }
+        // Warm up both paths so that the comparison is not about the JIT
+        for (int i = 0; i < 20; i++) {
+            timeSumOfSquares(data, 1 << 16, false);
+            timeSumOfSquares(data, 1 << 16, true);
+        }
+        for (int size = 1 << 10; size <= CALIBRATION_MAX_SIZE; size <<= 1) {
+            long sequential = Long.MAX_VALUE;
+            long parallel = Long.MAX_VALUE;
+            for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+                sequential = Math.min(sequential, timeSumOfSquares(data, size, false));
+                parallel = Math.min(parallel, timeSumOfSquares(data, size, true));
+            }
+            if (parallel * 10 < sequential * 9) {
+                return size;
+            }
+        }
+        return NEVER_PARALLEL;
+    }
+
+    private static long timeSumOfSquares(int[] data, int size, boolean parallel) {
+        long start = System.nanoTime();
+        IntStream stream = IntStream.range(0, size).map(i -> data[i]);
+        sink = (parallel ? stream.parallel() : stream).asLongStream().map(n -> n * n).sum();
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,332 @@
+package com.java.features.java8.streams;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+
+/**
+ * Several aggregations over the same elements, computed in one pass.
+ *
+ * Reports often filter, reduce, group and partition the same list, and
+ * running a separate stream for each one reads every element once per
+ * aggregation. An Aggregations instance collects the aggregations first;
+ * each registration returns a typed handle. {@link #toCollector()} then
+ * gives one collector that feeds every element to all of them, and the
+ * handles read the results afterwards.
+ *
+ * Each aggregation keeps its own container and combiner, so the collector
+ * works in parallel streams: every fork fills its own containers, and
+ * forks are merged aggregation by aggregation, keeping encounter order.
+ * Any existing collector can be added with {@link #add(Collector)}.
+ *
+ * Aggregations must all be added before the collector is created;
+ * aggregations added later are not part of it.
+ *
+ * Example usage:
+ * ```java
+ * Aggregations<Product> report = Aggregations.create();
+ * Aggregations.Aggregate<Long> fresh = report.count(p -> p.getExpiryDate().isAfter(today));
+ * Aggregations.Aggregate<Optional<Product>> cheapest = report.reduce(p -> true, BinaryOperator.minBy(byPrice));
+ * Aggregations.Aggregate<Map<String, List<Product>>> byCategory = report.groupBy(Product::getCategory, p -> p);
+ *
+ * Aggregations.Results results = products.parallelStream().collect(report.toCollector());
+ * long freshCount = results.get(fresh);
+ * ```
+ *
+ * @param <T> The element type
+ */
+public final class Aggregations<T> {
+
+    private final List<Collector<? super T, Object, ?>> collectors = new ArrayList<>();
+
+    private Aggregations() {
+    }
+
+    /**
+     * Creates an empty set of aggregations.
+     *
+     * @param <T> The element type
+     * @return A new instance
+     */
+    public static <T> Aggregations<T> create() {
+        return new Aggregations<>();
+    }
+
+    /**
+     * Adds an aggregation computed by any collector.
+     *
+     * @param collector The collector
+     * @param <R> The result type
+     * @return The handle for reading the result
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Aggregate<R> add(Collector<? super T, ?, R> collector) {
+        Objects.requireNonNull(collector, "collector");
+        collectors.add((Collector<? super T, Object, ?>) collector);
+        return new Aggregate<>(this, collectors.size() - 1);
+    }
+
+    /**
+     * Adds a count of the elements matching a condition.
+     *
+     * @param condition Elements to count
+     * @return The handle for reading the count
+     */
+    public Aggregate<Long> count(Predicate<? super T> condition) {
+        return sum(condition, element -> 1);
+    }
+
+    /**
+     * Adds a sum over the elements matching a condition, without boxing
+     * while accumulating.
+     *
+     * @param condition Elements to include
+     * @param mapper Value of each included element
+     * @return The handle for reading the sum
+     */
+    public Aggregate<Long> sum(Predicate<? super T> condition, ToLongFunction<? super T> mapper) {
+        return add(Collector.<T, long[], Long>of(
+                () -> new long[1],
+                (sum, element) -> {
+                    if (condition.test(element)) {
+                        sum[0] += mapper.applyAsLong(element);
+                    }
+                },
+                (left, right) -> {
+                    left[0] += right[0];
+                    return left;
+                },
+                sum -> sum[0]));
+    }
+
+    /**
+     * Adds a reduction of the elements matching a condition, as
+     * {@code CustomOperations.reduceWithPredicate} does.
+     *
+     * @param condition Elements to include
+     * @param reducer Associative function combining two elements
+     * @return The handle for reading the reduced element, empty if none matched
+     */
+    public Aggregate<Optional<T>> reduce(Predicate<? super T> condition, BinaryOperator<T> reducer) {
+        return add(Collector.<T, Reduction<T>, Optional<T>>of(
+                Reduction::new,
+                (reduction, element) -> {
+                    if (condition.test(element)) {
+                        reduction.add(element, reducer);
+                    }
+                },
+                (left, right) -> {
+                    if (right.present) {
+                        left.add(right.value, reducer);
+                    }
+                    return left;
+                },
+                reduction -> reduction.present ? Optional.of(reduction.value) : Optional.empty()));
+    }
+
+    /**
+     * Adds the mapped values of the elements matching a condition, as
+     * {@code CustomOperations.mapIfValid} does.
+     *
+     * @param condition Elements to include
+     * @param mapper Value of each included element
+     * @param <R> The value type
+     * @return The handle for reading the values, in encounter order
+     */
+    public <R> Aggregate<List<R>> mapIf(Predicate<? super T> condition, Function<? super T, ? extends R> mapper) {
+        return add(Collector.<T, List<R>>of(
+                ArrayList::new,
+                (values, element) -> {
+                    if (condition.test(element)) {
+                        values.add(mapper.apply(element));
+                    }
+                },
+                Aggregations::concat));
+    }
+
+    /**
+     * Adds a grouping of transformed elements, as
+     * {@code CustomOperations.groupByWithTransform} does.
+     *
+     * @param classifier Maps each transformed element to its group key
+     * @param transformer Applied to each element first
+     * @param <K> The key type
+     * @return The handle for reading the groups, each in encounter order
+     */
+    public <K> Aggregate<Map<K, List<T>>> groupBy(Function<? super T, ? extends K> classifier,
+                                                 UnaryOperator<T> transformer) {
+        return add(Collector.<T, Map<K, List<T>>>of(
+                HashMap::new,
+                (groups, element) -> {
+                    T transformed = transformer.apply(element);
+                    K key = classifier.apply(transformed);
+                    List<T> group = groups.get(key);
+                    if (group == null) {
+                        group = new ArrayList<>();
+                        groups.put(key, group);
+                    }
+                    group.add(transformed);
+                },
+                (left, right) -> {
+                    right.forEach((key, group) -> left.merge(key, group, Aggregations::concat));
+                    return left;
+                }));
+    }
+
+    /**
+     * Adds a partition of transformed elements, as
+     * {@code CustomOperations.partitionWithTransform} does.
+     *
+     * @param predicate Decides the partition of each transformed element
+     * @param transformer Applied to each element first
+     * @return The handle for reading the partitions; both keys are always present
+     */
+    public Aggregate<Map<Boolean, List<T>>> partition(Predicate<? super T> predicate, UnaryOperator<T> transformer) {
+        return add(Collector.<T, Partition<T>, Map<Boolean, List<T>>>of(
+                Partition::new,
+                (partition, element) -> {
+                    T transformed = transformer.apply(element);
+                    (predicate.test(transformed) ? partition.matching : partition.rest).add(transformed);
+                },
+                (left, right) -> {
+                    left.matching.addAll(right.matching);
+                    left.rest.addAll(right.rest);
+                    return left;
+                },
+                Partition::toMap));
+    }
+
+    /**
+     * Returns one collector computing every aggregation added so far.
+     *
+     * @return The collector
+     */
+    @SuppressWarnings("unchecked")
+    public Collector<T, ?, Results> toCollector() {
+        int count = collectors.size();
+        Supplier<Object>[] suppliers = (Supplier<Object>[]) new Supplier<?>[count];
+        BiConsumer<Object, ? super T>[] accumulators = (BiConsumer<Object, ? super T>[]) new BiConsumer<?, ?>[count];
+        BinaryOperator<Object>[] combiners = (BinaryOperator<Object>[]) new BinaryOperator<?>[count];
+        Function<Object, ?>[] finishers = (Function<Object, ?>[]) new Function<?, ?>[count];
+        for (int i = 0; i < count; i++) {
+            Collector<? super T, Object, ?> collector = collectors.get(i);
+            suppliers[i] = collector.supplier();
+            accumulators[i] = collector.accumulator();
+            combiners[i] = collector.combiner();
+            finishers[i] = collector.finisher();
+        }
+        return Collector.<T, Object[], Results>of(
+                () -> {
+                    Object[] containers = new Object[count];
+                    for (int i = 0; i < count; i++) {
+                        containers[i] = suppliers[i].get();
+                    }
+                    return containers;
+                },
+                (containers, element) -> {
+                    for (int i = 0; i < count; i++) {
+                        ((BiConsumer<Object, T>) accumulators[i]).accept(containers[i], element);
+                    }
+                },
+                (left, right) -> {
+                    for (int i = 0; i < count; i++) {
+                        left[i] = combiners[i].apply(left[i], right[i]);
+                    }
+                    return left;
+                },
+                containers -> {
+                    Object[] values = new Object[count];
+                    for (int i = 0; i < count; i++) {
+                        values[i] = finishers[i].apply(containers[i]);
+                    }
+                    return new Results(this, values);
+                });
+    }
+
+    private static <E> List<E> concat(List<E> left, List<E> right) {
+        left.addAll(right);
+        return left;
+    }
+
+    /**
+     * Handle for the result of one aggregation.
+     *
+     * @param <R> The result type
+     */
+    public static final class Aggregate<R> {
+        private final Aggregations<?> owner;
+        private final int index;
+
+        private Aggregate(Aggregations<?> owner, int index) {
+            this.owner = owner;
+            this.index = index;
+        }
+    }
+
+    /**
+     * The results of one collection, read with the handles returned when
+     * the aggregations were added.
+     */
+    public static final class Results {
+        private final Aggregations<?> owner;
+        private final Object[] values;
+
+        private Results(Aggregations<?> owner, Object[] values) {
+            this.owner = owner;
+            this.values = values;
+        }
+
+        /**
+         * Gets the result of an aggregation.
+         *
+         * @param aggregate The handle returned when the aggregation was added
+         * @param <R> The result type
+         * @return The result
+         * @throws IllegalArgumentException if the aggregation is not part of these results
+         */
+        @SuppressWarnings("unchecked")
+        public <R> R get(Aggregate<R> aggregate) {
+            if (aggregate.owner != owner || aggregate.index >= values.length) {
+                throw new IllegalArgumentException("Aggregation was not part of this collection");
+            }
+            return (R) values[aggregate.index];
+        }
+    }
+
+    private static final class Reduction<T> {
+        boolean present;
+        T value;
+
+        void add(T element, BinaryOperator<T> reducer) {
+            if (present) {
+                value = reducer.apply(value, element);
+            } else {
+                value = element;
+                present = true;
+            }
+        }
+    }
+
+    private static final class Partition<T> {
+        final List<T> matching = new ArrayList<>();
+        final List<T> rest = new ArrayList<>();
+
+        Map<Boolean, List<T>> toMap() {
+            Map<Boolean, List<T>> map = new HashMap<>(4);
+            map.put(false, rest);
+            map.put(true, matching);
+            return map;
+        }
+    }
+}
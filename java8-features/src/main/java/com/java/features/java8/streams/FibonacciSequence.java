@@ -0,0 +1,190 @@
+package com.java.features.java8.streams;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates Fibonacci numbers as a LongStream without allocating per element.
+ *
+ * {@code Stream.iterate(new long[]{0, 1}, f -> new long[]{f[1], f[0] + f[1]})}
+ * allocates an array per step and can only be consumed sequentially, since
+ * every element depends on the previous one. This class keeps the two
+ * running values in the fields of a {@link Spliterator.OfLong}, and can jump
+ * to any index in O(log n) steps using the matrix identity
+ *
+ * ```
+ * | 1 1 |^n   | F(n+1) F(n)   |
+ * | 1 0 |   = | F(n)   F(n-1) |
+ * ```
+ *
+ * evaluated by repeated squaring (the "fast doubling" form). A parallel
+ * stream can therefore split the index range in halves, and each half
+ * starts at its own offset.
+ *
+ * Values are computed in 64-bit arithmetic: F(92) is the largest Fibonacci
+ * number that fits in a long, and beyond that the values wrap around, just
+ * as they do with {@code f[0] + f[1]}.
+ *
+ * Example usage:
+ * ```java
+ * FibonacciSequence.stream(10).forEach(n -> System.out.print(n + " "));
+ * // Prints: 0 1 1 2 3 5 8 13 21 34
+ *
+ * long f90 = FibonacciSequence.fibonacci(90);  // 2880067194370816120
+ *
+ * // Indices 1,000,000 to 2,000,000, split across cores
+ * long checksum = FibonacciSequence.stream(1_000_000, 2_000_000).parallel().sum();
+ * ```
+ *
+ * @see java.util.Spliterator
+ * @see java.util.stream.StreamSupport
+ */
+public final class FibonacciSequence {
+
+    /**
+     * Ranges smaller than this are not split further
+     */
+    static final long MIN_SPLIT_SIZE = 1 << 10;
+
+    private FibonacciSequence() {
+    }
+
+    /**
+     * Returns a stream of the first {@code count} Fibonacci numbers, F(0) to F(count - 1).
+     *
+     * @param count Number of values
+     * @return Sequential stream of Fibonacci numbers
+     */
+    public static LongStream stream(long count) {
+        return stream(0, count);
+    }
+
+    /**
+     * Returns a stream of F(from) to F(to - 1).
+     *
+     * @param from First index, inclusive
+     * @param to Last index, exclusive
+     * @return Sequential stream of Fibonacci numbers, which may be made parallel
+     */
+    public static LongStream stream(long from, long to) {
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+        }
+        return StreamSupport.longStream(new FibonacciSpliterator(from, to), false);
+    }
+
+    /**
+     * Computes F(n) in O(log n) steps.
+     *
+     * @param n Index of the Fibonacci number
+     * @return F(n), modulo 2^64 beyond F(92)
+     */
+    public static long fibonacci(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Index must not be negative: " + n);
+        }
+        return new FibonacciSpliterator(n, n).current;
+    }
+
+    /**
+     * Walks the index range [index, end), keeping F(index) and F(index + 1).
+     */
+    static final class FibonacciSpliterator implements Spliterator.OfLong {
+        private long index;
+        private final long end;
+        private long current;
+        private long next;
+
+        FibonacciSpliterator(long from, long end) {
+            this.end = end;
+            jumpTo(from);
+        }
+
+        private FibonacciSpliterator(long from, long end, long current, long next) {
+            this.index = from;
+            this.end = end;
+            this.current = current;
+            this.next = next;
+        }
+
+        /**
+         * Sets current and next to F(target) and F(target + 1), walking the bits of
+         * target from the highest one down with
+         * F(2k) = F(k) * (2F(k+1) - F(k)) and F(2k+1) = F(k)^2 + F(k+1)^2.
+         */
+        private void jumpTo(long target) {
+            long a = 0;
+            long b = 1;
+            for (int bit = 63 - Long.numberOfLeadingZeros(target); bit >= 0; bit--) {
+                long doubled = a * (2 * b - a);
+                long doubledPlusOne = a * a + b * b;
+                if (((target >>> bit) & 1) == 0) {
+                    a = doubled;
+                    b = doubledPlusOne;
+                } else {
+                    a = doubledPlusOne;
+                    b = doubled + doubledPlusOne;
+                }
+            }
+            index = target;
+            current = a;
+            next = b;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(current);
+            step();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long a = current;
+            long b = next;
+            for (long i = index; i < end; i++) {
+                action.accept(a);
+                long sum = a + b;
+                a = b;
+                b = sum;
+            }
+            index = end;
+            current = a;
+            next = b;
+        }
+
+        private void step() {
+            long sum = current + next;
+            current = next;
+            next = sum;
+            index++;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            long size = end - index;
+            if (size < 2 * MIN_SPLIT_SIZE) {
+                return null;
+            }
+            long mid = index + size / 2;
+            FibonacciSpliterator prefix = new FibonacciSpliterator(index, mid, current, next);
+            jumpTo(mid);
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+    }
+}
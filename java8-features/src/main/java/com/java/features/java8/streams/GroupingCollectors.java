@@ -0,0 +1,285 @@
+package com.java.features.java8.streams;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+/**
+ * Grouping collectors for very large inputs, as alternatives to
+ * {@code Collectors.groupingBy} and {@code Collectors.groupingByConcurrent}.
+ *
+ * In a parallel stream, {@code groupingBy} builds one HashMap per fork and
+ * merges them pairwise, copying every group several times, and
+ * {@code groupingByConcurrent} funnels all threads through one synchronized
+ * list per key. This class offers two collectors instead:
+ *
+ * 1. {@link #groupingByConcurrent(Function, int)} - one pre-sized
+ *    ConcurrentHashMap shared by all threads, where each group is split into
+ *    per-thread stripes so that threads adding to the same group rarely
+ *    contend. Stripes are created on first use and concatenated once, at
+ *    the end.
+ *
+ * 2. {@link #groupingByInt(ToIntFunction, int)} - for keys that are small
+ *    non-negative ints, such as {@code String::length}. Groups live in a
+ *    plain array indexed by key, so there is no hashing and no boxing of
+ *    keys while accumulating, and merging two forks is one pass over the
+ *    array. Keys outside the range go to a small overflow map.
+ *
+ * Example usage:
+ * ```java
+ * Map<Integer, List<String>> byLength = words.parallelStream()
+ *     .collect(GroupingCollectors.groupingByInt(String::length, 64));
+ *
+ * ConcurrentMap<String, List<LogLine>> byHost = lines.parallelStream()
+ *     .collect(GroupingCollectors.groupingByConcurrent(LogLine::getHost, 10_000));
+ * ```
+ *
+ * @see java.util.stream.Collectors#groupingBy(Function)
+ * @see java.util.stream.Collectors#groupingByConcurrent(Function)
+ */
+public final class GroupingCollectors {
+
+    private static final int DEFAULT_EXPECTED_KEYS = 16;
+
+    private GroupingCollectors() {
+    }
+
+    /**
+     * Same as {@link #groupingByConcurrent(Function, int)} with a small default map size.
+     *
+     * @param classifier Maps each element to its group key
+     * @param <T> The element type
+     * @param <K> The key type
+     * @return A concurrent, unordered grouping collector
+     */
+    public static <T, K> Collector<T, ?, ConcurrentMap<K, List<T>>> groupingByConcurrent(
+            Function<? super T, ? extends K> classifier) {
+        return groupingByConcurrent(classifier, DEFAULT_EXPECTED_KEYS);
+    }
+
+    /**
+     * Returns a concurrent collector grouping elements by key into one shared,
+     * pre-sized ConcurrentHashMap. Like {@code Collectors.groupingByConcurrent},
+     * the order of elements within a group is unspecified for parallel streams.
+     *
+     * @param classifier Maps each element to its group key
+     * @param expectedKeys Expected number of distinct keys, used to size the map
+     * @param <T> The element type
+     * @param <K> The key type
+     * @return A concurrent, unordered grouping collector
+     */
+    public static <T, K> Collector<T, ?, ConcurrentMap<K, List<T>>> groupingByConcurrent(
+            Function<? super T, ? extends K> classifier, int expectedKeys) {
+        if (expectedKeys < 0) {
+            throw new IllegalArgumentException("expectedKeys must not be negative: " + expectedKeys);
+        }
+        int stripes = stripeCount();
+        return Collector.<T, ConcurrentHashMap<K, StripedGroup<T>>, ConcurrentMap<K, List<T>>>of(
+                () -> new ConcurrentHashMap<>(expectedKeys),
+                (map, element) -> {
+                    K key = classifier.apply(element);
+                    // get() first: computeIfAbsent locks the bin even when the key exists
+                    StripedGroup<T> group = map.get(key);
+                    if (group == null) {
+                        group = map.computeIfAbsent(key, k -> new StripedGroup<>(stripes));
+                    }
+                    group.add(element);
+                },
+                (left, right) -> {
+                    right.forEach((key, group) -> left.merge(key, group, StripedGroup::addAll));
+                    return left;
+                },
+                map -> {
+                    ConcurrentMap<K, List<T>> result = new ConcurrentHashMap<>(map.size());
+                    map.forEach((key, group) -> result.put(key, group.toList()));
+                    return result;
+                },
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector grouping elements by a small int key into an array
+     * of groups. Keys from 0 to {@code maxKey} use the array, other keys an
+     * overflow map. Encounter order is kept within each group, as with
+     * {@code Collectors.groupingBy}.
+     *
+     * Example usage:
+     * ```java
+     * Map<Integer, List<String>> byLength = Stream.of("cat", "dog", "bird")
+     *     .collect(GroupingCollectors.groupingByInt(String::length, 32));
+     * // Result: {3=[cat, dog], 4=[bird]}
+     * ```
+     *
+     * @param classifier Maps each element to its int key
+     * @param maxKey Largest key stored in the dense array
+     * @param <T> The element type
+     * @return A grouping collector producing a HashMap of non-empty groups
+     */
+    public static <T> Collector<T, ?, Map<Integer, List<T>>> groupingByInt(
+            ToIntFunction<? super T> classifier, int maxKey) {
+        if (maxKey < 0) {
+            throw new IllegalArgumentException("maxKey must not be negative: " + maxKey);
+        }
+        return Collector.<T, DenseGroups<T>, Map<Integer, List<T>>>of(
+                () -> new DenseGroups<>(maxKey),
+                (groups, element) -> groups.add(classifier.applyAsInt(element), element),
+                DenseGroups::addAll,
+                DenseGroups::toMap);
+    }
+
+    /**
+     * Enough stripes for every worker of the common pool plus the caller
+     */
+    private static int stripeCount() {
+        return Integer.highestOneBit(ForkJoinPool.getCommonPoolParallelism()) << 1;
+    }
+
+    /**
+     * The elements of one group, split into stripes chosen by thread. A
+     * stripe is only created the first time a thread maps to its slot, so a
+     * group that one thread fills holds a single list.
+     */
+    private static final class StripedGroup<T> {
+        private final AtomicReferenceArray<List<T>> stripes;
+
+        StripedGroup(int stripeCount) {
+            stripes = new AtomicReferenceArray<>(stripeCount);
+        }
+
+        void add(T element) {
+            List<T> stripe = stripe((int) Thread.currentThread().getId() & (stripes.length() - 1));
+            synchronized (stripe) {
+                stripe.add(element);
+            }
+        }
+
+        private List<T> stripe(int slot) {
+            List<T> stripe = stripes.get(slot);
+            if (stripe == null) {
+                List<T> created = new ArrayList<>();
+                stripe = stripes.compareAndSet(slot, null, created) ? created : stripes.get(slot);
+            }
+            return stripe;
+        }
+
+        StripedGroup<T> addAll(StripedGroup<T> other) {
+            for (int i = 0; i < stripes.length(); i++) {
+                List<T> theirs = other.stripes.get(i);
+                if (theirs == null) {
+                    continue;
+                }
+                List<T> mine = stripe(i);
+                synchronized (mine) {
+                    mine.addAll(theirs);
+                }
+            }
+            return this;
+        }
+
+        List<T> toList() {
+            int size = 0;
+            int used = 0;
+            List<T> last = null;
+            for (int i = 0; i < stripes.length(); i++) {
+                List<T> stripe = stripes.get(i);
+                if (stripe != null) {
+                    size += stripe.size();
+                    used++;
+                    last = stripe;
+                }
+            }
+            if (used == 1) {
+                return last;
+            }
+            List<T> result = new ArrayList<>(size);
+            for (int i = 0; i < stripes.length(); i++) {
+                List<T> stripe = stripes.get(i);
+                if (stripe != null) {
+                    result.addAll(stripe);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Groups indexed directly by their int key, plus an overflow map for
+     * keys outside [0, maxKey].
+     */
+    private static final class DenseGroups<T> {
+        private final List<T>[] groups;
+        private Map<Integer, List<T>> overflow = Collections.emptyMap();
+
+        @SuppressWarnings("unchecked")
+        DenseGroups(int maxKey) {
+            groups = (List<T>[]) new List<?>[maxKey + 1];
+        }
+
+        void add(int key, T element) {
+            if (key >= 0 && key < groups.length) {
+                List<T> group = groups[key];
+                if (group == null) {
+                    group = groups[key] = new ArrayList<>();
+                }
+                group.add(element);
+            } else {
+                if (overflow.isEmpty()) {
+                    overflow = new HashMap<>();
+                }
+                overflow.computeIfAbsent(key, k -> new ArrayList<>()).add(element);
+            }
+        }
+
+        DenseGroups<T> addAll(DenseGroups<T> other) {
+            for (int key = 0; key < groups.length; key++) {
+                List<T> group = other.groups[key];
+                if (group == null) {
+                    continue;
+                }
+                if (groups[key] == null) {
+                    groups[key] = group;
+                } else {
+                    groups[key].addAll(group);
+                }
+            }
+            for (Map.Entry<Integer, List<T>> entry : other.overflow.entrySet()) {
+                if (overflow.isEmpty()) {
+                    overflow = new HashMap<>();
+                }
+                overflow.merge(entry.getKey(), entry.getValue(), (mine, theirs) -> {
+                    mine.addAll(theirs);
+                    return mine;
+                });
+            }
+            return this;
+        }
+
+        Map<Integer, List<T>> toMap() {
+            int nonEmpty = overflow.size();
+            for (List<T> group : groups) {
+                if (group != null) {
+                    nonEmpty++;
+                }
+            }
+            Map<Integer, List<T>> result = new HashMap<>(Math.max(16, nonEmpty * 4 / 3 + 1));
+            for (int key = 0; key < groups.length; key++) {
+                if (groups[key] != null) {
+                    result.put(key, groups[key]);
+                }
+            }
+            result.putAll(overflow);
+            return result;
+        }
+    }
+}
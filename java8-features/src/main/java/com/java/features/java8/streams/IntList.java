@@ -0,0 +1,190 @@
+package com.java.features.java8.streams;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A growable list of primitive ints, used as the result type of the
+ * primitive stream overloads in {@link StreamOperations} and {@link StreamsExample}.
+ *
+ * Collecting an IntStream into a {@code List<Integer>} boxes every element,
+ * allocating an Integer per value outside the small-value cache. IntList
+ * stores the values in a plain {@code int[]}, so collecting costs only the
+ * occasional array growth.
+ *
+ * Example usage:
+ * ```java
+ * IntList evens = IntList.from(IntStream.rangeClosed(1, 10).filter(n -> n % 2 == 0));
+ * // evens: [2, 4, 6, 8, 10]
+ *
+ * int sum = evens.stream().sum();  // 30, no boxing
+ * int[] copy = evens.toArray();
+ * ```
+ */
+public final class IntList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] values;
+    private int size;
+
+    /**
+     * Creates an empty list
+     */
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for the given number of values
+     * @param initialCapacity Initial capacity
+     */
+    public IntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        values = new int[initialCapacity];
+    }
+
+    /**
+     * Creates a list holding the given values
+     * @param values Values to copy into the list
+     * @return A new list
+     */
+    public static IntList of(int... values) {
+        IntList list = new IntList(0);
+        list.values = values.clone();
+        list.size = values.length;
+        return list;
+    }
+
+    /**
+     * Collects a stream into a new list. Works for sequential and
+     * parallel streams and keeps the encounter order.
+     *
+     * @param stream The stream to collect
+     * @return A new list holding the stream's elements
+     */
+    public static IntList from(IntStream stream) {
+        return stream.collect(IntList::new, IntList::add, IntList::addAll);
+    }
+
+    /**
+     * Appends a value
+     * @param value Value to append
+     */
+    public void add(int value) {
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Appends all values of another list
+     * @param other List whose values are appended
+     */
+    public void addAll(IntList other) {
+        if (size + other.size > values.length) {
+            grow(size + other.size);
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+    }
+
+    /**
+     * Gets the value at an index
+     * @param index Index of the value
+     * @return The value
+     * @throws IndexOutOfBoundsException If the index is out of range
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * Gets the number of values
+     * @return List size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the list is empty
+     * @return true if the list holds no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Sorts the values in ascending order
+     */
+    public void sort() {
+        Arrays.sort(values, 0, size);
+    }
+
+    /**
+     * Returns a sequential stream over the values
+     * @return IntStream of the values
+     */
+    public IntStream stream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    /**
+     * Copies the values into a new array
+     * @return Array of the values
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = values.length + (values.length >> 1);
+        if (newCapacity - minCapacity < 0) {
+            // Also covers overflow of the 1.5x growth
+            newCapacity = minCapacity;
+        }
+        values = Arrays.copyOf(values, newCapacity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntList)) {
+            return false;
+        }
+        IntList other = (IntList) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (values[i] != other.values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return stream().mapToObj(Integer::toString).collect(Collectors.joining(", ", "[", "]"));
+    }
+}
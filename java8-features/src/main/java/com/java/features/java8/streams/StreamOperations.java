@@ -2,7 +2,8 @@ package com.java.features.java8.streams;
 
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  * Comprehensive demonstration of Java 8 Stream API operations and patterns.
@@ -37,7 +38,8 @@ import java.util.stream.Stream;
  * - Use parallel streams for large datasets
  * - Consider operation order for optimization
  * - Be cautious with stateful operations
- * - Avoid unnecessary boxing/unboxing
+ * - Avoid unnecessary boxing/unboxing (see the int[]/IntStream overloads
+ *   returning {@link IntList})
  *
  * Example usage:
  * ```java
@@ -61,6 +63,18 @@ import java.util.stream.Stream;
  */
 public class StreamOperations {
 
+    /**
+     * Estimated cost per element of processInParallel (filter, map and sort)
+     * relative to squaring and summing an int
+     */
+    private static final double PROCESS_COST = 4.0;
+
+    /**
+     * Longest word grouped through the dense array in {@link #groupByLength(List)},
+     * longer words fall back to a map
+     */
+    private static final int MAX_DENSE_LENGTH = 64;
+
     /**
      * Demonstrates basic filtering and mapping operations on a stream.
      * Shows how to chain multiple operations to transform data.
@@ -87,6 +101,35 @@ public class StreamOperations {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Primitive version of {@link #squareEvenNumbers(List)}.
+     * No element is boxed, and the result is stored in an {@link IntList}.
+     * 
+     * Example usage:
+     * ```java
+     * IntList result = squareEvenNumbers(new int[] {1, 2, 3, 4, 5, 6});
+     * // Result: [4, 16, 36]
+     * ```
+     * 
+     * @param numbers Array of integers to process
+     * @return List containing squares of even numbers
+     */
+    public static IntList squareEvenNumbers(int[] numbers) {
+        return squareEvenNumbers(Arrays.stream(numbers));
+    }
+
+    /**
+     * Primitive version of {@link #squareEvenNumbers(List)} for an IntStream source.
+     * 
+     * @param numbers Stream of integers to process
+     * @return List containing squares of even numbers
+     */
+    public static IntList squareEvenNumbers(IntStream numbers) {
+        return IntList.from(numbers
+                .filter(n -> n % 2 == 0)    // Keep only even numbers
+                .map(n -> n * n));          // Square each number
+    }
+
     /**
      * Demonstrates the reduce operation for combining elements.
      * Reduce is a terminal operation that combines stream elements
@@ -112,6 +155,32 @@ public class StreamOperations {
                 .reduce(0, Integer::sum);  // Identity: 0, Accumulator: Integer::sum
     }
 
+    /**
+     * Primitive version of {@link #sumNumbers(List)}.
+     * IntStream.sum() adds plain ints, with no Integer per partial result.
+     * 
+     * Example usage:
+     * ```java
+     * int sum = sumNumbers(new int[] {1, 2, 3, 4, 5});  // Returns 15
+     * ```
+     * 
+     * @param numbers Array of integers to sum
+     * @return Sum of all numbers in the array
+     */
+    public static int sumNumbers(int[] numbers) {
+        return sumNumbers(Arrays.stream(numbers));
+    }
+
+    /**
+     * Primitive version of {@link #sumNumbers(List)} for an IntStream source.
+     * 
+     * @param numbers Stream of integers to sum
+     * @return Sum of all numbers in the stream
+     */
+    public static int sumNumbers(IntStream numbers) {
+        return numbers.sum();
+    }
+
     /**
      * Demonstrates the groupingBy collector for creating maps.
      * Groups elements based on a classification function.
@@ -132,7 +201,7 @@ public class StreamOperations {
      */
     public static Map<Integer, List<String>> groupByLength(List<String> words) {
         return words.stream()
-                .collect(Collectors.groupingBy(String::length));
+                .collect(GroupingCollectors.groupingByInt(String::length, MAX_DENSE_LENGTH));
     }
 
     /**
@@ -167,11 +236,62 @@ public class StreamOperations {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Same as {@link #flattenAndSort(List)}, but returns only the first
+     * {@code limit} values. Uses a bounded heap instead of a full HashSet
+     * and sort, so memory stays proportional to the limit or the number of
+     * values, whichever is smaller; {@code Integer.MAX_VALUE} means no limit.
+     *
+     * Example usage:
+     * ```java
+     * List<List<Integer>> nested = Arrays.asList(
+     *     Arrays.asList(9, 2),
+     *     Arrays.asList(7, 4),
+     *     Arrays.asList(2, 4)
+     * );
+     * List<Integer> first = flattenAndSort(nested, 2);
+     * // Result: [2, 4]
+     * ```
+     *
+     * @param listOfLists Nested list structure to flatten
+     * @param limit Maximum number of values to return
+     * @return The smallest unique integers from all nested lists, sorted
+     * @see TopK
+     */
+    public static List<Integer> flattenAndSort(List<List<Integer>> listOfLists, int limit) {
+        return listOfLists.stream()
+                .flatMap(List::stream)
+                .collect(TopK.distinctSmallest(limit));
+    }
+
+    /**
+     * Primitive overload of {@link #flattenAndSort(List, int)} for nested
+     * int arrays, without boxing.
+     *
+     * Example usage:
+     * ```java
+     * IntList first = flattenAndSort(new int[][] {{9, 2}, {7, 4}, {2, 4}}, 3);
+     * // Result: [2, 4, 7]
+     * ```
+     *
+     * @param arrays Nested arrays to flatten
+     * @param limit Maximum number of values to return
+     * @return The smallest unique values from all arrays, sorted
+     */
+    public static IntList flattenAndSort(int[][] arrays, int limit) {
+        return TopK.distinctSmallest(Arrays.stream(arrays).flatMapToInt(Arrays::stream), limit);
+    }
+
     /**
      * Demonstrates parallel stream processing for concurrent operations.
      * Parallel streams can improve performance for large datasets by
      * utilizing multiple threads.
      * 
+     * Whether this call actually runs in parallel is decided by
+     * {@link AdaptiveExecution#getDefault()}: small inputs, where fork/join
+     * overhead dominates, and calls made while the common pool is busy run
+     * sequentially.
+     * 
      * Example usage:
      * ```java
      * List<Integer> numbers = Arrays.asList(5, 15, 25, 35, 45);
@@ -194,13 +314,78 @@ public class StreamOperations {
      * @return Processed list of integers
      */
     public static List<Integer> processInParallel(List<Integer> numbers) {
-        return numbers.parallelStream()
+        return processInParallel(numbers, AdaptiveExecution.getDefault());
+    }
+
+    /**
+     * Same as {@link #processInParallel(List)}, with the parallel threshold
+     * overridden for this call.
+     * 
+     * Example usage:
+     * ```java
+     * // Parallel from 1,000 elements, whatever the calibrated threshold
+     * List<Integer> result = processInParallel(numbers, 1_000);
+     * ```
+     * 
+     * @param numbers List of integers to process
+     * @param parallelThreshold Input size from which the pipeline runs in parallel
+     * @return Processed list of integers
+     */
+    public static List<Integer> processInParallel(List<Integer> numbers, long parallelThreshold) {
+        return processInParallel(numbers, AdaptiveExecution.getDefault().withThreshold(parallelThreshold));
+    }
+
+    private static List<Integer> processInParallel(List<Integer> numbers, AdaptiveExecution execution) {
+        return execution.configure(numbers.stream(), numbers.size(), PROCESS_COST)
                 .filter(n -> n > 10)     // Filter in parallel
                 .map(n -> n * 2)         // Transform in parallel
                 .sorted()                // Sort results
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Primitive version of {@link #processInParallel(List)}.
+     * The pipeline filters, maps and sorts plain ints, and when it runs in
+     * parallel the per-thread partial results are merged as int arrays.
+     * 
+     * Example usage:
+     * ```java
+     * IntList result = processInParallel(new int[] {5, 15, 25, 35, 45});
+     * // Result: [30, 50, 70, 90]
+     * ```
+     * 
+     * @param numbers Array of integers to process in parallel
+     * @return Processed list of integers
+     */
+    public static IntList processInParallel(int[] numbers) {
+        return IntList.from(AdaptiveExecution.getDefault()
+                .configure(Arrays.stream(numbers), numbers.length, PROCESS_COST)
+                .filter(n -> n > 10)
+                .map(n -> n * 2)
+                .sorted());
+    }
+
+    /**
+     * Primitive version of {@link #processInParallel(List)} for an IntStream source.
+     * Like the other overloads, it runs in parallel only when
+     * {@link AdaptiveExecution#getDefault()} decides so. The size is taken
+     * from the stream's spliterator: the exact size when known, otherwise
+     * its estimate.
+     * 
+     * @param numbers Stream of integers to process
+     * @return Processed list of integers
+     */
+    public static IntList processInParallel(IntStream numbers) {
+        Spliterator.OfInt source = numbers.spliterator();
+        long size = source.getExactSizeIfKnown();
+        IntStream stream = StreamSupport.intStream(source, numbers.isParallel()).onClose(numbers::close);
+        return IntList.from(AdaptiveExecution.getDefault()
+                .configure(stream, size >= 0 ? size : source.estimateSize(), PROCESS_COST)
+                .filter(n -> n > 10)     // Filter in parallel
+                .map(n -> n * 2)         // Transform in parallel
+                .sorted());              // Sort results
+    }
+
     /**
      * Demonstrates collectors for gathering statistical information.
      * DoubleSummaryStatistics provides count, sum, min, max, and average.
@@ -239,6 +424,12 @@ public class StreamOperations {
      * // Result: [0, 1, 1, 2, 3, 5, 8, 13, 21, 34]
      * ```
      * 
+     * The classic version pairs up the two previous values with
+     * {@code Stream.iterate(new long[]{0, 1}, f -> new long[]{f[1], f[0] + f[1]}).limit(n)},
+     * allocating an array per step. This method uses {@link FibonacciSequence}
+     * instead, which keeps the pair in a Spliterator and can also jump ahead
+     * to any index for parallel streams.
+     * 
      * Other infinite stream examples:
      * ```java
      * // Generate powers of 2
@@ -252,9 +443,8 @@ public class StreamOperations {
      * @return List of first n Fibonacci numbers
      */
     public static List<Long> generateFibonacci(int n) {
-        return Stream.iterate(new long[]{0, 1}, f -> new long[]{f[1], f[0] + f[1]})
-                .limit(n)                // Take only n elements
-                .map(f -> f[0])         // Extract first number of pair
+        return FibonacciSequence.stream(n)     // No array allocated per step
+                .boxed()
                 .collect(Collectors.toList());
     }
 }
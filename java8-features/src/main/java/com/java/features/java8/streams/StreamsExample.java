@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.Comparator;
 
@@ -28,6 +29,11 @@ import java.util.Comparator;
  */
 public class StreamsExample {
 
+    /**
+     * Longest string grouped through the dense array in {@link #groupByLength(List)}
+     */
+    private static final int MAX_DENSE_LENGTH = 64;
+
     /**
      * Demonstrates filtering and mapping operations on a stream.
      * Filters for even numbers and doubles them.
@@ -49,6 +55,34 @@ public class StreamsExample {
                      .collect(Collectors.toList());
     }
 
+    /**
+     * Primitive version of {@link #doubleEvenNumbers(List)}, without boxing.
+     * 
+     * Sample usage:
+     * ```java
+     * IntList result = doubleEvenNumbers(new int[] {1, 2, 3, 4, 5});
+     * // Returns: [4, 8]
+     * ```
+     * 
+     * @param numbers Array of integers to process
+     * @return List of doubled even numbers
+     */
+    public IntList doubleEvenNumbers(int[] numbers) {
+        return doubleEvenNumbers(Arrays.stream(numbers));
+    }
+
+    /**
+     * Primitive version of {@link #doubleEvenNumbers(List)} for an IntStream source.
+     * 
+     * @param numbers Stream of integers to process
+     * @return List of doubled even numbers
+     */
+    public IntList doubleEvenNumbers(IntStream numbers) {
+        return IntList.from(numbers
+                     .filter(n -> n % 2 == 0)     // Keep only even numbers
+                     .map(n -> n * 2));           // Double each number
+    }
+
     /**
      * Demonstrates the use of flatMap to flatten nested collections.
      * 
@@ -89,6 +123,32 @@ public class StreamsExample {
                      .reduce(0, Integer::sum);    // Sum all numbers
     }
 
+    /**
+     * Primitive version of {@link #calculateSum(List)}, without boxing.
+     * 
+     * Sample usage:
+     * ```java
+     * int sum = calculateSum(new int[] {1, 2, 3, 4, 5});
+     * // Returns: 15
+     * ```
+     * 
+     * @param numbers Array of integers to sum
+     * @return Sum of all numbers
+     */
+    public int calculateSum(int[] numbers) {
+        return calculateSum(Arrays.stream(numbers));
+    }
+
+    /**
+     * Primitive version of {@link #calculateSum(List)} for an IntStream source.
+     * 
+     * @param numbers Stream of integers to sum
+     * @return Sum of all numbers
+     */
+    public int calculateSum(IntStream numbers) {
+        return numbers.sum();
+    }
+
     /**
      * Demonstrates collecting results into a Map.
      * Groups strings by their length.
@@ -105,7 +165,7 @@ public class StreamsExample {
      */
     public Map<Integer, List<String>> groupByLength(List<String> strings) {
         return strings.stream()
-                     .collect(Collectors.groupingBy(String::length));
+                     .collect(GroupingCollectors.groupingByInt(String::length, MAX_DENSE_LENGTH));
     }
 
     /**
@@ -128,7 +188,8 @@ public class StreamsExample {
 
     /**
      * Demonstrates parallel stream processing.
-     * Calculates the sum of squares in parallel.
+     * Calculates the sum of squares in parallel when the input is large
+     * enough for that to pay off, as decided by {@link AdaptiveExecution}.
      * 
      * Sample usage:
      * ```java
@@ -141,7 +202,29 @@ public class StreamsExample {
      * @return Sum of squares
      */
     public int calculateSumOfSquaresParallel(List<Integer> numbers) {
-        return numbers.parallelStream()
+        return calculateSumOfSquaresParallel(numbers, AdaptiveExecution.getDefault());
+    }
+
+    /**
+     * Same as {@link #calculateSumOfSquaresParallel(List)}, with the parallel
+     * threshold overridden for this call.
+     * 
+     * Sample usage:
+     * ```java
+     * // Always sequential
+     * int result = calculateSumOfSquaresParallel(numbers, AdaptiveExecution.NEVER_PARALLEL);
+     * ```
+     * 
+     * @param numbers List of integers to process
+     * @param parallelThreshold Input size from which the sum runs in parallel
+     * @return Sum of squares
+     */
+    public int calculateSumOfSquaresParallel(List<Integer> numbers, long parallelThreshold) {
+        return calculateSumOfSquaresParallel(numbers, AdaptiveExecution.getDefault().withThreshold(parallelThreshold));
+    }
+
+    private int calculateSumOfSquaresParallel(List<Integer> numbers, AdaptiveExecution execution) {
+        return execution.configure(numbers.stream(), numbers.size(), 1.0)
                      .mapToInt(n -> n * n)
                      .sum();
     }
@@ -0,0 +1,359 @@
+package com.java.features.java8.streams;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+ * Bounded top-K operators: the first K elements of a stream in sort order,
+ * optionally without duplicates.
+ *
+ * {@code stream.distinct().sorted().limit(k)} keeps every distinct element in
+ * a HashSet and sorts all of them before the limit applies. These operators
+ * instead keep a max-heap of the K best elements seen so far. An element that
+ * does not beat the heap's largest is rejected with a single comparison, so
+ * the cost is O(n log k) time and O(min(n, k)) memory: the heaps start small
+ * and grow as elements arrive, so a limit of {@code Integer.MAX_VALUE} is a
+ * valid way to say "no limit". The collectors are
+ * parallel-mergeable: every fork keeps its own heap, and heaps are combined
+ * by offering one heap's elements to the other.
+ *
+ * Use {@code Comparator.reverseOrder()} for the K largest elements.
+ *
+ * Example usage:
+ * ```java
+ * // The 10 smallest distinct values, in ascending order
+ * List<Integer> first = numbers.parallelStream().collect(TopK.distinctSmallest(10));
+ *
+ * // The 3 longest words, duplicates allowed
+ * List<String> longest = words.stream()
+ *     .collect(TopK.smallest(3, Comparator.comparingInt(String::length).reversed()));
+ *
+ * // Primitive variant, no boxing
+ * IntList firstInts = TopK.distinctSmallest(IntStream.of(5, 1, 5, 3), 2);  // [1, 3]
+ * ```
+ *
+ * @see java.util.PriorityQueue
+ */
+public final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * Collects the k smallest elements in natural order, duplicates included.
+     *
+     * @param k Maximum number of elements to keep
+     * @param <T> The element type
+     * @return A collector producing a sorted list of at most k elements
+     */
+    public static <T extends Comparable<? super T>> Collector<T, ?, List<T>> smallest(int k) {
+        return smallest(k, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Collects the k smallest elements by the given comparator, duplicates included.
+     *
+     * @param k Maximum number of elements to keep
+     * @param comparator The sort order
+     * @param <T> The element type
+     * @return A collector producing a sorted list of at most k elements
+     */
+    public static <T> Collector<T, ?, List<T>> smallest(int k, Comparator<? super T> comparator) {
+        return collector(k, comparator, false);
+    }
+
+    /**
+     * Collects the k smallest distinct elements in natural order.
+     *
+     * @param k Maximum number of elements to keep
+     * @param <T> The element type
+     * @return A collector producing a sorted list of at most k distinct elements
+     */
+    public static <T extends Comparable<? super T>> Collector<T, ?, List<T>> distinctSmallest(int k) {
+        return distinctSmallest(k, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Collects the k smallest distinct elements by the given comparator.
+     * Distinctness uses {@code equals}, so the comparator should be
+     * consistent with equals.
+     *
+     * @param k Maximum number of elements to keep
+     * @param comparator The sort order
+     * @param <T> The element type
+     * @return A collector producing a sorted list of at most k distinct elements
+     */
+    public static <T> Collector<T, ?, List<T>> distinctSmallest(int k, Comparator<? super T> comparator) {
+        return collector(k, comparator, true);
+    }
+
+    /**
+     * Returns the k smallest values of an IntStream in ascending order,
+     * duplicates included.
+     *
+     * @param stream The values, sequential or parallel
+     * @param k Maximum number of values to keep
+     * @return A sorted list of at most k values
+     */
+    public static IntList smallest(IntStream stream, int k) {
+        checkLimit(k);
+        return stream.collect(() -> new IntHeap(k, false), IntHeap::offer, IntHeap::offerAll).toSortedList();
+    }
+
+    /**
+     * Returns the k smallest distinct values of an IntStream in ascending order.
+     *
+     * Example usage:
+     * ```java
+     * IntList first = TopK.distinctSmallest(IntStream.of(4, 2, 4, 9, 2, 7), 3);
+     * // Result: [2, 4, 7]
+     * ```
+     *
+     * @param stream The values, sequential or parallel
+     * @param k Maximum number of values to keep
+     * @return A sorted list of at most k distinct values
+     */
+    public static IntList distinctSmallest(IntStream stream, int k) {
+        checkLimit(k);
+        return stream.collect(() -> new IntHeap(k, true), IntHeap::offer, IntHeap::offerAll).toSortedList();
+    }
+
+    private static <T> Collector<T, ?, List<T>> collector(int k, Comparator<? super T> comparator,
+                                                          boolean distinct) {
+        checkLimit(k);
+        return Collector.<T, Heap<T>, List<T>>of(
+                () -> new Heap<>(k, comparator, distinct),
+                Heap::offer,
+                Heap::offerAll,
+                Heap::toSortedList);
+    }
+
+    /** Initial heap capacity; heaps grow towards k only as elements arrive. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static void checkLimit(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+    }
+
+    /**
+     * The k best elements seen so far, largest on top, plus the set of
+     * members when duplicates are dropped.
+     */
+    private static final class Heap<T> {
+        private final int k;
+        private final Comparator<? super T> comparator;
+        private final PriorityQueue<T> heap;
+        private final Set<T> members;
+
+        Heap(int k, Comparator<? super T> comparator, boolean distinct) {
+            this.k = k;
+            this.comparator = comparator;
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, INITIAL_CAPACITY)),
+                    Collections.reverseOrder(comparator));
+            this.members = distinct ? new HashSet<>() : null;
+        }
+
+        void offer(T element) {
+            if (heap.size() < k) {
+                if (members == null || members.add(element)) {
+                    heap.add(element);
+                }
+                return;
+            }
+            // Full heap: reject anything not smaller than the largest kept, before hashing
+            if (k == 0 || comparator.compare(element, heap.peek()) >= 0) {
+                return;
+            }
+            if (members != null && !members.add(element)) {
+                return;
+            }
+            T evicted = heap.poll();
+            if (members != null) {
+                members.remove(evicted);
+            }
+            heap.add(element);
+        }
+
+        Heap<T> offerAll(Heap<T> other) {
+            for (T element : other.heap) {
+                offer(element);
+            }
+            return this;
+        }
+
+        List<T> toSortedList() {
+            List<T> result = new ArrayList<>(heap);
+            result.sort(comparator);
+            return result;
+        }
+    }
+
+    /**
+     * An int max-heap of the k smallest values, plus an open-addressing set
+     * of members when duplicates are dropped. Both start small and double
+     * as values arrive, the heap up to k and the set up to MAX_MEMBERS slots.
+     */
+    private static final class IntHeap {
+        private static final long EMPTY = Long.MIN_VALUE;
+        private static final int MIN_MEMBERS = 32;
+        private static final int MAX_MEMBERS = 1 << 29;
+
+        private final int k;
+        private int[] heap;
+        private int size;
+        private long[] members;
+        private int shift;
+
+        IntHeap(int k, boolean distinct) {
+            this.k = k;
+            heap = new int[Math.min(k, INITIAL_CAPACITY)];
+            if (distinct) {
+                members = newMembers(MIN_MEMBERS);
+            }
+        }
+
+        void offer(int value) {
+            if (size < k) {
+                if (members == null || addMember(value)) {
+                    if (size == heap.length) {
+                        heap = Arrays.copyOf(heap, (int) Math.min(k, (long) heap.length << 1));
+                    }
+                    heap[size] = value;
+                    siftUp(size++);
+                }
+                return;
+            }
+            if (size == 0 || value >= heap[0]) {
+                return;
+            }
+            if (members != null && !addMember(value)) {
+                return;
+            }
+            if (members != null) {
+                removeMember(heap[0]);
+            }
+            heap[0] = value;
+            siftDown(0);
+        }
+
+        void offerAll(IntHeap other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.heap[i]);
+            }
+        }
+
+        IntList toSortedList() {
+            IntList result = IntList.of(Arrays.copyOf(heap, size));
+            result.sort();
+            return result;
+        }
+
+        private void siftUp(int index) {
+            int value = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] >= value) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = value;
+        }
+
+        private void siftDown(int index) {
+            int value = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && heap[child + 1] > heap[child]) {
+                    child++;
+                }
+                if (value >= heap[child]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = value;
+        }
+
+        private long[] newMembers(int length) {
+            long[] table = new long[length];
+            Arrays.fill(table, EMPTY);
+            shift = Integer.numberOfLeadingZeros(length) + 1;
+            return table;
+        }
+
+        /** Keeps the set at most half full, so probe sequences stay short. */
+        private void ensureMemberCapacity() {
+            if (size < members.length >>> 1) {
+                return;
+            }
+            if (members.length == MAX_MEMBERS) {
+                if (size + 1 < MAX_MEMBERS) {
+                    return;
+                }
+                throw new IllegalStateException("Too many distinct values: " + size);
+            }
+            long[] old = members;
+            members = newMembers(old.length << 1);
+            int mask = members.length - 1;
+            for (long member : old) {
+                if (member != EMPTY) {
+                    int slot = slotOf((int) member);
+                    while (members[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    members[slot] = member;
+                }
+            }
+        }
+
+        private int slotOf(int value) {
+            return (value * 0x9E3779B9) >>> shift;
+        }
+
+        private boolean addMember(int value) {
+            ensureMemberCapacity();
+            int mask = members.length - 1;
+            for (int slot = slotOf(value); ; slot = (slot + 1) & mask) {
+                if (members[slot] == EMPTY) {
+                    members[slot] = value;
+                    return true;
+                }
+                if (members[slot] == value) {
+                    return false;
+                }
+            }
+        }
+
+        private void removeMember(int value) {
+            int mask = members.length - 1;
+            int slot = slotOf(value);
+            while (members[slot] != value) {
+                slot = (slot + 1) & mask;
+            }
+            // Backward-shift deletion: move later entries of the probe run into the gap
+            int gap = slot;
+            for (int next = (gap + 1) & mask; members[next] != EMPTY; next = (next + 1) & mask) {
+                int home = slotOf((int) members[next]);
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    members[gap] = members[next];
+                    gap = next;
+                }
+            }
+            members[gap] = EMPTY;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.java.features.java8.base64;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.Random;
+
+/**
+ * Tests for the Base64Examples class.
+ * Verifies that the chunked file encoding and decoding produce exactly the
+ * same output as encoding the whole content in memory, including at chunk
+ * boundaries.
+ */
+public class Base64ExamplesTest {
+
+    private static final int CHUNK = 48 * 1024;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testStringRoundTrip() {
+        String encoded = Base64Examples.encodeString("Hello World");
+        assertEquals("SGVsbG8gV29ybGQ=", encoded);
+        assertEquals("Hello World", Base64Examples.decodeString(encoded));
+    }
+
+    @Test
+    public void testFileRoundTripAcrossChunkBoundaries() throws IOException {
+        int[] sizes = {0, 1, 2, 3, CHUNK - 1, CHUNK, CHUNK + 1, 3 * CHUNK + 2};
+        for (int size : sizes) {
+            byte[] content = randomBytes(size);
+            File input = folder.newFile("input-" + size + ".bin");
+            File encoded = folder.newFile("encoded-" + size + ".txt");
+            File decoded = folder.newFile("decoded-" + size + ".bin");
+            Files.write(input.toPath(), content);
+
+            Base64Examples.encodeFile(input.getPath(), encoded.getPath());
+            assertArrayEquals("Encoded file should match in-memory encoding for size " + size,
+                    Base64.getEncoder().encode(content), Files.readAllBytes(encoded.toPath()));
+
+            Base64Examples.decodeFile(encoded.getPath(), decoded.getPath());
+            assertArrayEquals("Decoded file should match original for size " + size,
+                    content, Files.readAllBytes(decoded.toPath()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeFileRejectsInvalidInput() throws IOException {
+        File encoded = folder.newFile("invalid.txt");
+        File decoded = folder.newFile("invalid.bin");
+        Files.write(encoded.toPath(), "not*base64".getBytes("US-ASCII"));
+
+        Base64Examples.decodeFile(encoded.getPath(), decoded.getPath());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
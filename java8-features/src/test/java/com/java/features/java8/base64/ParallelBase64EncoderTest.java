@@ -0,0 +1,111 @@
+package com.java.features.java8.base64;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for the ParallelBase64Encoder class.
+ * Uses tiny chunk sizes so that every file is split into many chunks, and
+ * compares the result with the single-threaded JDK encoders.
+ */
+public class ParallelBase64EncoderTest {
+
+    private static ForkJoinPool pool;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testBasicEncodingMatchesJdkEncoder() throws IOException {
+        int[] sizes = {0, 1, 2, 3, 4, 299, 300, 301, 10_000};
+        for (int size : sizes) {
+            for (int chunkSize : new int[] {1, 3, 7, 300}) {
+                byte[] content = randomBytes(size);
+                byte[] encoded = encode(content, 0, chunkSize);
+                assertArrayEquals("size=" + size + ", chunkSize=" + chunkSize,
+                        Base64.getEncoder().encode(content), encoded);
+            }
+        }
+    }
+
+    @Test
+    public void testMimeEncodingMatchesJdkEncoder() throws IOException {
+        int[] sizes = {0, 1, 56, 57, 58, 113, 114, 10_000};
+        int[] lineLengths = {76, 4, 10, 64};
+        for (int size : sizes) {
+            for (int lineLength : lineLengths) {
+                for (int chunkSize : new int[] {1, 100, 1000}) {
+                    byte[] content = randomBytes(size);
+                    byte[] encoded = encode(content, lineLength, chunkSize);
+                    byte[] expected = Base64.getMimeEncoder(lineLength,
+                            "\r\n".getBytes(StandardCharsets.US_ASCII)).encode(content);
+                    assertArrayEquals("size=" + size + ", lineLength=" + lineLength
+                            + ", chunkSize=" + chunkSize, expected, encoded);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEncodedFileDecodesBack() throws IOException {
+        byte[] content = randomBytes(50_000);
+        File input = folder.newFile("input.bin");
+        File encoded = folder.newFile("encoded.txt");
+        File decoded = folder.newFile("decoded.bin");
+        Files.write(input.toPath(), content);
+
+        Base64Examples.encodeFileParallel(input.getPath(), encoded.getPath());
+        Base64Examples.decodeFile(encoded.getPath(), decoded.getPath());
+
+        assertArrayEquals(content, Files.readAllBytes(decoded.toPath()));
+    }
+
+    @Test
+    public void testExistingOutputIsTruncated() throws IOException {
+        File input = folder.newFile("small.bin");
+        File output = folder.newFile("small.txt");
+        Files.write(input.toPath(), "Hello World".getBytes(StandardCharsets.UTF_8));
+        Files.write(output.toPath(), new byte[1000]);
+
+        ParallelBase64Encoder.encodeFile(input.getPath(), output.getPath());
+
+        assertEquals("SGVsbG8gV29ybGQ=",
+                new String(Files.readAllBytes(output.toPath()), StandardCharsets.US_ASCII));
+    }
+
+    private byte[] encode(byte[] content, int lineLength, int chunkSize) throws IOException {
+        File input = folder.newFile();
+        File output = folder.newFile();
+        Files.write(input.toPath(), content);
+        ParallelBase64Encoder.encode(input.toPath(), output.toPath(), lineLength, pool, chunkSize);
+        return Files.readAllBytes(output.toPath());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,177 @@
+package com.java.features.java8.concurrent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Tests for the BoundedBatchProcessor and LatencyHistogram classes.
+ * Tasks sleep for random short periods so that they complete out of order.
+ */
+public class BoundedBatchProcessorTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testOrderedModeEmitsInInputOrder() throws Exception {
+        List<Integer> results = new ArrayList<>();
+        BoundedBatchProcessor<Integer, Integer> processor =
+                new BoundedBatchProcessor<>(executor, this::randomDelaySquare, 4, true);
+
+        BoundedBatchProcessor.Stats stats = processor.process(IntStream.range(0, 200).iterator(), results::add);
+
+        List<Integer> expected = IntStream.range(0, 200).map(i -> i * i).boxed().collect(Collectors.toList());
+        assertEquals(expected, results);
+        assertEquals(200, stats.getCompleted());
+        assertEquals(200, stats.getLatencies().getCount());
+        assertTrue(stats.getThroughputPerSecond() > 0);
+    }
+
+    @Test
+    public void testUnorderedModeEmitsEveryResult() throws Exception {
+        List<Integer> results = new ArrayList<>();
+        BoundedBatchProcessor<Integer, Integer> processor =
+                new BoundedBatchProcessor<>(executor, this::randomDelaySquare, 4, false);
+
+        processor.process(IntStream.range(0, 200).iterator(), results::add);
+
+        Collections.sort(results);
+        assertEquals(IntStream.range(0, 200).map(i -> i * i).boxed().collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void testInFlightTasksNeverExceedLimit() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        AtomicInteger pulled = new AtomicInteger();
+        BoundedBatchProcessor<Integer, Integer> processor = new BoundedBatchProcessor<>(executor, i -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            int result = randomDelaySquare(i);
+            running.decrementAndGet();
+            return result;
+        }, 3, true);
+
+        AtomicInteger emitted = new AtomicInteger();
+        AtomicInteger peakBacklog = new AtomicInteger();
+        processor.process(IntStream.range(0, 100).peek(i -> pulled.incrementAndGet()).iterator(), r -> {
+            // Inputs are only pulled when a slot is free
+            peakBacklog.accumulateAndGet(pulled.get() - emitted.getAndIncrement(), Math::max);
+        });
+
+        assertTrue("Peak concurrency was " + peak.get(), peak.get() <= 3);
+        assertTrue("Pulled ahead by " + peakBacklog.get(), peakBacklog.get() <= 3);
+    }
+
+    @Test
+    public void testTaskFailureIsRethrown() throws Exception {
+        AtomicInteger pulled = new AtomicInteger();
+        BoundedBatchProcessor<Integer, Integer> processor = new BoundedBatchProcessor<>(executor, i -> {
+            if (i == 10) {
+                throw new IllegalStateException("bad input " + i);
+            }
+            return randomDelaySquare(i);
+        }, 4, true);
+
+        try {
+            processor.process(IntStream.range(0, 10_000).peek(i -> pulled.incrementAndGet()).iterator(), r -> { });
+            fail("Expected CompletionException");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertTrue("Processing should stop early, pulled " + pulled.get(), pulled.get() < 10_000);
+    }
+
+    @Test
+    public void testNoInputPulledAfterFailureReleasesPermit() throws Exception {
+        AtomicInteger pulled = new AtomicInteger();
+        AtomicInteger started = new AtomicInteger();
+        BoundedBatchProcessor<Integer, Integer> processor = new BoundedBatchProcessor<>(executor, i -> {
+            started.incrementAndGet();
+            throw new IllegalStateException("bad input " + i);
+        }, 1, true);
+
+        try {
+            processor.process(IntStream.range(0, 100).peek(i -> pulled.incrementAndGet()).iterator(), r -> { });
+            fail("Expected CompletionException");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        // The only permit comes back after the failure is recorded
+        assertEquals(1, pulled.get());
+        assertEquals(1, started.get());
+    }
+
+    @Test
+    public void testConcurrentExamplesBoundedOverload() throws Exception {
+        ConcurrentExamples examples = new ConcurrentExamples(ExecutorStrategy.FIXED_POOL, 4);
+        try {
+            List<String> results = new ArrayList<>();
+            List<String> inputs = java.util.Arrays.asList("A", "B", "C", "D");
+
+            examples.processInParallel(inputs.iterator(), 4, true, results::add);
+
+            assertEquals(java.util.Arrays.asList("Processed: A", "Processed: B", "Processed: C", "Processed: D"),
+                    results);
+        } finally {
+            examples.shutdown();
+        }
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 1000; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500.5, histogram.getMean(TimeUnit.MICROSECONDS), 0.001);
+        assertEquals(1000, histogram.getMax(TimeUnit.MICROSECONDS));
+        // Buckets are accurate to within 12.5%
+        assertEquals(500, histogram.getPercentile(50, TimeUnit.MICROSECONDS), 500 * 0.125);
+        assertEquals(990, histogram.getPercentile(99, TimeUnit.MICROSECONDS), 990 * 0.125);
+        assertEquals(1000, histogram.getPercentile(100, TimeUnit.MICROSECONDS));
+    }
+
+    @Test
+    public void testHistogramBucketsCoverValues() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 1000, 123_456_789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue("value " + value, LatencyHistogram.upperBoundOf(bucket) >= value);
+            assertTrue("value " + value, bucket == 0 || LatencyHistogram.upperBoundOf(bucket - 1) < value);
+        }
+    }
+
+    private int randomDelaySquare(int value) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value * value;
+    }
+}
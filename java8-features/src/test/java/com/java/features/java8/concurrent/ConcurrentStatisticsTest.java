@@ -0,0 +1,103 @@
+package com.java.features.java8.concurrent;
+
+import com.java.features.java8.concurrent.ConcurrentUtilsExample.ConcurrentStatistics;
+import com.java.features.java8.concurrent.ConcurrentUtilsExample.Snapshot;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests for the ConcurrentStatistics accumulator in ConcurrentUtilsExample.
+ * Results are compared with a DoubleSummaryStatistics fed the same samples.
+ */
+public class ConcurrentStatisticsTest {
+
+    @Test
+    public void testEmptySnapshotMatchesDoubleSummaryStatistics() {
+        Snapshot snapshot = new ConcurrentStatistics().snapshot();
+        DoubleSummaryStatistics expected = new DoubleSummaryStatistics();
+
+        assertEquals(expected.getCount(), snapshot.getCount());
+        assertEquals(expected.getSum(), snapshot.getSum(), 0.0);
+        assertEquals(expected.getMin(), snapshot.getMin(), 0.0);
+        assertEquals(expected.getMax(), snapshot.getMax(), 0.0);
+        assertEquals(expected.getAverage(), snapshot.getAverage(), 0.0);
+        assertEquals(0.0, snapshot.getVariance(), 0.0);
+    }
+
+    @Test
+    public void testSingleThreadedSamples() {
+        ConcurrentStatistics statistics = new ConcurrentStatistics(4);
+        double[] samples = {2, 4, 4, 4, 5, 5, 7, 9};
+        for (double sample : samples) {
+            statistics.accept(sample);
+        }
+
+        Snapshot snapshot = statistics.snapshot();
+        assertEquals(8, snapshot.getCount());
+        assertEquals(40.0, snapshot.getSum(), 1e-9);
+        assertEquals(2.0, snapshot.getMin(), 0.0);
+        assertEquals(9.0, snapshot.getMax(), 0.0);
+        assertEquals(5.0, snapshot.getAverage(), 1e-9);
+        assertEquals(232.0, snapshot.getSumOfSquares(), 1e-9);
+        assertEquals(2.0, snapshot.getStandardDeviation(), 1e-9);
+    }
+
+    @Test
+    public void testConcurrentWritersWithConcurrentSnapshots() throws Exception {
+        ConcurrentStatistics statistics = new ConcurrentStatistics(2);
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        AtomicBoolean done = new AtomicBoolean();
+
+        // A reader taking snapshots while the writers run must always see consistent stripes
+        Future<?> reader = executor.submit(() -> {
+            while (!done.get()) {
+                Snapshot snapshot = statistics.snapshot();
+                assertTrue(snapshot.getCount() == 0 || snapshot.getMin() >= 1);
+                assertTrue(snapshot.getSum() >= snapshot.getCount());
+            }
+            return null;
+        });
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            writers.add(executor.submit(() -> {
+                for (int i = 1; i <= perThread; i++) {
+                    statistics.accept(i);
+                }
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        done.set(true);
+        reader.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        Snapshot snapshot = statistics.snapshot();
+        assertEquals((long) threads * perThread, snapshot.getCount());
+        assertEquals(threads * (perThread * (perThread + 1.0) / 2), snapshot.getSum(), 0.0);
+        assertEquals(1.0, snapshot.getMin(), 0.0);
+        assertEquals(perThread, snapshot.getMax(), 0.0);
+    }
+
+    @Test
+    public void testResetClearsSamples() {
+        ConcurrentStatistics statistics = new ConcurrentStatistics();
+        statistics.accept(3.0);
+
+        statistics.reset();
+
+        assertEquals(0, statistics.snapshot().getCount());
+        assertEquals(Double.POSITIVE_INFINITY, statistics.snapshot().getMin(), 0.0);
+    }
+}
@@ -0,0 +1,82 @@
+package com.java.features.java8.concurrent;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the ExecutorStrategy enum and its use by ConcurrentExamples.
+ * Virtual threads are only checked when the running JDK supports them.
+ */
+public class ExecutorStrategyTest {
+
+    @Test
+    public void testFixedPoolAndAutoAlwaysSupported() throws Exception {
+        assertTrue(ExecutorStrategy.FIXED_POOL.isSupported());
+        assertTrue(ExecutorStrategy.AUTO.isSupported());
+
+        for (ExecutorStrategy strategy : Arrays.asList(ExecutorStrategy.FIXED_POOL, ExecutorStrategy.AUTO)) {
+            ExecutorService executor = strategy.create(2);
+            try {
+                Future<String> result = executor.submit(() -> "done");
+                assertEquals("done", result.get(1, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testVirtualThreadsMatchRunningJdk() throws Exception {
+        boolean hasVirtualThreads;
+        try {
+            Thread.class.getMethod("isVirtual");
+            hasVirtualThreads = true;
+        } catch (NoSuchMethodException e) {
+            hasVirtualThreads = false;
+        }
+        assertEquals(hasVirtualThreads, ExecutorStrategy.VIRTUAL_THREADS.isSupported());
+
+        if (!hasVirtualThreads) {
+            try {
+                ExecutorStrategy.VIRTUAL_THREADS.create(0);
+                fail("Expected UnsupportedOperationException");
+            } catch (UnsupportedOperationException expected) {
+                // Falls back only through AUTO
+            }
+            return;
+        }
+        ExecutorService executor = ExecutorStrategy.VIRTUAL_THREADS.create(0);
+        try {
+            Future<Object> virtual = executor.submit(
+                    () -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+            assertEquals(Boolean.TRUE, virtual.get(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testProcessInParallelUsesWholePool() throws Exception {
+        ConcurrentExamples examples = new ConcurrentExamples(ExecutorStrategy.FIXED_POOL, 8);
+        try {
+            List<String> inputs = Arrays.asList("A", "B", "C", "D", "E", "F", "G", "H");
+            long start = System.nanoTime();
+
+            List<String> results = examples.processInParallel(inputs).get(5, TimeUnit.SECONDS);
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertEquals(8, results.size());
+            assertEquals("Processed: A", results.get(0));
+            assertTrue("Eight one-second tasks on eight threads took " + elapsedMillis + "ms",
+                    elapsedMillis < 1900);
+        } finally {
+            examples.shutdown();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.java.features.java8.concurrent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the SharedTimer class and the ConcurrentExamples methods built on it.
+ * Verifies timeout races, cancellation of the losing side and that no
+ * threads are created per call.
+ */
+public class SharedTimerTest {
+
+    private final SharedTimer timer = SharedTimer.getInstance();
+    private ConcurrentExamples examples;
+
+    @Before
+    public void setUp() {
+        examples = new ConcurrentExamples();
+    }
+
+    @After
+    public void tearDown() {
+        examples.shutdown();
+    }
+
+    @Test
+    public void testTimeoutWinsAndCancelsComputation() throws Exception {
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        long cancelledBefore = timer.getCancelledFutures();
+
+        String result = timer.withTimeout(slow, "Timeout", 50, TimeUnit.MILLISECONDS)
+                .get(2, TimeUnit.SECONDS);
+
+        assertEquals("Timeout", result);
+        assertTrue("Losing future should be cancelled", slow.isCancelled());
+        assertEquals(cancelledBefore + 1, timer.getCancelledFutures());
+    }
+
+    @Test
+    public void testCompletionWinsAndCancelsTimer() throws Exception {
+        long cancelledBefore = timer.getCancelledTimers();
+
+        String result = timer.withTimeout(CompletableFuture.completedFuture("Done"), "Timeout", 1, TimeUnit.HOURS)
+                .get(2, TimeUnit.SECONDS);
+
+        assertEquals("Done", result);
+        assertEquals(cancelledBefore + 1, timer.getCancelledTimers());
+    }
+
+    @Test
+    public void testFailurePropagates() throws Exception {
+        CompletableFuture<String> failing = new CompletableFuture<>();
+        failing.completeExceptionally(new IllegalStateException("boom"));
+
+        CompletableFuture<String> result = timer.withTimeout(failing, "Timeout", 1, TimeUnit.HOURS);
+
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testCancelledTimersAreRemovedFromQueue() {
+        int pendingBefore = timer.getPendingTimers();
+        List<CompletableFuture<String>> delayed = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            delayed.add(timer.completeAfter("value", 1, TimeUnit.HOURS));
+        }
+        assertEquals(pendingBefore + 100, timer.getPendingTimers());
+
+        delayed.forEach(future -> future.cancel(false));
+
+        assertEquals(pendingBefore, timer.getPendingTimers());
+    }
+
+    @Test
+    public void testWithTimeoutDoesNotCreateThreadsPerCall() throws Exception {
+        // Warm up the shared timer and the instance executor
+        examples.withTimeout("warmup", 0).get(2, TimeUnit.SECONDS);
+        int threadsBefore = Thread.activeCount();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(examples.withTimeout("input" + i, 0));
+        }
+        for (CompletableFuture<String> future : futures) {
+            assertEquals("Timeout occurred", future.get(2, TimeUnit.SECONDS));
+        }
+
+        assertTrue("No thread should be created per call",
+                Thread.activeCount() <= threadsBefore + 4);
+    }
+
+    @Test
+    public void testScheduleTaskCompletesAfterDelay() throws Exception {
+        long firedBefore = timer.getFiredTimers();
+
+        String result = examples.scheduleTask("task", 0).get(2, TimeUnit.SECONDS);
+
+        assertEquals("Delayed task completed: task", result);
+        assertTrue(timer.getFiredTimers() > firedBefore);
+    }
+}
@@ -0,0 +1,96 @@
+package com.java.features.java8.concurrent;
+
+import com.java.features.java8.concurrent.ConcurrentUtilsExample.SnapshotPoint;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the lock-free SnapshotPoint in ConcurrentUtilsExample.
+ */
+public class SnapshotPointTest {
+
+    @Test
+    public void testMoveAndDistance() {
+        SnapshotPoint point = new SnapshotPoint();
+        point.move(3.0, 4.0);
+
+        assertEquals(5.0, point.distanceFromOrigin(), 1e-9);
+    }
+
+    @Test
+    public void testCalculateAndUpdateDistanceScalesPoint() {
+        SnapshotPoint point = new SnapshotPoint();
+        point.move(3.0, 4.0);
+
+        assertEquals(10.0, point.calculateAndUpdateDistance(10.0), 1e-9);
+        assertEquals(6.0, point.getX(), 1e-9);
+        assertEquals(8.0, point.getY(), 1e-9);
+    }
+
+    @Test
+    public void testPointAtOriginIsLeftAlone() {
+        SnapshotPoint point = new SnapshotPoint();
+
+        assertEquals(0.0, point.calculateAndUpdateDistance(10.0), 0.0);
+        assertEquals(0.0, point.distanceFromOrigin(), 0.0);
+    }
+
+    @Test
+    public void testConcurrentMovesAreNeverLost() throws Exception {
+        SnapshotPoint point = new SnapshotPoint();
+        int threads = 8;
+        int moves = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < moves; i++) {
+                        point.move(1.0, 2.0);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * moves, point.getX(), 0.0);
+        assertEquals(2.0 * threads * moves, point.getY(), 0.0);
+    }
+
+    @Test
+    public void testUpdateDistanceRetriesUnderContention() throws Exception {
+        SnapshotPoint point = new SnapshotPoint();
+        point.move(1.0, 1.0);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Double>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    double result = 0;
+                    for (int i = 0; i < 10_000; i++) {
+                        point.move(0.5, 0.5);
+                        result = point.calculateAndUpdateDistance(100.0);
+                        assertEquals(100.0, result, 1e-9);
+                    }
+                    return result;
+                }));
+            }
+            for (Future<Double> future : futures) {
+                assertEquals(100.0, future.get(30, TimeUnit.SECONDS), 1e-9);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
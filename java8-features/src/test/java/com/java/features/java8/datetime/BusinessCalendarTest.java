@@ -0,0 +1,136 @@
+package com.java.features.java8.datetime;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Tests for the BusinessCalendar class.
+ * Results are compared with a day-by-day walk over the same weekend and
+ * holidays.
+ */
+public class BusinessCalendarTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Set<LocalDate> holidays = new HashSet<>();
+    private BusinessCalendar calendar;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < 300; i++) {
+            holidays.add(LocalDate.of(2000, 1, 1).plusDays(random.nextInt(366 * 30)));
+        }
+        calendar = new BusinessCalendar(2000, 2029, holidays);
+    }
+
+    private boolean isBusinessDay(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY && !holidays.contains(date);
+    }
+
+    private LocalDate walk(LocalDate date, int businessDays) {
+        int step = businessDays >= 0 ? 1 : -1;
+        for (int remaining = Math.abs(businessDays); remaining > 0; ) {
+            date = date.plusDays(step);
+            if (isBusinessDay(date)) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+
+    @Test
+    public void testIsBusinessDay() {
+        for (LocalDate date = LocalDate.of(2000, 1, 1); date.getYear() < 2030; date = date.plusDays(1)) {
+            assertEquals(date.toString(), isBusinessDay(date), calendar.isBusinessDay(date));
+        }
+    }
+
+    @Test
+    public void testPlusBusinessDaysMatchesWalk() {
+        Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            LocalDate date = LocalDate.of(2002, 1, 1).plusDays(random.nextInt(365 * 26));
+            int amount = random.nextInt(601) - 300;
+            assertEquals(date + " " + amount, walk(date, amount), calendar.plusBusinessDays(date, amount));
+        }
+    }
+
+    @Test
+    public void testBusinessDaysBetweenMatchesWalk() {
+        Random random = new Random(11);
+        for (int i = 0; i < 1_000; i++) {
+            LocalDate start = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(365 * 29));
+            LocalDate end = start.plusDays(random.nextInt(400));
+            long expected = 0;
+            for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+                if (isBusinessDay(date)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, calendar.businessDaysBetween(start, end));
+            assertEquals(-expected, calendar.businessDaysBetween(end, start));
+        }
+        assertEquals(calendar.businessDaysInYear(2029),
+                calendar.businessDaysBetween(LocalDate.of(2029, 1, 1), LocalDate.of(2030, 1, 1)));
+    }
+
+    @Test
+    public void testAdjusters() {
+        BusinessCalendar weekendsOnly = new BusinessCalendar(2024, 2024, Arrays.<LocalDate>asList());
+        LocalDate friday = LocalDate.of(2024, 1, 12);
+        LocalDate saturday = friday.plusDays(1);
+        LocalDate monday = friday.plusDays(3);
+
+        assertEquals(monday, friday.with(weekendsOnly.nextBusinessDay()));
+        assertEquals(friday, monday.with(weekendsOnly.previousBusinessDay()));
+        assertEquals(friday, saturday.with(weekendsOnly.previousBusinessDay()));
+        assertEquals(monday, saturday.with(weekendsOnly.nextOrSameBusinessDay()));
+        assertEquals(friday, friday.with(weekendsOnly.nextOrSameBusinessDay()));
+        assertEquals(LocalDateTime.of(2024, 1, 16, 9, 30),
+                LocalDateTime.of(2024, 1, 12, 9, 30).with(weekendsOnly.plusBusinessDaysAdjuster(2)));
+    }
+
+    @Test
+    public void testLoadFromFile() throws IOException {
+        File file = folder.newFile("holidays.txt");
+        List<String> lines = Arrays.asList("# Bank holidays", "", "2024-01-01", "  2024-12-25  ");
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+
+        BusinessCalendar loaded = BusinessCalendar.load(file.toPath(), 2024, 2024);
+
+        assertFalse(loaded.isBusinessDay(LocalDate.of(2024, 1, 1)));
+        assertFalse(loaded.isBusinessDay(LocalDate.of(2024, 12, 25)));
+        assertTrue(loaded.isBusinessDay(LocalDate.of(2024, 1, 2)));
+        assertEquals(262 - 2, loaded.businessDaysInYear(2024));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOutsideRange() {
+        calendar.isBusinessDay(LocalDate.of(2030, 1, 1));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testResultOutsideRange() {
+        calendar.plusBusinessDays(LocalDate.of(2029, 12, 20), 30);
+    }
+}
@@ -7,6 +7,7 @@ import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -140,6 +141,24 @@ public class DateTimeExamplesTest {
         assertTrue("Result should show first day of next year", result.contains("First day of next year:"));
     }
 
+    /**
+     * Tests business-day adjusters.
+     * Verifies:
+     * - Next and previous business day skip weekends and holidays
+     * - T+2 settlement
+     */
+    @Test
+    public void testDemonstrateBusinessDayAdjusters() {
+        LocalDate friday = LocalDate.of(2024, 1, 12);
+        BusinessCalendar calendar = new BusinessCalendar(2024, 2024,
+                Collections.singletonList(LocalDate.of(2024, 1, 15)));
+        String result = DateTimeExamples.demonstrateAdjusters(friday, calendar);
+        assertTrue(result.contains("Next business day: 2024-01-16"));
+        assertTrue(result.contains("Previous business day: 2024-01-11"));
+        assertTrue(result.contains("T+2 settlement: 2024-01-17"));
+        assertTrue(result.contains("Business days left in month: 13"));
+    }
+
     /**
      * Tests Instant operations.
      * Verifies:
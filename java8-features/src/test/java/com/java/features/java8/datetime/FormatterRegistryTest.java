@@ -0,0 +1,41 @@
+package com.java.features.java8.datetime;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Tests for the FormatterRegistry class.
+ * Verifies that formatters are shared per pattern and locale and format
+ * like freshly built ones.
+ */
+public class FormatterRegistryTest {
+
+    @Test
+    public void testSameInstancePerPatternAndLocale() {
+        DateTimeFormatter first = FormatterRegistry.ofPattern("dd-MMM-yyyy", Locale.ENGLISH);
+
+        assertSame(first, FormatterRegistry.ofPattern("dd-MMM-yyyy", Locale.ENGLISH));
+        assertNotSame(first, FormatterRegistry.ofPattern("dd-MMM-yyyy", Locale.FRENCH));
+        assertNotSame(first, FormatterRegistry.ofPattern("dd-MM-yyyy", Locale.ENGLISH));
+    }
+
+    @Test
+    public void testFormatsLikeOfPattern() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 15, 10, 30);
+        String pattern = "EEEE, MMMM d, yyyy 'at' HH:mm";
+
+        assertEquals(dateTime.format(DateTimeFormatter.ofPattern(pattern)),
+                dateTime.format(FormatterRegistry.ofPattern(pattern)));
+        assertEquals("lundi 15 janvier",
+                dateTime.format(FormatterRegistry.ofPattern("EEEE d MMMM", Locale.FRENCH)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPattern() {
+        FormatterRegistry.ofPattern("yyyy-{", Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,100 @@
+package com.java.features.java8.datetime;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+/**
+ * Tests for the IsoTimestampFormatter class.
+ * Output is compared with the equivalent DateTimeFormatter pattern, across
+ * second boundaries and outside the fast-path year range.
+ */
+public class IsoTimestampFormatterTest {
+
+    private static final DateTimeFormatter LOCAL = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS");
+    private static final DateTimeFormatter INSTANT =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+    private final IsoTimestampFormatter formatter = new IsoTimestampFormatter();
+
+    @Test
+    public void testFormatLocalDateTime() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 15, 10, 30, 5, 123_456_789);
+
+        assertEquals("2024-01-15T10:30:05.123", formatter.format(dateTime));
+        assertEquals("2024-01-15T10:30:00.000", formatter.format(dateTime.withSecond(0).withNano(0)));
+    }
+
+    @Test
+    public void testFormatInstant() {
+        assertEquals("1970-01-01T00:00:00.000Z", formatter.format(Instant.EPOCH));
+        assertEquals("2024-01-15T10:30:05.007Z", formatter.format(Instant.parse("2024-01-15T10:30:05.007Z")));
+    }
+
+    @Test
+    public void testMatchesDateTimeFormatterAcrossSeconds() {
+        Random random = new Random(42);
+        Instant instant = Instant.parse("2023-12-31T23:59:58Z");
+        StringBuilder builder = new StringBuilder();
+        byte[] buffer = new byte[IsoTimestampFormatter.MAX_LENGTH + 1];
+        for (int i = 0; i < 10_000; i++) {
+            instant = instant.plusNanos(random.nextInt(3_000_000));
+            LocalDateTime local = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+
+            builder.setLength(0);
+            assertEquals(INSTANT.format(instant), formatter.formatTo(instant, builder).toString());
+            assertEquals(LOCAL.format(local), formatter.format(local));
+
+            int end = formatter.formatTo(instant, buffer, 1);
+            assertEquals(INSTANT.format(instant), new String(buffer, 1, end - 1, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    public void testYearsOutsideFastPath() {
+        LocalDateTime far = LocalDateTime.of(12024, 1, 15, 10, 30, 5);
+        LocalDateTime bce = LocalDateTime.of(-5, 1, 15, 10, 30, 5);
+
+        assertEquals(LOCAL.format(far), formatter.format(far));
+        assertEquals(LOCAL.format(bce), formatter.format(bce));
+        byte[] buffer = new byte[IsoTimestampFormatter.MAX_LENGTH];
+        int end = formatter.formatTo(far.toInstant(ZoneOffset.UTC), buffer, 0);
+        assertEquals(INSTANT.format(far.toInstant(ZoneOffset.UTC)), new String(buffer, 0, end, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals(LocalDateTime.of(2024, 1, 15, 10, 30, 5, 123_000_000),
+                formatter.parseLocalDateTime("2024-01-15T10:30:05.123"));
+        assertEquals(Instant.parse("2024-01-15T10:30:05.123Z"),
+                formatter.parseInstant("2024-01-15T10:30:05.123Z"));
+        // Other ISO-8601 forms go through DateTimeFormatter
+        assertEquals(LocalDateTime.of(2024, 1, 15, 10, 30),
+                formatter.parseLocalDateTime("2024-01-15T10:30"));
+        assertEquals(Instant.parse("2024-01-15T10:30:05.123456Z"),
+                formatter.parseInstant("2024-01-15T10:30:05.123456Z"));
+    }
+
+    @Test
+    public void testParseRoundTrip() {
+        Instant instant = Instant.parse("2024-02-29T23:59:59.999Z");
+        assertEquals(instant, formatter.parseInstant(formatter.format(instant)));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void testParseInvalidField() {
+        formatter.parseLocalDateTime("2024-13-15T10:30:05.123");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void testParseGarbage() {
+        formatter.parseInstant("2024-01-15 10:30:05.123Z");
+    }
+}
@@ -0,0 +1,123 @@
+package com.java.features.java8.lambda;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ChunkedListCollectorTest {
+
+    private static List<Integer> numbers(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testSequentialKeepsOrder() {
+        List<Integer> numbers = numbers(100_000);
+
+        assertEquals(numbers, numbers.stream().collect(ChunkedListCollector.toList()));
+        assertEquals(numbers, numbers.stream()
+                .collect(ChunkedListCollector.<Integer>toList().sizedFrom(numbers.spliterator())));
+    }
+
+    @Test
+    public void testParallelKeepsOrder() {
+        List<Integer> numbers = numbers(1_000_000);
+        List<Integer> expected = numbers.parallelStream().filter(n -> n % 3 != 0).collect(Collectors.toList());
+
+        assertEquals(expected, numbers.parallelStream().filter(n -> n % 3 != 0)
+                .collect(ChunkedListCollector.toList()));
+        assertEquals(expected, numbers.parallelStream().filter(n -> n % 3 != 0)
+                .collect(ChunkedListCollector.<Integer>toList().sizedFrom(numbers.spliterator())));
+    }
+
+    @Test
+    public void testEmpty() {
+        List<Integer> empty = Collections.<Integer>emptyList().parallelStream()
+                .collect(ChunkedListCollector.toList());
+
+        assertTrue(empty.isEmpty());
+        assertFalse(empty.iterator().hasNext());
+    }
+
+    @Test
+    public void testCallbacks() {
+        LongAdder accepted = new LongAdder();
+        AtomicInteger finished = new AtomicInteger();
+        List<Integer> numbers = numbers(50_000);
+
+        List<Integer> result = numbers.parallelStream().collect(ChunkedListCollector.<Integer>of(
+                n -> accepted.increment(), finished::incrementAndGet).withExpectedSize(numbers.size()));
+
+        assertEquals(numbers, result);
+        assertEquals(numbers.size(), accepted.sum());
+        assertEquals(1, finished.get());
+    }
+
+    @Test
+    public void testSizedCollectKeepsAtMostTwiceItsSize() {
+        List<Integer> numbers = numbers(2_000_000);
+        ChunkedListCollector<Integer> sized = ChunkedListCollector.<Integer>toList().sizedFrom(numbers.spliterator());
+
+        List<Integer> filtered = numbers.parallelStream().filter(n -> n % 100 == 0).collect(sized);
+        List<Integer> all = numbers.parallelStream().collect(sized);
+
+        assertEquals(20_000, filtered.size());
+        assertTrue(ChunkedListCollector.capacityOf(filtered) <= 2L * filtered.size());
+        assertEquals(numbers, all);
+        assertTrue(ChunkedListCollector.capacityOf(all) <= 2L * all.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeExpectedSize() {
+        ChunkedListCollector.toList().withExpectedSize(-1);
+    }
+
+    @Test
+    public void testUnknownExpectedSize() {
+        List<Integer> numbers = numbers(1_000);
+
+        assertEquals(numbers, numbers.stream()
+                .collect(ChunkedListCollector.<Integer>toList().withExpectedSize(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testListAccess() {
+        List<Integer> numbers = numbers(10_000);
+        List<Integer> result = numbers.parallelStream().collect(ChunkedListCollector.toList());
+
+        for (int i = 0; i < numbers.size(); i++) {
+            assertEquals(numbers.get(i), result.get(i));
+        }
+        List<Integer> visited = new ArrayList<>();
+        result.forEach(visited::add);
+        assertEquals(numbers, visited);
+        assertEquals(numbers.hashCode(), result.hashCode());
+        assertEquals(numbers.subList(100, 200), result.subList(100, 200));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        numbers(10).stream().collect(ChunkedListCollector.toList()).get(10);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorExhausted() {
+        Iterator<Integer> iterator = numbers(1).stream().collect(ChunkedListCollector.toList()).iterator();
+        iterator.next();
+        iterator.next();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testResultIsReadOnly() {
+        numbers(10).stream().collect(ChunkedListCollector.toList()).add(10);
+    }
+}
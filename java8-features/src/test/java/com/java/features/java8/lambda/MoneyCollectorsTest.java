@@ -0,0 +1,108 @@
+package com.java.features.java8.lambda;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class MoneyCollectorsTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final String[] CATEGORIES = {"Fruit", "Dairy", "Bakery"};
+
+    private static List<Money> prices(int count) {
+        Random random = new Random(42);
+        List<Money> prices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            prices.add(Money.ofMinor(random.nextInt(100_000) - 100, USD));
+        }
+        return prices;
+    }
+
+    @Test
+    public void testSummingMatchesBigDecimal() {
+        List<Money> prices = prices(100_000);
+        BigDecimal expected = prices.stream().map(Money::toBigDecimal).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        assertEquals(expected, prices.stream().collect(MoneyCollectors.summing(USD, m -> m)).toBigDecimal());
+        assertEquals(expected, prices.parallelStream().collect(MoneyCollectors.summing(USD, m -> m)).toBigDecimal());
+    }
+
+    @Test
+    public void testAveraging() {
+        List<Money> prices = Arrays.asList(Money.ofMinor(100, USD), Money.ofMinor(200, USD), Money.ofMinor(202, USD));
+
+        assertEquals(Optional.of(Money.ofMinor(167, USD)),
+                prices.stream().collect(MoneyCollectors.averaging(USD, m -> m, RoundingMode.HALF_EVEN)));
+        assertEquals(Optional.of(Money.ofMinor(168, USD)),
+                prices.stream().collect(MoneyCollectors.averaging(USD, m -> m, RoundingMode.UP)));
+        assertEquals(Optional.empty(), Collections.<Money>emptyList().stream()
+                .collect(MoneyCollectors.averaging(USD, m -> m, RoundingMode.HALF_EVEN)));
+    }
+
+    @Test
+    public void testSummarizing() {
+        List<Money> prices = prices(10_000);
+        MoneySummaryStatistics stats = prices.parallelStream().collect(MoneyCollectors.summarizing(USD, m -> m));
+
+        assertEquals(prices.size(), stats.getCount());
+        assertEquals(Collections.min(prices), stats.getMin().get());
+        assertEquals(Collections.max(prices), stats.getMax().get());
+        long sum = prices.stream().mapToLong(Money::getMinorUnits).sum();
+        assertEquals(sum, stats.getSum().getMinorUnits());
+        assertEquals(Money.divide(sum, prices.size(), RoundingMode.HALF_UP),
+                stats.getAverage(RoundingMode.HALF_UP).get().getMinorUnits());
+    }
+
+    @Test
+    public void testEmptyStatistics() {
+        MoneySummaryStatistics stats = new MoneySummaryStatistics(USD);
+
+        assertEquals(0, stats.getCount());
+        assertEquals(Money.zero(USD), stats.getSum());
+        assertFalse(stats.getMin().isPresent());
+        assertFalse(stats.getMax().isPresent());
+        assertFalse(stats.getAverage(RoundingMode.HALF_EVEN).isPresent());
+    }
+
+    @Test
+    public void testSummarizingByCategory() {
+        List<Money> prices = prices(30_000);
+        Map<String, MoneySummaryStatistics> byCategory = prices.parallelStream()
+                .collect(MoneyCollectors.summarizingBy(
+                        m -> CATEGORIES[(int) Math.floorMod(m.getMinorUnits(), (long) CATEGORIES.length)],
+                        USD, m -> m));
+
+        Map<String, List<Money>> expected = prices.stream()
+                .collect(Collectors.groupingBy(m -> CATEGORIES[(int) Math.floorMod(m.getMinorUnits(), 3L)]));
+        assertEquals(expected.keySet(), byCategory.keySet());
+        for (Map.Entry<String, List<Money>> entry : expected.entrySet()) {
+            MoneySummaryStatistics stats = byCategory.get(entry.getKey());
+            assertEquals(entry.getValue().size(), stats.getCount());
+            assertEquals(Collections.min(entry.getValue()), stats.getMin().get());
+            assertEquals(Collections.max(entry.getValue()), stats.getMax().get());
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testSumOverflow() {
+        Arrays.asList(Money.ofMinor(Long.MAX_VALUE, USD), Money.ofMinor(1, USD)).stream()
+                .collect(MoneyCollectors.summing(USD, m -> m));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCurrencyMismatch() {
+        Arrays.asList(Money.ofMinor(1, Currency.getInstance("EUR"))).stream()
+                .collect(MoneyCollectors.summing(USD, m -> m));
+    }
+}
@@ -0,0 +1,122 @@
+package com.java.features.java8.lambda;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Random;
+
+public class MoneyTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency JPY = Currency.getInstance("JPY");
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Test
+    public void testOfUsesCurrencyScale() {
+        Money price = Money.of(new BigDecimal("19.99"), USD);
+
+        assertEquals(1999, price.getMinorUnits());
+        assertEquals(2, price.getScale());
+        assertEquals(new BigDecimal("19.99"), price.toBigDecimal());
+        assertEquals("USD 19.99", price.toString());
+        assertEquals(500, Money.of(new BigDecimal("500"), JPY).getMinorUnits());
+        assertEquals(Money.ofMinor(1990, USD), Money.of(new BigDecimal("19.9"), USD));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testOfRejectsExtraDigits() {
+        Money.of(new BigDecimal("19.999"), USD);
+    }
+
+    @Test
+    public void testOfWithRounding() {
+        assertEquals(2000, Money.of(new BigDecimal("19.995"), USD, RoundingMode.HALF_EVEN).getMinorUnits());
+        assertEquals(1999, Money.of(new BigDecimal("19.995"), USD, RoundingMode.DOWN).getMinorUnits());
+    }
+
+    @Test
+    public void testProductPrice() {
+        LambdaExamples.Product rounded = new LambdaExamples.Product("Apple", new BigDecimal("1.999"), "Fruit", null);
+        LambdaExamples.Product unpriced = new LambdaExamples.Product("Pear", (BigDecimal) null, "Fruit", null);
+
+        assertEquals(new BigDecimal("2.00"), rounded.getPrice());
+        assertEquals(Money.ofMinor(200, USD), rounded.getPriceAsMoney());
+        assertNull(unpriced.getPrice());
+        assertNull(unpriced.getPriceAsMoney());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCurrencyWithoutMinorUnit() {
+        Money.zero(Currency.getInstance("XXX"));
+    }
+
+    @Test
+    public void testArithmetic() {
+        Money price = Money.of(new BigDecimal("19.99"), USD);
+
+        Money total = price.multipliedBy(3).plus(Money.ofMinor(500, USD));
+        assertEquals(Money.of(new BigDecimal("64.97"), USD), total);
+        assertEquals(Money.of(new BigDecimal("16.24"), USD), total.dividedBy(4, RoundingMode.HALF_EVEN));
+        assertEquals(Money.of(new BigDecimal("44.98"), USD), total.minus(price));
+        assertEquals(-1, price.negated().signum());
+        assertEquals(Money.of(new BigDecimal("1.60"), USD),
+                price.multipliedBy(new BigDecimal("0.08"), RoundingMode.HALF_UP));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testPlusOverflow() {
+        Money.ofMinor(Long.MAX_VALUE, USD).plus(Money.ofMinor(1, USD));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testMultiplyOverflow() {
+        Money.ofMinor(Long.MAX_VALUE / 2 + 1, USD).multipliedBy(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCurrencyMismatch() {
+        Money.zero(USD).plus(Money.zero(EUR));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testDivideUnnecessary() {
+        Money.ofMinor(10, USD).dividedBy(3, RoundingMode.UNNECESSARY);
+    }
+
+    @Test
+    public void testDivideMatchesBigDecimal() {
+        Random random = new Random(42);
+        long[] specials = {0, 1, -1, 2, -2, 5, -5, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+        for (int i = 0; i < 20_000; i++) {
+            long dividend = i < specials.length ? specials[i] : random.nextInt(2001) - 1000;
+            long divisor = i < specials.length ? specials[(i * 7 + 3) % specials.length] : random.nextInt(41) - 20;
+            if (i % 3 == 0) {
+                dividend = random.nextLong();
+            }
+            if (divisor == 0 || dividend == Long.MIN_VALUE && divisor == -1) {
+                continue;
+            }
+            for (RoundingMode mode : RoundingMode.values()) {
+                if (mode == RoundingMode.UNNECESSARY) {
+                    continue;
+                }
+                long expected = new BigDecimal(dividend).divide(new BigDecimal(divisor), 0, mode).longValueExact();
+                assertEquals(dividend + " / " + divisor + " " + mode, expected, Money.divide(dividend, divisor, mode));
+            }
+        }
+    }
+
+    @Test
+    public void testComparisonAndEquality() {
+        Money small = Money.ofMinor(100, USD);
+        Money large = Money.ofMinor(200, USD);
+
+        assertTrue(small.compareTo(large) < 0);
+        assertEquals(small, Money.ofMinor(100, USD));
+        assertEquals(small.hashCode(), Money.ofMinor(100, USD).hashCode());
+        assertNotEquals(small, Money.ofMinor(100, EUR));
+    }
+}
@@ -0,0 +1,147 @@
+package com.java.features.java8.lambda;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public class RulePipelineTest {
+
+    private static List<Integer> randomInts(int count) {
+        Random random = new Random(42);
+        List<Integer> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(random.nextInt(100));
+        }
+        return values;
+    }
+
+    @Test
+    public void testEmptyPipelineAcceptsEverything() {
+        RulePipeline<String, String> pipeline = RulePipeline.create();
+
+        assertTrue(pipeline.test("anything"));
+        assertEquals("same", pipeline.transform("same"));
+        assertEquals(Arrays.asList("a", "b"), pipeline.apply(Arrays.asList("a", "b")));
+        assertTrue(pipeline.getRuleStats().isEmpty());
+    }
+
+    @Test
+    public void testApplyFiltersAndTransforms() {
+        RulePipeline<String, Integer> pipeline = RulePipeline.<String>create()
+                .rule("not empty", s -> !s.isEmpty())
+                .rule("lower case", s -> s.equals(s.toLowerCase()))
+                .transform(String::trim)
+                .transform(String::length);
+
+        List<Integer> lengths = pipeline.apply(Arrays.asList("apple", "", "Banana", " kiwi "));
+
+        assertEquals(Arrays.asList(5, 4), lengths);
+    }
+
+    @Test
+    public void testMatchesNestedComposition() {
+        Predicate<Integer> even = x -> x % 2 == 0;
+        Predicate<Integer> small = x -> x < 30;
+        Predicate<Integer> notFive = x -> x % 5 != 0;
+        RulePipeline<Integer, Integer> pipeline = RulePipeline.<Integer>create()
+                .rule("even", even)
+                .rule("small", small)
+                .rule("not multiple of 5", notFive);
+
+        List<Integer> values = randomInts(100_000);
+
+        List<Integer> nested = values.stream().filter(even.and(small).and(notFive)).collect(Collectors.toList());
+        List<Integer> flat = values.stream().filter(pipeline).collect(Collectors.toList());
+        assertEquals(nested, flat);
+    }
+
+    @Test
+    public void testSelectiveRuleMovesFirst() {
+        RulePipeline<Integer, Integer> pipeline = RulePipeline.<Integer>create()
+                .rule("always", x -> true)
+                .rule("rarely", x -> x < 10);
+
+        for (Integer value : randomInts(RulePipeline.SAMPLE_INTERVAL * 64)) {
+            pipeline.test(value);
+        }
+
+        List<RulePipeline.RuleStats> stats = pipeline.getRuleStats();
+        assertEquals("rarely", stats.get(0).getName());
+        assertEquals("always", stats.get(1).getName());
+        // Samples are picked at random: 64 expected, with a standard deviation of 8
+        assertTrue(pipeline.getSampleCount() > 24 && pipeline.getSampleCount() < 104);
+    }
+
+    @Test
+    public void testPassRates() {
+        RulePipeline<Integer, Integer> pipeline = RulePipeline.<Integer>create()
+                .rule("below 10", x -> x < 10)
+                .rule("below 50", x -> x < 50);
+
+        // About 7,800 random samples: the "below 50" rate has a standard deviation of 0.006
+        randomInts(2_000_000).forEach(pipeline::test);
+
+        for (RulePipeline.RuleStats stats : pipeline.getRuleStats()) {
+            double expected = stats.getName().equals("below 10") ? 0.1 : 0.5;
+            assertEquals(stats.getName(), expected, stats.getPassRate(), 0.03);
+            assertTrue(stats.getAverageNanos() >= 0);
+        }
+    }
+
+    @Test
+    public void testNewPipelineHasOwnStatistics() {
+        RulePipeline<Integer, Integer> pipeline = RulePipeline.<Integer>create().rule("small", x -> x < 10);
+        randomInts(10_000).forEach(pipeline::test);
+
+        RulePipeline<Integer, String> extended = pipeline.transform(String::valueOf);
+
+        assertTrue(pipeline.getSampleCount() > 0);
+        assertEquals(0, extended.getSampleCount());
+        assertEquals(1.0, extended.getRuleStats().get(0).getPassRate(), 0.0);
+    }
+
+    @Test
+    public void testParallelStream() {
+        RulePipeline<Integer, Integer> pipeline = RulePipeline.<Integer>create()
+                .rule("odd", x -> x % 2 == 1)
+                .rule("large", x -> x > 50)
+                .transform(x -> x * 2);
+        List<Integer> values = randomInts(200_000);
+
+        List<Integer> sequential = pipeline.apply(values);
+        List<Integer> parallel = values.parallelStream()
+                .filter(pipeline)
+                .map(pipeline::transform)
+                .collect(Collectors.toList());
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRuleAfterTransform() {
+        RulePipeline.<String>create()
+                .transform(String::length)
+                .rule("late", x -> true);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullRule() {
+        RulePipeline.<String>create().rule("missing", null);
+    }
+
+    @Test
+    public void testToString() {
+        RulePipeline<String, String> pipeline = RulePipeline.<String>create()
+                .rule("not empty", s -> !s.isEmpty());
+        pipeline.apply(Collections.nCopies(100, "x"));
+
+        assertTrue(pipeline.toString().contains("not empty: pass rate 100"));
+    }
+}
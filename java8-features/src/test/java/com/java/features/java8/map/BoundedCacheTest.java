@@ -0,0 +1,182 @@
+package com.java.features.java8.map;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for the BoundedCache class.
+ * Covers the size and weight bounds, segmented LRU eviction, expiry with a
+ * manual clock, single-flight loading and the statistics.
+ */
+public class BoundedCacheTest {
+
+    @Test
+    public void testLoadsOnceThenHits() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(Integer.valueOf(5), cache.get("hello", key -> { loads.incrementAndGet(); return key.length(); }));
+        assertEquals(Integer.valueOf(5), cache.get("hello", key -> { loads.incrementAndGet(); return key.length(); }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getLoadCount());
+        assertEquals(0.5, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void testSizeBound() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, i);
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(100, cache.getWeightedSize());
+        assertEquals(900, cache.getEvictionCount());
+        // With no repeated access, eviction is plain LRU
+        assertEquals(Optional.of(999), cache.getIfPresent(999));
+        assertEquals(Optional.empty(), cache.getIfPresent(0));
+    }
+
+    @Test
+    public void testScanDoesNotEvictFrequentEntries() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, i);
+            cache.getIfPresent(i);
+        }
+        // A scan of one-off keys only cycles through the probation segment
+        for (int i = 1_000; i < 10_000; i++) {
+            cache.put(i, i);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(Optional.of(i), cache.getIfPresent(i));
+        }
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    public void testWeightBound() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, (key, value) -> value.length());
+        cache.put("a", "1234");
+        cache.put("b", "1234");
+        cache.put("c", "1234");
+
+        assertEquals(8, cache.getWeightedSize());
+        assertFalse(cache.getIfPresent("a").isPresent());
+
+        cache.put("d", "12345678901");
+        assertEquals(0, cache.getWeightedSize());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testReplaceUpdatesWeight() {
+        BoundedCache<String, String> cache = new BoundedCache<>(100, (key, value) -> value.length());
+        cache.put("a", "1234");
+        cache.getIfPresent("a");
+        cache.put("a", "12");
+
+        assertEquals(2, cache.getWeightedSize());
+        assertEquals(Optional.of("12"), cache.getIfPresent("a"));
+
+        cache.invalidate("a");
+        assertEquals(0, cache.getWeightedSize());
+        assertFalse(cache.getIfPresent("a").isPresent());
+    }
+
+    @Test
+    public void testExpireAfterWrite() {
+        AtomicLong now = new AtomicLong();
+        BoundedCache<String, Integer> cache = new BoundedCache<>(
+                10, (key, value) -> 1, 1, TimeUnit.SECONDS, now::get);
+        cache.put("a", 1);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals(Optional.of(1), cache.getIfPresent("a"));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(Optional.empty(), cache.getIfPresent("a"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        assertEquals(Integer.valueOf(2), cache.get("a", key -> 2));
+    }
+
+    @Test
+    public void testConcurrentMissesLoadOnce() throws Exception {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("key", key -> {
+                        loads.incrementAndGet();
+                        try {
+                            Thread.sleep(100);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return 42;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(Integer.valueOf(42), result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testNullLoadIsNotCached() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+
+        assertNull(cache.get("a", key -> null));
+        assertEquals(0, cache.size());
+        assertEquals(Integer.valueOf(1), cache.get("a", key -> 1));
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        try {
+            cache.get("a", key -> {
+                throw new IllegalStateException("unavailable");
+            });
+            fail("Expected the loader's exception");
+        } catch (IllegalStateException e) {
+            assertEquals("unavailable", e.getMessage());
+        }
+
+        assertEquals(Integer.valueOf(1), cache.get("a", key -> 1));
+        assertEquals(2, cache.getLoadCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaximum() {
+        new BoundedCache<String, String>(-1);
+    }
+}
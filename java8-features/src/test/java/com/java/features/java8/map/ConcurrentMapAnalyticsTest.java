@@ -0,0 +1,118 @@
+package com.java.features.java8.map;
+
+import com.java.features.java8.streams.AdaptiveExecution;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tests for the ConcurrentMapAnalytics class.
+ * Every aggregation is checked against a plain sequential computation,
+ * with the bulk operations forced both sequential and parallel.
+ */
+public class ConcurrentMapAnalyticsTest {
+
+    private final ConcurrentHashMap<Integer, Long> map = new ConcurrentHashMap<>();
+    private LongSummaryStatistics expected;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i, (long) random.nextInt(1_000_000) - 1_000);
+        }
+        expected = map.values().stream().mapToLong(Long::longValue).summaryStatistics();
+    }
+
+    @Test
+    public void testAggregationsMatchSequential() {
+        for (long threshold : new long[] {0, AdaptiveExecution.NEVER_PARALLEL}) {
+            ConcurrentMapAnalytics<Integer, Long> analytics = ConcurrentMapAnalytics.of(map)
+                    .withAdaptiveExecution(AdaptiveExecution.getDefault().withThreshold(threshold));
+
+            assertEquals(expected.getSum(), analytics.sum());
+            assertEquals(OptionalLong.of(expected.getMin()), analytics.min());
+            assertEquals(OptionalLong.of(expected.getMax()), analytics.max());
+            assertEquals(expected.getAverage(), analytics.average().getAsDouble(), 1e-6);
+        }
+    }
+
+    @Test
+    public void testHistogram() {
+        long[] bounds = {0, 1_000, 500_000};
+        long[] counts = new long[bounds.length + 1];
+        for (long value : map.values()) {
+            int bucket = 0;
+            while (bucket < bounds.length && value >= bounds[bucket]) {
+                bucket++;
+            }
+            counts[bucket]++;
+        }
+
+        ConcurrentMapAnalytics<Integer, Long> analytics = ConcurrentMapAnalytics.of(map)
+                .withAdaptiveExecution(AdaptiveExecution.getDefault().withThreshold(0));
+
+        assertArrayEquals(counts, analytics.histogram(bounds));
+        assertEquals(map.size(), Arrays.stream(analytics.histogram(bounds)).sum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHistogramRejectsUnsortedBounds() {
+        ConcurrentMapAnalytics.of(map).histogram(10, 5);
+    }
+
+    @Test
+    public void testTopN() {
+        List<Map.Entry<Integer, Long>> top = ConcurrentMapAnalytics.of(map)
+                .withAdaptiveExecution(AdaptiveExecution.getDefault().withThreshold(0))
+                .topN(3);
+
+        assertEquals(3, top.size());
+        assertEquals(Long.valueOf(expected.getMax()), top.get(0).getValue());
+        assertEquals(top.get(0).getValue(), map.get(top.get(0).getKey()));
+        assertTrue(top.get(0).getValue() >= top.get(1).getValue());
+        assertTrue(top.get(1).getValue() >= top.get(2).getValue());
+    }
+
+    @Test
+    public void testEmptyMap() {
+        ConcurrentMapAnalytics<String, Integer> analytics = ConcurrentMapAnalytics.of(new ConcurrentHashMap<>());
+
+        assertEquals(0, analytics.sum());
+        assertFalse(analytics.min().isPresent());
+        assertFalse(analytics.max().isPresent());
+        assertEquals(OptionalDouble.empty(), analytics.average());
+        assertTrue(analytics.topN(5).isEmpty());
+    }
+
+    @Test
+    public void testSmallMapsRunSequentially() {
+        ConcurrentHashMap<String, Integer> small = new ConcurrentHashMap<>();
+        small.put("a", 5);
+        small.put("b", 15);
+        small.put("c", 10);
+
+        assertEquals(AdaptiveExecution.NEVER_PARALLEL, ConcurrentMapAnalytics.parallelismThreshold(small));
+    }
+
+    @Test
+    public void testValueFunction() {
+        ConcurrentHashMap<String, String> names = new ConcurrentHashMap<>();
+        names.put("a", "Ann");
+        names.put("b", "Robert");
+
+        ConcurrentMapAnalytics<String, String> analytics = ConcurrentMapAnalytics.of(names, String::length);
+
+        assertEquals(9, analytics.sum());
+        assertEquals("b", analytics.topN(1).get(0).getKey());
+    }
+}
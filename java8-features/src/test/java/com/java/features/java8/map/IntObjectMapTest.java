@@ -0,0 +1,101 @@
+package com.java.features.java8.map;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests for the IntObjectMap class.
+ * Random operation sequences are replayed against a HashMap, so that
+ * resizing and backward-shift deletion are covered.
+ */
+public class IntObjectMapTest {
+
+    @Test
+    public void testComputeIfAbsentGroups() {
+        IntObjectMap<List<String>> byLength = new IntObjectMap<>();
+        for (String word : Arrays.asList("cat", "dog", "bird")) {
+            byLength.computeIfAbsent(word.length(), length -> new ArrayList<>()).add(word);
+        }
+
+        assertEquals(Arrays.asList("cat", "dog"), byLength.get(3));
+        assertEquals(Arrays.asList("bird"), byLength.get(4));
+        assertNull(byLength.get(5));
+        assertEquals(2, byLength.size());
+    }
+
+    @Test
+    public void testNullResultsRemoveEntries() {
+        IntObjectMap<String> names = new IntObjectMap<>();
+        names.put(0, "zero");
+        names.put(-7, "minus seven");
+
+        assertEquals("zero, nil", names.merge(0, "nil", (old, given) -> old + ", " + given));
+        assertNull(names.merge(0, "x", (old, given) -> null));
+        assertFalse(names.containsKey(0));
+
+        assertNull(names.compute(-7, (key, value) -> null));
+        assertNull(names.compute(5, (key, value) -> null));
+        assertNull(names.computeIfAbsent(6, key -> null));
+        assertTrue(names.isEmpty());
+    }
+
+    @Test
+    public void testForEachAndReplaceAll() {
+        IntObjectMap<String> names = new IntObjectMap<>();
+        names.put(1, "ann");
+        names.put(2, "bob");
+
+        names.replaceAll((key, value) -> value.toUpperCase() + key);
+
+        Map<Integer, String> seen = new HashMap<>();
+        names.forEach(seen::put);
+        Map<Integer, String> expected = new HashMap<>();
+        expected.put(1, "ANN1");
+        expected.put(2, "BOB2");
+        assertEquals(expected, seen);
+        assertEquals("unknown", names.getOrDefault(3, "unknown"));
+    }
+
+    @Test
+    public void testRandomOperationsMatchHashMap() {
+        Random random = new Random(42);
+        IntObjectMap<String> map = new IntObjectMap<>(0);
+        Map<Integer, String> expected = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            int key = (random.nextInt(5_000) - 2_500) << 8;
+            String value = Integer.toString(random.nextInt(100));
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.put(key, value), map.put(key, value));
+                    break;
+                case 1:
+                    assertEquals(expected.merge(key, value, String::concat),
+                            map.merge(key, value, String::concat));
+                    break;
+                case 2:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.get(key), map.get(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        Map<Integer, String> contents = new HashMap<>();
+        map.forEach(contents::put);
+        assertEquals(expected, contents);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValueRejected() {
+        new IntObjectMap<String>().put(1, null);
+    }
+}
@@ -0,0 +1,99 @@
+package com.java.features.java8.map;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests for the ObjectIntMap class.
+ * Random operation sequences are replayed against a HashMap, so that
+ * resizing and backward-shift deletion are covered.
+ */
+public class ObjectIntMapTest {
+
+    @Test
+    public void testMergeComputeAndGetOrDefault() {
+        ObjectIntMap<String> counts = new ObjectIntMap<>();
+
+        assertEquals(1, counts.merge("fox", 1, Integer::sum));
+        assertEquals(2, counts.merge("fox", 1, Integer::sum));
+        assertEquals(1, counts.compute("dog", (word, count) -> count + 1));
+        assertEquals(3, counts.compute("fox", (word, count) -> count + 1));
+        assertEquals(4, counts.computeIfAbsent("bird", String::length));
+        assertEquals(4, counts.computeIfAbsent("bird", word -> 99));
+
+        assertEquals(3, counts.getOrDefault("fox", 0));
+        assertEquals(-1, counts.getOrDefault("cat", -1));
+        assertEquals(3, counts.size());
+    }
+
+    @Test
+    public void testForEachAndReplaceAll() {
+        ObjectIntMap<String> scores = new ObjectIntMap<>();
+        scores.put("John", 100);
+        scores.put("Jane", 150);
+
+        scores.replaceAll((key, value) -> value + key.length());
+
+        Map<String, Integer> seen = new HashMap<>();
+        scores.forEach(seen::put);
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("John", 104);
+        expected.put("Jane", 154);
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    public void testRandomOperationsMatchHashMap() {
+        Random random = new Random(42);
+        ObjectIntMap<Integer> map = new ObjectIntMap<>(0);
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            Integer key = random.nextInt(5_000) * 64;
+            int value = random.nextInt(100);
+            switch (random.nextInt(4)) {
+                case 0:
+                    map.put(key, value);
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    assertEquals(expected.merge(key, value, Integer::sum).intValue(),
+                            map.merge(key, value, Integer::sum));
+                    break;
+                case 2:
+                    assertEquals(expected.remove(key) != null, map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.getOrDefault(key, -1).intValue(), map.getOrDefault(key, -1));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        Map<Integer, Integer> contents = new HashMap<>();
+        map.forEach(contents::put);
+        assertEquals(expected, contents);
+    }
+
+    @Test
+    public void testPresizedMapAndClear() {
+        ObjectIntMap<String> map = new ObjectIntMap<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            map.put("k" + i, i);
+        }
+        assertEquals(999, map.getOrDefault("k999", -1));
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey("k1"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullKeyRejected() {
+        new ObjectIntMap<String>().put(null, 1);
+    }
+}
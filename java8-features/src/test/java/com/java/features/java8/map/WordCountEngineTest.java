@@ -0,0 +1,121 @@
+package com.java.features.java8.map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for the WordCountEngine class.
+ * Counts are compared with a plain HashMap count of the same text, using
+ * small chunks so that files span many chunks and workers.
+ */
+public class WordCountEngineTest {
+
+    private Path file;
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("word-count", ".txt");
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testCountsMatchHashMap() throws IOException {
+        Random random = new Random(42);
+        Map<String, Long> expected = new HashMap<>();
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int line = 0; line < 20_000; line++) {
+                int words = random.nextInt(12);
+                for (int i = 0; i < words; i++) {
+                    String word = "w" + (int) Math.abs(random.nextGaussian() * 500);
+                    expected.merge(word, 1L, Long::sum);
+                    writer.write(i == 0 ? "" : random.nextBoolean() ? " " : ", ");
+                    writer.write(word);
+                }
+                writer.write('\n');
+            }
+        }
+
+        WordCountEngine.Result result = new WordCountEngine(pool, 4096).count(file);
+
+        assertEquals(expected, result.getCounts());
+        assertEquals(expected.values().stream().mapToLong(Long::longValue).sum(), result.getTotalWords());
+        assertEquals(Files.size(file), result.getBytes());
+    }
+
+    @Test
+    public void testTokenizesCaseAndUnicode() throws IOException {
+        Files.write(file, "The quick fox\nthe QUICK caf\u00e9\r\nCaf\u00e9-THE\n2024 the".getBytes(StandardCharsets.UTF_8));
+
+        WordCountEngine.Result result = new WordCountEngine(pool, 8).count(file);
+
+        assertEquals(4, result.getCount("the"));
+        assertEquals(2, result.getCount("quick"));
+        assertEquals(2, result.getCount("caf\u00e9"));
+        assertEquals(1, result.getCount("2024"));
+        assertEquals(0, result.getCount("missing"));
+        assertEquals(5, result.getDistinctWords());
+    }
+
+    @Test
+    public void testTopWordsOrderedByCountThenWord() throws IOException {
+        Files.write(file, "b a c b a d b\nc".getBytes(StandardCharsets.UTF_8));
+
+        List<Map.Entry<String, Long>> top = new WordCountEngine(pool).count(file).getTopWords(3);
+
+        assertEquals(Arrays.asList("b", "a", "c"), Arrays.asList(
+                top.get(0).getKey(), top.get(1).getKey(), top.get(2).getKey()));
+        assertEquals(Long.valueOf(3), top.get(0).getValue());
+    }
+
+    @Test
+    public void testLinesLongerThanChunk() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            text.append("word").append(i % 7).append(' ');
+        }
+        Files.write(file, text.toString().getBytes(StandardCharsets.US_ASCII));
+
+        WordCountEngine.Result result = new WordCountEngine(pool, 100).count(file);
+
+        assertEquals(10_000, result.getTotalWords());
+        assertEquals(7, result.getDistinctWords());
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        WordCountEngine.Result result = new WordCountEngine(pool).count(file);
+
+        assertEquals(0, result.getTotalWords());
+        assertTrue(result.getTopWords(10).isEmpty());
+    }
+
+    @Test
+    public void testDemonstrateWordCount() throws IOException {
+        Files.write(file, "to be or not to be".getBytes(StandardCharsets.US_ASCII));
+
+        String report = MapExamples.demonstrateWordCount(file, 2);
+
+        assertTrue(report, report.startsWith("be=2, to=2, 6 words (4 distinct)"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.java.features.java8.nashorn;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the CompiledScriptCache class.
+ * Verifies that scripts compile once, that pooled evaluations are isolated
+ * from each other and that timings are recorded.
+ */
+public class CompiledScriptCacheTest {
+    private ScriptEngine engine;
+    private CompiledScriptCache cache;
+
+    @Before
+    public void setUp() {
+        engine = new ScriptEngineManager().getEngineByName("nashorn");
+        cache = new CompiledScriptCache(engine);
+    }
+
+    @Test
+    public void testCompilesOnce() throws ScriptException {
+        assertSame(cache.compile("1 + 1"), cache.compile("1 + 1"));
+        assertNotSame(cache.compile("1 + 1"), cache.compile("1 + 2"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEvalInDefaultContextSharesGlobals() throws ScriptException {
+        cache.eval("var counter = 41;");
+        assertEquals(42, ((Number) cache.eval("++counter")).intValue());
+        assertEquals(42, ((Number) engine.get("counter")).intValue());
+    }
+
+    @Test
+    public void testEvalWithVariables() throws ScriptException {
+        Map<String, Object> order = new HashMap<>();
+        order.put("price", 9.5);
+        order.put("quantity", 4);
+
+        assertEquals(38.0, ((Number) cache.eval("price * quantity", order)).doubleValue(), 0.0);
+        // Variables do not outlive the evaluation
+        assertEquals("undefined", cache.eval("typeof price", Collections.<String, Object>emptyMap()));
+        assertNull(engine.get("price"));
+    }
+
+    @Test
+    public void testConcurrentEvaluations() throws Exception {
+        String script = "var total = 0; for (var i = 1; i <= n; i++) { total += i; } total";
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int n = 0; n < 200; n++) {
+                Map<String, Object> variables = Collections.singletonMap("n", n);
+                results.add(executor.submit(() -> cache.eval(script, variables)));
+            }
+            for (int n = 0; n < results.size(); n++) {
+                assertEquals(n * (n + 1) / 2, ((Number) results.get(n).get(10, TimeUnit.SECONDS)).intValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testStats() throws ScriptException {
+        cache.eval("1 + 1");
+        cache.eval("1 + 1");
+
+        CompiledScriptCache.ScriptStats stats = cache.getStats("1 + 1").get();
+        assertEquals(2, stats.getEvalCount());
+        assertTrue(stats.getCompileTime(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(stats.getAverageEvalTime(TimeUnit.NANOSECONDS) > 0);
+        assertFalse(cache.getStats("2 + 2").isPresent());
+    }
+
+    @Test
+    public void testSyntaxErrorIsNotCached() {
+        try {
+            cache.compile("function (");
+            fail("Expected a ScriptException");
+        } catch (ScriptException e) {
+            assertEquals(0, cache.size());
+        }
+    }
+}
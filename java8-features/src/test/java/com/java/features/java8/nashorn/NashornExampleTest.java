@@ -1,10 +1,16 @@
 package com.java.features.java8.nashorn;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import static org.junit.Assert.*;
 
 import javax.script.ScriptException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 /**
  * Tests for the NashornExample class.
@@ -13,6 +19,9 @@ import javax.script.ScriptException;
 public class NashornExampleTest {
     private NashornExample nashornExample;
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setUp() {
         nashornExample = new NashornExample();
@@ -96,4 +105,25 @@ public class NashornExampleTest {
         Object result = nashornExample.evaluateExpression("jsonStr");
         assertEquals("{\"name\":\"Test\",\"value\":42}", result);
     }
+
+    @Test
+    public void testRepeatedExpressionIsCompiledOnce() throws ScriptException {
+        nashornExample.evaluateExpression("40 + 2");
+        nashornExample.evaluateExpression("40 + 2");
+
+        assertEquals(1, nashornExample.getScriptCache().size());
+        assertEquals(2, nashornExample.getScriptCache().getStats("40 + 2").get().getEvalCount());
+    }
+
+    @Test
+    public void testLoadJavaScriptFileReloadsChanges() throws ScriptException, IOException {
+        File script = folder.newFile("script.js");
+        Files.write(script.toPath(), "var loaded = 1;".getBytes(StandardCharsets.UTF_8));
+        nashornExample.loadJavaScriptFile(script.getPath());
+        assertEquals(1.0, nashornExample.evaluateExpression("loaded"));
+
+        Files.write(script.toPath(), "var loaded = 22;".getBytes(StandardCharsets.UTF_8));
+        nashornExample.loadJavaScriptFile(script.getPath());
+        assertEquals(22.0, nashornExample.evaluateExpression("loaded"));
+    }
 }
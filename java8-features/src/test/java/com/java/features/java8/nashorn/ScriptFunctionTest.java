@@ -0,0 +1,89 @@
+package com.java.features.java8.nashorn;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import javax.script.ScriptException;
+
+/**
+ * Tests for the ScriptFunction class.
+ * Verifies resolution, calls of different arities and batch application.
+ */
+public class ScriptFunctionTest {
+    private NashornExample nashornExample;
+
+    @Before
+    public void setUp() throws ScriptException {
+        nashornExample = new NashornExample();
+        nashornExample.executeJavaScript(
+            "function square(x) { return x * x; }" +
+            "function discount(total, quantity) { return quantity >= 10 ? total * 0.9 : total; }" +
+            "function sum3(a, b, c) { return a + b + c; }"
+        );
+    }
+
+    @Test
+    public void testUnaryFunction() throws Exception {
+        ScriptFunction square = nashornExample.resolveFunction("square");
+
+        assertEquals(1, square.getArity());
+        assertEquals(49.0, ((Number) square.call(7)).doubleValue(), 0.0);
+    }
+
+    @Test
+    public void testBinaryFunction() throws Exception {
+        ScriptFunction discount = nashornExample.resolveFunction("discount");
+
+        assertEquals(90.0, ((Number) discount.call(100.0, 12)).doubleValue(), 1e-9);
+        assertEquals(50.0, ((Number) discount.call(new Object[] {50.0, 1})).doubleValue(), 0.0);
+    }
+
+    @Test
+    public void testOtherArity() throws Exception {
+        ScriptFunction sum3 = nashornExample.resolveFunction("sum3");
+
+        assertEquals(3, sum3.getArity());
+        assertEquals(6.0, ((Number) sum3.call(new Object[] {1, 2, 3})).doubleValue(), 0.0);
+    }
+
+    @Test
+    public void testApplyBatchMatchesCallJavaScriptFunction() throws Exception {
+        ScriptFunction discount = nashornExample.resolveFunction("discount");
+        Object[][] orders = new Object[1_000][];
+        for (int i = 0; i < orders.length; i++) {
+            orders[i] = new Object[] {(double) i, i % 20};
+        }
+        Object[] results = new Object[orders.length];
+
+        ScriptFunction.BatchResult batch = discount.applyBatch(orders, results);
+
+        assertEquals(orders.length, batch.getCalls());
+        for (int i = 0; i < orders.length; i++) {
+            Object expected = nashornExample.callJavaScriptFunction("discount", orders[i]);
+            assertEquals(((Number) expected).doubleValue(), ((Number) results[i]).doubleValue(), 1e-9);
+        }
+    }
+
+    @Test
+    public void testApplyBatchOfSingleArguments() throws Exception {
+        ScriptFunction square = nashornExample.resolveFunction("square");
+        Object[] inputs = {1, 2, 3};
+        Object[] results = new Object[4];
+
+        square.applyBatch(inputs, results);
+
+        assertEquals(9.0, ((Number) results[2]).doubleValue(), 0.0);
+        assertNull(results[3]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testResultArrayTooShort() throws Exception {
+        nashornExample.resolveFunction("square").applyBatch(new Object[] {1, 2}, new Object[1]);
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void testUnknownFunction() throws Exception {
+        nashornExample.resolveFunction("missing");
+    }
+}
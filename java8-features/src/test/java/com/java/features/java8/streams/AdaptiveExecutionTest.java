@@ -0,0 +1,111 @@
+package com.java.features.java8.streams;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the AdaptiveExecution class and the adaptive stream methods.
+ * Which path runs above the threshold depends on the machine and the
+ * common pool's load, so those cases only check that exactly one counter moved.
+ */
+public class AdaptiveExecutionTest {
+
+    @Test
+    public void testBelowThresholdRunsSequentially() {
+        AdaptiveExecution execution = AdaptiveExecution.getDefault().withThreshold(1_000);
+        long sequentialBefore = execution.getSequentialRuns();
+
+        Stream<Integer> stream = execution.configure(Arrays.asList(1, 2, 3).parallelStream(), 3, 1.0);
+
+        assertFalse(stream.isParallel());
+        assertEquals(sequentialBefore + 1, execution.getSequentialRuns());
+    }
+
+    @Test
+    public void testCostPerElementWeighsSize() {
+        AdaptiveExecution execution = AdaptiveExecution.getDefault().withThreshold(1_000);
+        long sequentialBefore = execution.getSequentialRuns();
+
+        assertFalse(execution.shouldRunInParallel(100, 5.0));
+        assertEquals(sequentialBefore + 1, execution.getSequentialRuns());
+
+        long otherBefore = execution.getParallelRuns() + execution.getPoolBusyRuns();
+        execution.shouldRunInParallel(100, 20.0);
+        assertEquals(otherBefore + 1, execution.getParallelRuns() + execution.getPoolBusyRuns());
+    }
+
+    @Test
+    public void testAboveThresholdRecordsParallelOrPoolBusy() {
+        AdaptiveExecution execution = AdaptiveExecution.getDefault().withThreshold(0);
+        long parallelBefore = execution.getParallelRuns();
+        long busyBefore = execution.getPoolBusyRuns();
+
+        IntStream stream = execution.configure(IntStream.range(0, 10), 10, 1.0);
+
+        long parallelRuns = execution.getParallelRuns() - parallelBefore;
+        long busyRuns = execution.getPoolBusyRuns() - busyBefore;
+        assertEquals(1, parallelRuns + busyRuns);
+        assertEquals(parallelRuns == 1, stream.isParallel());
+    }
+
+    @Test
+    public void testViewsShareCounters() {
+        AdaptiveExecution defaults = AdaptiveExecution.getDefault();
+        long before = defaults.getSequentialRuns();
+
+        defaults.withThreshold(AdaptiveExecution.NEVER_PARALLEL).shouldRunInParallel(1_000_000, 1.0);
+
+        assertEquals(before + 1, defaults.getSequentialRuns());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeThresholdRejected() {
+        AdaptiveExecution.getDefault().withThreshold(-1);
+    }
+
+    @Test
+    public void testThresholdPropertyIsValidated() {
+        assertEquals(4096, AdaptiveExecution.parseThreshold(" 4096 "));
+        assertEquals(0, AdaptiveExecution.parseThreshold("0"));
+        for (String invalid : new String[] {"", "64k", "-1", "99999999999999999999"}) {
+            try {
+                AdaptiveExecution.parseThreshold(invalid);
+                fail("Expected IllegalArgumentException for \"" + invalid + "\"");
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith(AdaptiveExecution.THRESHOLD_PROPERTY));
+            }
+        }
+    }
+
+    @Test
+    public void testIntStreamOverloadIsAdaptive() {
+        AdaptiveExecution defaults = AdaptiveExecution.getDefault();
+        long before = defaults.getParallelRuns() + defaults.getSequentialRuns() + defaults.getPoolBusyRuns();
+
+        IntList result = StreamOperations.processInParallel(IntStream.of(5, 15, 25, 35, 45));
+
+        assertEquals(IntList.of(30, 50, 70, 90), result);
+        assertEquals(before + 1, defaults.getParallelRuns() + defaults.getSequentialRuns() + defaults.getPoolBusyRuns());
+    }
+
+    @Test
+    public void testThresholdOverridesGiveSameResults() {
+        List<Integer> numbers = IntStream.range(0, 50_000).map(i -> (i * 31) % 1000).boxed()
+                .collect(Collectors.toList());
+        StreamsExample example = new StreamsExample();
+
+        List<Integer> sequential = StreamOperations.processInParallel(numbers, AdaptiveExecution.NEVER_PARALLEL);
+        assertEquals(sequential, StreamOperations.processInParallel(numbers, 0));
+        assertEquals(sequential, StreamOperations.processInParallel(numbers));
+
+        int sum = example.calculateSumOfSquaresParallel(numbers, AdaptiveExecution.NEVER_PARALLEL);
+        assertEquals(sum, example.calculateSumOfSquaresParallel(numbers, 0));
+        assertEquals(sum, example.calculateSumOfSquaresParallel(numbers));
+    }
+}
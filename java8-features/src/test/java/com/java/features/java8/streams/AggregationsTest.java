@@ -0,0 +1,107 @@
+package com.java.features.java8.streams;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Tests for the Aggregations class.
+ * Verifies that every aggregation matches the equivalent separate stream,
+ * sequentially and in parallel.
+ */
+public class AggregationsTest {
+
+    private static final List<String> WORDS = IntStream.range(0, 100_000)
+            .mapToObj(i -> Integer.toString(i * 7919, 36))
+            .collect(Collectors.toList());
+
+    @Test
+    public void testMatchesSeparateStreams() {
+        checkAgainstSeparateStreams(false);
+    }
+
+    @Test
+    public void testMatchesSeparateStreamsInParallel() {
+        checkAgainstSeparateStreams(true);
+    }
+
+    private void checkAgainstSeparateStreams(boolean parallel) {
+        Aggregations<String> report = Aggregations.create();
+        Aggregations.Aggregate<Long> startsWithA = report.count(s -> s.startsWith("a"));
+        Aggregations.Aggregate<Long> totalLength = report.sum(s -> true, String::length);
+        Aggregations.Aggregate<Optional<String>> longest = report.reduce(s -> s.contains("z"),
+                BinaryOperator.maxBy((a, b) -> Integer.compare(a.length(), b.length())));
+        Aggregations.Aggregate<List<Integer>> shortLengths = report.mapIf(s -> s.length() < 3, String::length);
+        Aggregations.Aggregate<Map<Integer, List<String>>> byLength = report.groupBy(String::length, String::toUpperCase);
+        Aggregations.Aggregate<Map<Boolean, List<String>>> partitioned = report.partition(s -> s.length() > 3, s -> s);
+
+        Aggregations.Results results = (parallel ? WORDS.parallelStream() : WORDS.stream())
+                .collect(report.toCollector());
+
+        assertEquals(WORDS.stream().filter(s -> s.startsWith("a")).count(), (long) results.get(startsWithA));
+        assertEquals(WORDS.stream().mapToLong(String::length).sum(), (long) results.get(totalLength));
+        assertEquals(WORDS.stream().filter(s -> s.contains("z"))
+                        .reduce(BinaryOperator.maxBy((a, b) -> Integer.compare(a.length(), b.length()))),
+                results.get(longest));
+        assertEquals(WORDS.stream().filter(s -> s.length() < 3).map(String::length).collect(Collectors.toList()),
+                results.get(shortLengths));
+        assertEquals(WORDS.stream().map(String::toUpperCase).collect(Collectors.groupingBy(String::length)),
+                results.get(byLength));
+        assertEquals(WORDS.stream().collect(Collectors.partitioningBy(s -> s.length() > 3)),
+                results.get(partitioned));
+    }
+
+    @Test
+    public void testEmptyInput() {
+        Aggregations<Integer> report = Aggregations.create();
+        Aggregations.Aggregate<Long> count = report.count(x -> true);
+        Aggregations.Aggregate<Optional<Integer>> max = report.reduce(x -> true, Integer::max);
+        Aggregations.Aggregate<Map<Boolean, List<Integer>>> partitioned = report.partition(x -> x > 0, x -> x);
+
+        Aggregations.Results results = Collections.<Integer>emptyList().stream().collect(report.toCollector());
+
+        assertEquals(0L, (long) results.get(count));
+        assertFalse(results.get(max).isPresent());
+        assertEquals(Collections.emptyList(), results.get(partitioned).get(true));
+        assertEquals(Collections.emptyList(), results.get(partitioned).get(false));
+    }
+
+    @Test
+    public void testAddExistingCollector() {
+        Aggregations<String> report = Aggregations.create();
+        Aggregations.Aggregate<String> joined = report.add(Collectors.joining(","));
+
+        Aggregations.Results results = Arrays.asList("a", "b", "c").stream().collect(report.toCollector());
+
+        assertEquals("a,b,c", results.get(joined));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHandleFromOtherAggregations() {
+        Aggregations<String> report = Aggregations.create();
+        report.count(s -> true);
+        Aggregations<String> other = Aggregations.create();
+        Aggregations.Aggregate<Long> foreign = other.count(s -> true);
+
+        Aggregations.Results results = WORDS.stream().collect(report.toCollector());
+        results.get(foreign);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHandleAddedAfterCollector() {
+        Aggregations<String> report = Aggregations.create();
+        report.count(s -> true);
+        java.util.stream.Collector<String, ?, Aggregations.Results> collector = report.toCollector();
+        Aggregations.Aggregate<Long> late = report.count(s -> false);
+
+        WORDS.stream().collect(collector).get(late);
+    }
+}
@@ -0,0 +1,85 @@
+package com.java.features.java8.streams;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+
+/**
+ * Tests for the FibonacciSequence class.
+ * Results are compared with the plain iterative recurrence.
+ */
+public class FibonacciSequenceTest {
+
+    @Test
+    public void testFirstValues() {
+        assertArrayEquals(new long[] {0, 1, 1, 2, 3, 5, 8, 13, 21, 34},
+                FibonacciSequence.stream(10).toArray());
+        assertEquals(0, FibonacciSequence.stream(0).count());
+    }
+
+    @Test
+    public void testJumpAheadMatchesRecurrence() {
+        long[] expected = iterative(10_000);
+        for (int n = 0; n < expected.length; n += 37) {
+            assertEquals("F(" + n + ")", expected[n], FibonacciSequence.fibonacci(n));
+        }
+        assertEquals(7540113804746346429L, FibonacciSequence.fibonacci(92));
+    }
+
+    @Test
+    public void testRangeStartsAtOffset() {
+        long[] expected = iterative(5_000);
+        long[] range = FibonacciSequence.stream(1_234, 4_321).toArray();
+
+        assertEquals(4_321 - 1_234, range.length);
+        for (int i = 0; i < range.length; i++) {
+            assertEquals(expected[1_234 + i], range[i]);
+        }
+    }
+
+    @Test
+    public void testParallelStreamMatchesSequential() {
+        long[] sequential = FibonacciSequence.stream(100_000).toArray();
+        long[] parallel = FibonacciSequence.stream(100_000).parallel().toArray();
+
+        assertArrayEquals(sequential, parallel);
+        assertEquals(LongStream.of(iterative(100_000)).sum(), FibonacciSequence.stream(100_000).parallel().sum());
+    }
+
+    @Test
+    public void testSplitCoversRangeExactly() {
+        Spliterator.OfLong whole = new FibonacciSequence.FibonacciSpliterator(10, 10_000);
+        Spliterator.OfLong prefix = whole.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(9_990, prefix.estimateSize() + whole.estimateSize());
+        assertTrue(whole.hasCharacteristics(Spliterator.SUBSIZED));
+
+        long[] first = new long[1];
+        whole.tryAdvance((long value) -> first[0] = value);
+        assertEquals(FibonacciSequence.fibonacci(10 + prefix.estimateSize()), first[0]);
+
+        Spliterator.OfLong small = new FibonacciSequence.FibonacciSpliterator(0, FibonacciSequence.MIN_SPLIT_SIZE);
+        assertNull(small.trySplit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRangeRejected() {
+        FibonacciSequence.stream(10, 5);
+    }
+
+    private static long[] iterative(int count) {
+        long[] values = new long[count];
+        long a = 0;
+        long b = 1;
+        for (int i = 0; i < count; i++) {
+            values[i] = a;
+            long sum = a + b;
+            a = b;
+            b = sum;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,147 @@
+package com.java.features.java8.streams;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the GroupingCollectors class.
+ * Verifies that both collectors produce the same groups as
+ * Collectors.groupingBy, sequentially and in parallel.
+ */
+public class GroupingCollectorsTest {
+
+    private static final List<String> WORDS = IntStream.range(0, 100_000)
+            .mapToObj(i -> Integer.toString(i * 7919, 36))
+            .collect(Collectors.toList());
+
+    @Test
+    public void testGroupingByIntMatchesGroupingBy() {
+        Map<Integer, List<String>> expected = WORDS.stream()
+                .collect(Collectors.groupingBy(String::length));
+
+        assertEquals(expected, WORDS.stream()
+                .collect(GroupingCollectors.groupingByInt(String::length, 64)));
+    }
+
+    @Test
+    public void testGroupingByIntKeepsOrderInParallel() {
+        Map<Integer, List<String>> expected = WORDS.stream()
+                .collect(Collectors.groupingBy(String::length));
+
+        assertEquals(expected, WORDS.parallelStream()
+                .collect(GroupingCollectors.groupingByInt(String::length, 64)));
+    }
+
+    @Test
+    public void testGroupingByIntOverflowKeys() {
+        Map<Integer, List<String>> groups = Stream.of("a", "bb", "ccc", "dddd", "ee")
+                .collect(GroupingCollectors.groupingByInt(s -> s.length() - 2, 1));
+
+        assertEquals(Arrays.asList("a"), groups.get(-1));
+        assertEquals(Arrays.asList("bb", "ee"), groups.get(0));
+        assertEquals(Arrays.asList("ccc"), groups.get(1));
+        assertEquals(Arrays.asList("dddd"), groups.get(2));
+        assertEquals(4, groups.size());
+    }
+
+    @Test
+    public void testGroupingByIntEmptyStream() {
+        Map<Integer, List<String>> groups = Stream.<String>empty()
+                .collect(GroupingCollectors.groupingByInt(String::length, 8));
+
+        assertTrue(groups.isEmpty());
+    }
+
+    @Test
+    public void testGroupingByConcurrentSequentialKeepsOrder() {
+        Map<Character, List<String>> expected = WORDS.stream()
+                .collect(Collectors.groupingBy(w -> w.charAt(0)));
+
+        ConcurrentMap<Character, List<String>> groups = WORDS.stream()
+                .collect(GroupingCollectors.groupingByConcurrent(w -> w.charAt(0), 36));
+
+        assertEquals(expected, groups);
+    }
+
+    @Test
+    public void testGroupingByConcurrentParallelHasSameGroups() {
+        Map<Character, List<String>> expected = WORDS.stream()
+                .collect(Collectors.groupingBy(w -> w.charAt(0)));
+
+        ConcurrentMap<Character, List<String>> groups = WORDS.parallelStream()
+                .collect(GroupingCollectors.groupingByConcurrent(w -> w.charAt(0)));
+
+        assertEquals(expected.keySet(), groups.keySet());
+        expected.forEach((key, group) -> assertEquals(sorted(group), sorted(groups.get(key))));
+    }
+
+    @Test
+    public void testGroupingByConcurrentFromSeveralThreads() throws InterruptedException {
+        Map<Character, List<String>> expected = WORDS.stream()
+                .collect(Collectors.groupingBy(w -> w.charAt(0)));
+
+        Map<Character, List<String>> groups =
+                collectFromThreads(GroupingCollectors.groupingByConcurrent(w -> w.charAt(0)), 4);
+
+        assertEquals(expected.keySet(), groups.keySet());
+        expected.forEach((key, group) -> assertEquals(sorted(group), sorted(groups.get(key))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaxKeyRejected() {
+        GroupingCollectors.groupingByInt(String::length, -1);
+    }
+
+    @Test
+    public void testGroupByLengthUsesDenseGroups() {
+        List<String> words = Arrays.asList("cat", "dog", "bird", "elephant");
+        Map<Integer, List<String>> groups = StreamOperations.groupByLength(words);
+
+        assertEquals(Arrays.asList("cat", "dog"), groups.get(3));
+        assertEquals(Arrays.asList("bird"), groups.get(4));
+        assertEquals(Arrays.asList("elephant"), groups.get(8));
+    }
+
+    /**
+     * Accumulates WORDS from several threads into two containers, half
+     * into each, then combines them, so that groups get several stripes.
+     */
+    private static <A, R> R collectFromThreads(Collector<String, A, R> collector, int threads)
+            throws InterruptedException {
+        A first = collector.supplier().get();
+        A second = collector.supplier().get();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers.add(new Thread(() -> {
+                for (int i = offset; i < WORDS.size(); i += threads) {
+                    collector.accumulator().accept(i % 2 == 0 ? first : second, WORDS.get(i));
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return collector.finisher().apply(collector.combiner().apply(first, second));
+    }
+
+    private static List<String> sorted(List<String> list) {
+        List<String> copy = new ArrayList<>(list);
+        Collections.sort(copy);
+        return copy;
+    }
+}
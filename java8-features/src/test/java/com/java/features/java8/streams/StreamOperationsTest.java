@@ -138,6 +138,30 @@ public class StreamOperationsTest {
                 StreamOperations.flattenAndSort(emptyInner).isEmpty());
     }
 
+    /**
+     * Tests the bounded flattenAndSort overloads.
+     * Verifies they return the prefix of the unbounded result.
+     */
+    @Test
+    public void testFlattenAndSortWithLimit() {
+        List<List<Integer>> nested = Arrays.asList(
+            Arrays.asList(9, 2),
+            Arrays.asList(7, 4),
+            Arrays.asList(2, 4)
+        );
+
+        assertEquals(Arrays.asList(2, 4), StreamOperations.flattenAndSort(nested, 2));
+        assertEquals(StreamOperations.flattenAndSort(nested), StreamOperations.flattenAndSort(nested, 10));
+        assertTrue(StreamOperations.flattenAndSort(nested, 0).isEmpty());
+        assertEquals(StreamOperations.flattenAndSort(nested),
+                StreamOperations.flattenAndSort(nested, Integer.MAX_VALUE));
+
+        assertEquals(IntList.of(2, 4, 7),
+                StreamOperations.flattenAndSort(new int[][] {{9, 2}, {7, 4}, {2, 4}}, 3));
+        assertEquals(IntList.of(2, 4, 7, 9),
+                StreamOperations.flattenAndSort(new int[][] {{9, 2}, {7, 4}, {2, 4}}, Integer.MAX_VALUE));
+    }
+
     /**
      * Tests parallel stream processing.
      * Verifies:
@@ -215,4 +239,75 @@ public class StreamOperationsTest {
         assertEquals("One element should produce [0]",
                 Collections.singletonList(0L), StreamOperations.generateFibonacci(1));
     }
+
+    /**
+     * Tests the primitive int[]/IntStream overloads.
+     * Verifies that they produce the same values as the boxed versions.
+     */
+    @Test
+    public void testPrimitiveOverloadsMatchBoxedVersions() {
+        Random random = new Random(42);
+        int[] numbers = random.ints(10_000, -1000, 1000).toArray();
+        List<Integer> boxed = Arrays.stream(numbers).boxed().collect(Collectors.toList());
+
+        assertArrayEquals("squareEvenNumbers should match boxed version",
+                toIntArray(StreamOperations.squareEvenNumbers(boxed)),
+                StreamOperations.squareEvenNumbers(numbers).toArray());
+        assertEquals("sumNumbers should match boxed version",
+                StreamOperations.sumNumbers(boxed), StreamOperations.sumNumbers(numbers));
+        assertArrayEquals("processInParallel should match boxed version",
+                toIntArray(StreamOperations.processInParallel(boxed)),
+                StreamOperations.processInParallel(numbers).toArray());
+
+        StreamsExample example = new StreamsExample();
+        assertArrayEquals("doubleEvenNumbers should match boxed version",
+                toIntArray(example.doubleEvenNumbers(boxed)), example.doubleEvenNumbers(numbers).toArray());
+        assertEquals("calculateSum should match boxed version",
+                example.calculateSum(boxed), example.calculateSum(numbers));
+    }
+
+    /**
+     * Tests the primitive overloads on small and empty inputs.
+     */
+    @Test
+    public void testPrimitiveOverloadsEdgeCases() {
+        assertEquals(IntList.of(4, 16, 36), StreamOperations.squareEvenNumbers(new int[] {1, 2, 3, 4, 5, 6}));
+        assertEquals(15, StreamOperations.sumNumbers(new int[] {1, 2, 3, 4, 5}));
+        assertEquals(IntList.of(30, 50, 70, 90), StreamOperations.processInParallel(new int[] {5, 15, 25, 35, 45}));
+
+        assertTrue(StreamOperations.squareEvenNumbers(new int[0]).isEmpty());
+        assertEquals(0, StreamOperations.sumNumbers(new int[0]));
+        assertTrue(StreamOperations.processInParallel(new int[0]).isEmpty());
+    }
+
+    /**
+     * Tests the IntList result type.
+     */
+    @Test
+    public void testIntList() {
+        IntList list = new IntList(1);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertEquals(100, list.size());
+        assertEquals(42, list.get(42));
+        assertEquals(4950, list.stream().sum());
+
+        list.addAll(IntList.of(-1, -2));
+        list.sort();
+        assertEquals(-2, list.get(0));
+        assertEquals("[1, 2, 3]", IntList.of(1, 2, 3).toString());
+        assertEquals(IntList.of(1, 2, 3).hashCode(), Arrays.hashCode(new int[] {1, 2, 3}));
+
+        try {
+            list.get(102);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+            // Index past the end
+        }
+    }
+
+    private static int[] toIntArray(List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
 }
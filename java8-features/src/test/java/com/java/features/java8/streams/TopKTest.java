@@ -0,0 +1,92 @@
+package com.java.features.java8.streams;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Tests for the TopK class.
+ * Results are compared with distinct().sorted().limit(k) on random input,
+ * sequentially and in parallel.
+ */
+public class TopKTest {
+
+    private static final int[] VALUES = new Random(42).ints(200_000, -5_000, 5_000).toArray();
+
+    @Test
+    public void testDistinctSmallestMatchesDistinctSortedLimit() {
+        for (int k : new int[] {0, 1, 7, 100, 10_000, 20_000}) {
+            List<Integer> expected = IntStream.of(VALUES).boxed()
+                    .distinct().sorted().limit(k).collect(Collectors.toList());
+
+            assertEquals("k=" + k, expected, IntStream.of(VALUES).boxed()
+                    .collect(TopK.distinctSmallest(k)));
+            assertEquals("parallel k=" + k, expected, IntStream.of(VALUES).parallel().boxed()
+                    .collect(TopK.distinctSmallest(k)));
+        }
+    }
+
+    @Test
+    public void testSmallestKeepsDuplicates() {
+        List<Integer> expected = IntStream.of(VALUES).boxed()
+                .sorted().limit(500).collect(Collectors.toList());
+
+        assertEquals(expected, IntStream.of(VALUES).parallel().boxed().collect(TopK.smallest(500)));
+    }
+
+    @Test
+    public void testComparatorSelectsLargest() {
+        List<Integer> expected = IntStream.of(VALUES).boxed()
+                .distinct().sorted(Comparator.reverseOrder()).limit(10).collect(Collectors.toList());
+
+        assertEquals(expected, IntStream.of(VALUES).boxed()
+                .collect(TopK.distinctSmallest(10, Comparator.reverseOrder())));
+    }
+
+    @Test
+    public void testIntVariantsMatchBoxed() {
+        for (int k : new int[] {0, 1, 7, 100, 10_000, 20_000}) {
+            IntList expectedDistinct = IntList.from(IntStream.of(VALUES).distinct().sorted().limit(k));
+            IntList expectedAll = IntList.from(IntStream.of(VALUES).sorted().limit(k));
+
+            assertEquals("k=" + k, expectedDistinct, TopK.distinctSmallest(IntStream.of(VALUES), k));
+            assertEquals("parallel k=" + k, expectedDistinct,
+                    TopK.distinctSmallest(IntStream.of(VALUES).parallel(), k));
+            assertEquals("k=" + k, expectedAll, TopK.smallest(IntStream.of(VALUES).parallel(), k));
+        }
+    }
+
+    @Test
+    public void testIntExtremesAndZero() {
+        IntList result = TopK.distinctSmallest(
+                IntStream.of(0, Integer.MAX_VALUE, Integer.MIN_VALUE, 0, Integer.MIN_VALUE, -1), 3);
+
+        assertEquals(IntList.of(Integer.MIN_VALUE, -1, 0), result);
+    }
+
+    @Test
+    public void testLimitLargerThanInput() {
+        List<Integer> expectedDistinct = IntStream.of(VALUES).boxed()
+                .distinct().sorted().collect(Collectors.toList());
+        List<Integer> expectedAll = IntStream.of(VALUES).boxed().sorted().collect(Collectors.toList());
+
+        assertEquals(expectedDistinct, IntStream.of(VALUES).parallel().boxed()
+                .collect(TopK.distinctSmallest(Integer.MAX_VALUE)));
+        assertEquals(expectedAll, IntStream.of(VALUES).parallel().boxed()
+                .collect(TopK.smallest(Integer.MAX_VALUE)));
+        assertEquals(IntList.from(expectedDistinct.stream().mapToInt(Integer::intValue)),
+                TopK.distinctSmallest(IntStream.of(VALUES).parallel(), Integer.MAX_VALUE));
+        assertEquals(IntList.from(expectedAll.stream().mapToInt(Integer::intValue)),
+                TopK.smallest(IntStream.of(VALUES).parallel(), 1 << 30));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLimitRejected() {
+        TopK.smallest(-1);
+    }
+}
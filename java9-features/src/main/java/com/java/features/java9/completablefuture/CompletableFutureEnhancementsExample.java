@@ -2,8 +2,9 @@ package com.java.features.java9.completablefuture;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -48,6 +49,10 @@ import java.util.concurrent.ThreadLocalRandom;
  * CompletableFuture<String> withDefault = CompletableFuture
  *     .supplyAsync(() -> slowOperation())
  *     .completeOnTimeout("Default", 1, TimeUnit.SECONDS);
+ *
+ * // Run the blocking demo tasks on virtual threads when available (JDK 21+)
+ * CompletableFutureEnhancementsExample example =
+ *     new CompletableFutureEnhancementsExample(ExecutorStrategy.AUTO);
  * ```
  *
  * Benefits:
@@ -62,7 +67,71 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class CompletableFutureEnhancementsExample {
 
-    private final Executor executor = Executors.newFixedThreadPool(3);
+    private static final int DEFAULT_POOL_SIZE = 3;
+
+    private final ExecutorService executor;
+
+    /**
+     * How the blocking demo tasks are run.
+     */
+    public enum ExecutorStrategy {
+        /** A fixed pool of 3 platform threads, available on every JDK */
+        FIXED_POOL,
+        /** One virtual thread per task, available on JDK 21 and later */
+        VIRTUAL_THREADS,
+        /** Virtual threads when available, a fixed pool otherwise */
+        AUTO;
+
+        /**
+         * Checks whether virtual threads are available on the running JDK
+         * @return true on JDK 21 and later
+         */
+        public static boolean virtualThreadsSupported() {
+            return virtualThreadFactory() != null;
+        }
+
+        ExecutorService create() {
+            Method factory = virtualThreadFactory();
+            if (this == FIXED_POOL || (this == AUTO && factory == null)) {
+                return Executors.newFixedThreadPool(DEFAULT_POOL_SIZE);
+            }
+            if (factory == null) {
+                throw new UnsupportedOperationException(
+                    "Virtual threads require JDK 21+, running on " + Runtime.version());
+            }
+            try {
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create virtual thread executor", e);
+            }
+        }
+
+        // Looked up reflectively so that this module still compiles for Java 9
+        private static Method virtualThreadFactory() {
+            try {
+                return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Creates an example running on a fixed pool of 3 threads.
+     */
+    public CompletableFutureEnhancementsExample() {
+        this(ExecutorStrategy.FIXED_POOL);
+    }
+
+    /**
+     * Creates an example running its blocking tasks on the given strategy.
+     *
+     * @param strategy How to run the blocking demo tasks
+     * @throws UnsupportedOperationException If virtual threads are requested before JDK 21
+     */
+    public CompletableFutureEnhancementsExample(ExecutorStrategy strategy) {
+        this.executor = strategy.create();
+    }
 
     /**
      * Demonstrates new factory methods in Java 9.
@@ -295,9 +364,16 @@ public class CompletableFutureEnhancementsExample {
         }
     }
 
+    /**
+     * Shuts down the executor running the blocking demo tasks
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
     public static void main(String[] args) {
         CompletableFutureEnhancementsExample example = 
-            new CompletableFutureEnhancementsExample();
+            new CompletableFutureEnhancementsExample(ExecutorStrategy.AUTO);
 
         example.demonstrateFactoryMethods();
         example.demonstrateTimeoutMethods();
@@ -305,5 +381,6 @@ public class CompletableFutureEnhancementsExample {
         example.demonstrateCopyAndDependentFutures();
         example.demonstrateErrorHandling();
         example.demonstrateCombiningFutures();
+        example.shutdown();
     }
 }
@@ -1,6 +1,7 @@
 package com.java.features.java9.stream;
 
 import java.util.List;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.Collectors;
 import java.util.Optional;
@@ -158,13 +159,19 @@ public class StreamEnhancementsExample {
             .forEach(System.out::println);
         
         // Example 2: Generate fibonacci sequence
+        // The previous value lives in one array shared by all steps, instead
+        // of allocating a new pair per step, and LongStream avoids boxing
         System.out.println("\nFibonacci sequence up to 100:");
-        Stream.iterate(
-            new int[]{0, 1},
-            fib -> fib[1] <= 100,
-            fib -> new int[]{fib[1], fib[0] + fib[1]}
+        long[] previous = {1};
+        LongStream.iterate(
+            0,
+            fib -> fib <= 100,
+            fib -> {
+                long next = fib + previous[0];
+                previous[0] = fib;
+                return next;
+            }
         )
-        .map(fib -> fib[0])
         .forEach(n -> System.out.print(n + " "));
     }
 